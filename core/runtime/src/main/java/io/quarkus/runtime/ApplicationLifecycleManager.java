@@ -3,6 +3,7 @@
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.function.BiConsumer;
@@ -18,6 +19,7 @@
 import jakarta.enterprise.inject.spi.CDI;
 
 import org.jboss.logging.Logger;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.handlers.AsyncHandler;
 import org.wildfly.common.lock.Locks;
 
@@ -25,6 +27,7 @@
 import io.quarkus.bootstrap.runner.RunnerClassLoader;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.graal.DiagnosticPrinter;
+import io.quarkus.runtime.logging.RingBufferAsyncHandler;
 import io.quarkus.runtime.util.ExceptionUtil;
 import io.quarkus.runtime.util.StringUtil;
 import io.smallrye.config.ConfigValidationException;
@@ -240,10 +243,10 @@ public static void run(Application application, Class<? extends QuarkusApplicati
 
     // this is needed only when async console logging is enabled
     private static void ensureConsoleLogsDrained() {
-        AsyncHandler asyncHandler = null;
+        ExtHandler asyncHandler = null;
         for (Handler handler : InitialConfigurator.DELAYED_HANDLER.getHandlers()) {
-            if (handler instanceof AsyncHandler) {
-                asyncHandler = (AsyncHandler) handler;
+            if (handler instanceof AsyncHandler || handler instanceof RingBufferAsyncHandler) {
+                asyncHandler = (ExtHandler) handler;
                 Handler[] nestedHandlers = asyncHandler.getHandlers();
                 boolean foundNestedConsoleHandler = false;
                 for (Handler nestedHandler : nestedHandlers) {
@@ -260,7 +263,19 @@ private static void ensureConsoleLogsDrained() {
                 break;
             }
         }
-        if (asyncHandler != null) {
+        if (asyncHandler instanceof RingBufferAsyncHandler) {
+            // the ring buffer exposes its depth, so we only wait for the queued records
+            RingBufferAsyncHandler ringBufferHandler = (RingBufferAsyncHandler) asyncHandler;
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+            while (ringBufferHandler.getQueueDepth() > 0 && System.nanoTime() < deadline) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        } else if (asyncHandler != null) {
             try {
                 // all we can do is wait because the thread that takes records off the queue is a daemon thread and there is no way to interact with its lifecycle
                 Thread.sleep(200);
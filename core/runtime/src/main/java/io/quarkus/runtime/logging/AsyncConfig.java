@@ -1,5 +1,7 @@
 package io.quarkus.runtime.logging;
 
+import java.util.OptionalInt;
+
 import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -24,4 +26,25 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * Indicates whether to use a lock-free ring buffer instead of a blocking queue.
+     * <p>
+     * The ring buffer avoids the contention on the queue when many threads log concurrently. The queue length is
+     * rounded up to the next power of two. The number of queued and dropped log records is published if the logging
+     * metrics are enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean ringBuffer;
+
+    /**
+     * If set and the overflow action is {@code block}, only one out of every {@code N} log records that do not fit in
+     * the ring buffer blocks the publisher until it can be queued. The other records are discarded, so that a full ring
+     * buffer rarely blocks the publishers. With the {@code discard} overflow action the publishers are never blocked and
+     * this setting is ignored.
+     * <p>
+     * Only used if the ring buffer is enabled.
+     */
+    @ConfigItem
+    OptionalInt overflowSampleRate;
 }
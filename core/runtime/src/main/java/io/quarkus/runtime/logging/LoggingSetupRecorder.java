@@ -28,6 +28,7 @@
 import java.util.logging.LogRecord;
 
 import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.LogContextInitializer;
 import org.jboss.logmanager.Logger;
@@ -742,7 +743,14 @@ private static Handler configureSyslogHandler(final SyslogConfig config, final E
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.ringBuffer) {
+            final RingBufferAsyncHandler asyncHandler = new RingBufferAsyncHandler(asyncConfig.queueLength,
+                    asyncConfig.overflow, asyncConfig.overflowSampleRate.orElse(0));
+            asyncHandler.addHandler(handler);
+            asyncHandler.setLevel(level);
+            return asyncHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
@@ -0,0 +1,250 @@
+package io.quarkus.runtime.logging;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler backed by a lock-free multi-producer single-consumer ring buffer.
+ * <p>
+ * Unlike the {@link org.jboss.logmanager.handlers.AsyncHandler}, the publishers do not contend on a lock: a slot is
+ * claimed with a single CAS and handed over to the consumer thread through its sequence number. When the ring buffer
+ * is full, the record is either discarded, or the publisher waits until a slot is released. A discarding publisher
+ * never waits. With a sample rate, a blocking publisher only waits for one out of every {@code N} records that do not
+ * fit, and the others are discarded.
+ * <p>
+ * The number of queued and dropped records is exposed through {@link #getQueueDepth()} and
+ * {@link #getDroppedRecords()}, and aggregated over all the open handlers for the logging metrics.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final Set<RingBufferAsyncHandler> HANDLERS = ConcurrentHashMap.newKeySet();
+    private static final LongAdder TOTAL_DROPPED = new LongAdder();
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final ExtLogRecord[] records;
+    // the slot at index i is free for the position p if its sequence is p, and holds the record at p if it is p + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // only written by the consumer thread
+    private volatile long head;
+
+    private final OverflowAction overflowAction;
+    private final int sampleRate;
+    private final AtomicLong overflows = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    private final Thread thread;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+
+    /**
+     * @param queueLength the minimum number of records that can be queued, rounded up to the next power of two
+     * @param overflowAction the action to take when the ring buffer is full
+     * @param sampleRate if positive and the publishers are blocked on overflow, only one out of every
+     *        {@code sampleRate} records that do not fit blocks the publisher, the others are discarded
+     */
+    public RingBufferAsyncHandler(int queueLength, OverflowAction overflowAction, int sampleRate) {
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("The queue length must be positive: " + queueLength);
+        }
+        int capacity = queueLength == 1 ? 1 : Integer.highestOneBit(queueLength - 1) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The queue length is too large: " + queueLength);
+        }
+        this.records = new ExtLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.overflowAction = overflowAction;
+        this.sampleRate = overflowAction == OverflowAction.BLOCK ? Math.max(sampleRate, 0) : 0;
+        this.thread = new Thread(this::run, "ring-buffer-async-log-handler");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        HANDLERS.add(this);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (Thread.currentThread() == thread) {
+            // A nested handler is logging, waiting for a free slot could block forever
+            publishToNestedHandlers(record);
+            return;
+        }
+        if (closed) {
+            drop();
+            return;
+        }
+        // The record is read by another thread
+        record.copyAll();
+        if (!offer(record)) {
+            if (overflowAction == OverflowAction.DISCARD
+                    || (sampleRate > 0 && overflows.incrementAndGet() % sampleRate != 0)) {
+                // Never block a discarding publisher, it may be an event loop
+                drop();
+                return;
+            }
+            do {
+                if (closed || Thread.currentThread().isInterrupted()) {
+                    drop();
+                    return;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            } while (!offer(record));
+        }
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Waits until the queued records are published and closes the nested handlers.
+     */
+    @Override
+    public void close() throws SecurityException {
+        checkAccess();
+        closed = true;
+        HANDLERS.remove(this);
+        if (Thread.currentThread() != thread) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(CLOSE_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        super.close();
+    }
+
+    /**
+     * @return the number of slots of the ring buffer
+     */
+    public int getCapacity() {
+        return records.length;
+    }
+
+    /**
+     * @return the number of records waiting to be published, including the one being published
+     */
+    public int getQueueDepth() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * @return the number of records discarded since this handler was created
+     */
+    public long getDroppedRecords() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of records waiting to be published by all the open handlers
+     */
+    static long totalQueueDepth() {
+        long depth = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            depth += handler.getQueueDepth();
+        }
+        return depth;
+    }
+
+    /**
+     * @return the number of records discarded by all the handlers
+     */
+    static long totalDroppedRecords() {
+        return TOTAL_DROPPED.sum();
+    }
+
+    private void drop() {
+        dropped.increment();
+        TOTAL_DROPPED.increment();
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) pos & mask;
+            long seq = sequences.get(index);
+            if (seq == pos) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    records[index] = record;
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (seq < pos) {
+                // The slot still holds the record published one lap ago
+                return false;
+            } else {
+                // Another publisher claimed the slot
+                pos = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the record at the head and releases its slot. The head is only advanced once the record is published, see
+     * {@link #run()}, so that the queue depth does not drop to zero before the last record is written.
+     */
+    private ExtLogRecord poll() {
+        long pos = head;
+        int index = (int) pos & mask;
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        ExtLogRecord record = records[index];
+        records[index] = null;
+        sequences.set(index, pos + records.length);
+        return record;
+    }
+
+    private boolean isEmpty() {
+        long pos = head;
+        return sequences.get((int) pos & mask) != pos + 1;
+    }
+
+    private void run() {
+        for (;;) {
+            ExtLogRecord record = poll();
+            if (record != null) {
+                try {
+                    publishToNestedHandlers(record);
+                } catch (Throwable t) {
+                    reportError("Failed to publish the log record", t instanceof Exception ? (Exception) t : null,
+                            ErrorManager.WRITE_FAILURE);
+                } finally {
+                    head = head + 1;
+                }
+                continue;
+            }
+            if (closed) {
+                if (tail.get() == head) {
+                    return;
+                }
+                // A publisher claimed a slot but did not fill it yet
+                Thread.onSpinWait();
+                continue;
+            }
+            waiting = true;
+            if (isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            waiting = false;
+        }
+    }
+}
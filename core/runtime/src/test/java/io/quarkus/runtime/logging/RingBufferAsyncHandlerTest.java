@@ -0,0 +1,188 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void shouldPublishAllRecordsInOrder() throws InterruptedException {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16, OverflowAction.BLOCK, 0);
+        handler.addHandler(recording);
+        assertEquals(16, handler.getCapacity());
+
+        int threads = 4;
+        int perThread = 1000;
+        List<Thread> publishers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String prefix = t + ":";
+            Thread publisher = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    handler.publish(record(prefix + i));
+                }
+            });
+            publishers.add(publisher);
+            publisher.start();
+        }
+        for (Thread publisher : publishers) {
+            publisher.join();
+        }
+        handler.close();
+
+        assertEquals(threads * perThread, recording.messages.size());
+        assertEquals(0, handler.getDroppedRecords());
+        int[] next = new int[threads];
+        for (String message : recording.messages) {
+            int separator = message.indexOf(':');
+            int t = Integer.parseInt(message.substring(0, separator));
+            assertEquals(next[t]++, Integer.parseInt(message.substring(separator + 1)));
+        }
+    }
+
+    @Test
+    public void shouldDiscardWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(3, OverflowAction.DISCARD, 0);
+        handler.addHandler(recording);
+        assertEquals(4, handler.getCapacity());
+
+        handler.publish(record("0"));
+        assertTrue(recording.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 10; i++) {
+            handler.publish(record(Integer.toString(i)));
+        }
+        // the queued records and the one being published
+        assertEquals(5, handler.getQueueDepth());
+        assertEquals(5, handler.getDroppedRecords());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("0", "1", "2", "3", "4"), recording.messages);
+        assertEquals(0, handler.getQueueDepth());
+    }
+
+    @Test
+    public void shouldNotBlockWhenDiscardingSampledRecords() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        // the sample rate only applies to the blocking publishers
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(2, OverflowAction.DISCARD, 2);
+        handler.addHandler(recording);
+
+        handler.publish(record("0"));
+        assertTrue(recording.blocked.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < 5; i++) {
+            handler.publish(record(Integer.toString(i)));
+        }
+        assertEquals(2, handler.getDroppedRecords());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("0", "1", "2"), recording.messages);
+    }
+
+    @Test
+    public void shouldBlockForSampledRecordsWhenFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(2, OverflowAction.BLOCK, 2);
+        handler.addHandler(recording);
+
+        handler.publish(record("0"));
+        assertTrue(recording.blocked.await(5, TimeUnit.SECONDS));
+        handler.publish(record("1"));
+        handler.publish(record("2"));
+        // the first overflowing record is discarded, the second one waits for a free slot
+        handler.publish(record("3"));
+        Thread publisher = new Thread(() -> handler.publish(record("4")));
+        publisher.start();
+        publisher.join(100);
+        assertTrue(publisher.isAlive());
+
+        release.countDown();
+        publisher.join();
+        handler.close();
+        assertEquals(List.of("0", "1", "2", "4"), recording.messages);
+        assertEquals(1, handler.getDroppedRecords());
+    }
+
+    @Test
+    public void shouldCountRecordBeingPublished() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler(release);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4, OverflowAction.BLOCK, 0);
+        handler.addHandler(recording);
+
+        handler.publish(record("0"));
+        assertTrue(recording.blocked.await(5, TimeUnit.SECONDS));
+        // the record was taken from the ring buffer but is not written yet
+        assertEquals(1, handler.getQueueDepth());
+
+        release.countDown();
+        handler.close();
+        assertEquals(0, handler.getQueueDepth());
+    }
+
+    @Test
+    public void shouldDiscardAfterClose() {
+        RecordingHandler recording = new RecordingHandler(null);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4, OverflowAction.BLOCK, 0);
+        handler.addHandler(recording);
+        handler.close();
+
+        handler.publish(record("0"));
+        assertTrue(recording.messages.isEmpty());
+        assertEquals(1, handler.getDroppedRecords());
+    }
+
+    private static ExtLogRecord record(String message) {
+        return new ExtLogRecord(Level.INFO, message, RingBufferAsyncHandlerTest.class.getName());
+    }
+
+    static class RecordingHandler extends Handler {
+
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -193,6 +193,17 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "false")
     public boolean strictCompatibility;
 
+    /**
+     * If set to {@code true}, the states of the current contexts, such as the request context, are bound to a
+     * {@code java.lang.ScopedValue} in each task executed on a virtual thread. A lookup of a {@code @RequestScoped} bean on a
+     * virtual thread then reads the bound state instead of a thread-local variable or a Vert.x context local.
+     * <p>
+     * {@code ScopedValue} requires JDK 21 or newer. If it is not available, a warning is logged and the current contexts
+     * are not bound.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean scopedValueContexts;
+
     /**
      * Dev mode configuration.
      */
@@ -7,6 +7,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -21,6 +22,7 @@
 import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.ScopedValueCurrentContextFactory;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
 import io.quarkus.runtime.ApplicationLifecycleManager;
 import io.quarkus.runtime.LaunchMode;
@@ -29,6 +31,7 @@
 import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.test.TestApplicationClassPredicate;
 
 @Recorder
@@ -36,15 +39,28 @@ public class ArcRecorder {
 
     private static final Logger LOG = Logger.getLogger(ArcRecorder.class);
 
+    static final String REQUEST_CONTEXT_DESTROYED_METRIC_NAME = "arc.request.context.destroyed";
+
+    static final String REQUEST_CONTEXT_DESTROYED_METRIC_DESCRIPTION = "Number of destroyed request contexts, tagged with whether any request scoped bean instance was created while the context was active.";
+
     /**
      * Used to hold the Supplier instances used for synthetic bean declarations.
      */
     public static volatile Map<String, Function<SyntheticCreationalContext<?>, ?>> syntheticBeanProviders;
 
     public ArcContainer initContainer(ShutdownContext shutdown, RuntimeValue<CurrentContextFactory> currentContextFactory,
-            boolean strictCompatibility) throws Exception {
+            boolean strictCompatibility, boolean scopedValueContexts) throws Exception {
         ArcInitConfig.Builder builder = ArcInitConfig.builder();
-        builder.setCurrentContextFactory(currentContextFactory != null ? currentContextFactory.getValue() : null);
+        CurrentContextFactory factory = currentContextFactory != null ? currentContextFactory.getValue() : null;
+        if (scopedValueContexts) {
+            if (ScopedValueCurrentContextFactory.isSupported()) {
+                factory = new ScopedValueCurrentContextFactory(factory);
+            } else {
+                LOG.warn("quarkus.arc.scoped-value-contexts is enabled but java.lang.ScopedValue is not available in the "
+                        + "current JVM; the current contexts are not bound to a scoped value");
+            }
+        }
+        builder.setCurrentContextFactory(factory);
         builder.setStrictCompatibility(strictCompatibility);
         ArcContainer container = Arc.initialize(builder.build());
         shutdown.addShutdownTask(new Runnable() {
@@ -141,6 +157,31 @@ public Object apply(SyntheticCreationalContext<?> t) {
         };
     }
 
+    public Consumer<MetricsFactory> registerRequestContextMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                registerRequestContextCounter(metricsFactory, false);
+                registerRequestContextCounter(metricsFactory, true);
+            }
+        };
+    }
+
+    private static void registerRequestContextCounter(MetricsFactory metricsFactory, boolean withBeanInstances) {
+        metricsFactory.builder(REQUEST_CONTEXT_DESTROYED_METRIC_NAME)
+                .description(REQUEST_CONTEXT_DESTROYED_METRIC_DESCRIPTION)
+                .tag("bean-instances", String.valueOf(withBeanInstances))
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        ArcContainer container = Arc.container();
+                        return container instanceof ArcContainerImpl
+                                ? ((ArcContainerImpl) container).getDestroyedRequestContextsCount(withBeanInstances)
+                                : 0;
+                    }
+                });
+    }
+
     public void initTestApplicationClassPredicate(Set<String> applicationBeanClasses) {
         PreloadedTestApplicationClassPredicate predicate = Arc.container()
                 .instance(PreloadedTestApplicationClassPredicate.class).get();
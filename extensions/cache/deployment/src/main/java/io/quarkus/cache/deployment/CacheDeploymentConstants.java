@@ -1,20 +1,28 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.cache.BulkCacheResult;
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheKey;
 import io.quarkus.cache.CacheName;
 import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheValueCodec;
+import io.quarkus.cache.runtime.BulkCacheResultInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public class CacheDeploymentConstants {
 
@@ -25,14 +33,17 @@ public class CacheDeploymentConstants {
     public static final DotName CACHE_INVALIDATE = dotName(CacheInvalidate.class);
     public static final DotName CACHE_INVALIDATE_LIST = dotName(CacheInvalidate.List.class);
     public static final DotName CACHE_RESULT = dotName(CacheResult.class);
+    public static final DotName BULK_CACHE_RESULT = dotName(BulkCacheResult.class);
     public static final DotName CACHE_KEY = dotName(CacheKey.class);
-    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, CACHE_INVALIDATE,
+    public static final List<DotName> INTERCEPTOR_BINDINGS = Arrays.asList(CACHE_RESULT, BULK_CACHE_RESULT, CACHE_INVALIDATE,
             CACHE_INVALIDATE_ALL);
     public static final List<DotName> INTERCEPTOR_BINDING_CONTAINERS = Arrays.asList(CACHE_INVALIDATE_LIST,
             CACHE_INVALIDATE_ALL_LIST);
     public static final List<DotName> INTERCEPTORS = Arrays.asList(dotName(CacheInvalidateAllInterceptor.class),
-            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class));
+            dotName(CacheInvalidateInterceptor.class), dotName(CacheResultInterceptor.class),
+            dotName(BulkCacheResultInterceptor.class));
     public static final DotName CACHE_KEY_PARAMETER_POSITIONS = dotName(CacheKeyParameterPositions.class);
+    public static final DotName CACHE_VALUE_CODEC = dotName(CacheValueCodec.class);
 
     // MicroProfile REST Client.
     public static final DotName REGISTER_REST_CLIENT = DotName
@@ -40,6 +51,13 @@ public class CacheDeploymentConstants {
 
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
+    public static final DotName UNI = dotName(Uni.class);
+
+    // JDK types allowed in the @BulkCacheResult method signatures.
+    public static final List<DotName> BULK_KEYS_TYPES = Arrays.asList(dotName(Collection.class), dotName(List.class),
+            dotName(Set.class));
+    public static final DotName MAP = dotName(Map.class);
+    public static final DotName COMPLETION_STAGE = dotName(CompletionStage.class);
 
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
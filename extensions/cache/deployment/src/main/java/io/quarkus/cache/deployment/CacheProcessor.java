@@ -1,5 +1,7 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEYS_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,11 +10,15 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_VALUE_CODEC;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +54,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -56,6 +63,7 @@
 import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.cache.deployment.spi.CacheManagerInfoBuildItem;
 import io.quarkus.cache.deployment.spi.CacheTypeBuildItem;
+import io.quarkus.cache.runtime.BulkCacheResultInterceptor;
 import io.quarkus.cache.runtime.CacheBuildConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
@@ -95,6 +103,12 @@ RestClientAnnotationsTransformerBuildItem restClientAnnotationsTransformer() {
         return new RestClientAnnotationsTransformerBuildItem(new RestClientCacheAnnotationsTransformer());
     }
 
+    @BuildStep
+    UnremovableBeanBuildItem unremovableCacheValueCodec() {
+        // The codec used by the off-heap tier is looked up programmatically when the caches are created.
+        return UnremovableBeanBuildItem.beanTypes(CACHE_VALUE_CODEC);
+    }
+
     @BuildStep
     CacheTypeBuildItem type(CacheBuildConfig config) {
         return new CacheTypeBuildItem(
@@ -200,6 +214,9 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                 if (Modifier.isPrivate(methodInfo.flags())) {
                     throwables.add(new PrivateMethodTargetException(methodInfo, binding.name()));
                 }
+                if (BULK_CACHE_RESULT.equals(binding.name())) {
+                    validateBulkCacheResultSignature(methodInfo).ifPresent(throwables::add);
+                }
                 if (CACHE_RESULT.equals(binding.name())) {
                     if (methodInfo.returnType().kind() == Type.Kind.VOID) {
                         throwables.add(new VoidReturnTypeTargetException(methodInfo));
@@ -216,6 +233,28 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private Optional<Throwable> validateBulkCacheResultSignature(MethodInfo methodInfo) {
+        if (methodInfo.hasAnnotation(CACHE_RESULT)) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo, "it is also annotated with @CacheResult"));
+        }
+        if (methodInfo.parametersCount() != 1 || !BULK_KEYS_TYPES.contains(methodInfo.parameterType(0).name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "it must have exactly one parameter of type Collection, List or Set"));
+        }
+        Type returnType = methodInfo.returnType();
+        if (UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name())) {
+            if (returnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return Optional.of(new BulkCacheResultTargetException(methodInfo, "the asynchronous result type is raw"));
+            }
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!MAP.equals(returnType.name())) {
+            return Optional.of(new BulkCacheResultTargetException(methodInfo,
+                    "it must return a Map, a Uni<Map> or a CompletionStage<Map>"));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -287,6 +326,7 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         boolean cacheInvalidate = false;
         boolean cacheResult = false;
         boolean cacheInvalidateAll = false;
+        boolean bulkCacheResult = false;
 
         for (AnnotationInstance registerRestClientAnnotation : combinedIndex.getIndex().getAnnotations(REGISTER_REST_CLIENT)) {
             if (registerRestClientAnnotation.target().kind() == Kind.CLASS) {
@@ -305,6 +345,10 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
                     if (methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL) || methodInfo.hasAnnotation(CACHE_INVALIDATE_ALL_LIST)) {
                         cacheInvalidateAll = true;
                     }
+                    if (methodInfo.hasAnnotation(BULK_CACHE_RESULT)) {
+                        // The keys are always the single method parameter so there's nothing to transform
+                        bulkCacheResult = true;
+                    }
 
                     if (transform) {
                         short[] cacheKeyParameterPositions = getCacheKeyParameterPositions(methodInfo);
@@ -330,6 +374,9 @@ List<BytecodeTransformerBuildItem> enhanceRestClientMethods(CombinedIndexBuildIt
         if (cacheInvalidateAll) {
             unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(CacheInvalidateAllInterceptor.class.getName()));
         }
+        if (bulkCacheResult) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanClassNames(BulkCacheResultInterceptor.class.getName()));
+        }
         return bytecodeTransformers;
     }
 
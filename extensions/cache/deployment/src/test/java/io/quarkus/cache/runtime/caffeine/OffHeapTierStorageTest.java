@@ -0,0 +1,148 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CacheValueCodec;
+
+/**
+ * Tests the block storage of {@link OffHeapTier} without a cache.
+ */
+public class OffHeapTierStorageTest {
+
+    private static final CacheValueCodec CODEC = new CacheValueCodec() {
+
+        @Override
+        public byte[] encode(Object value) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    @Test
+    public void testValuesSpanningSeveralBlocks() {
+        OffHeapTier tier = new OffHeapTier("test", 64 * 1024, CODEC);
+        assertEquals(64 * 1024, tier.getCapacityBytes());
+        String small = "a";
+        String large = value("b", 3 * OffHeapTier.BLOCK_SIZE + 17);
+        tier.put("small", small, Long.MAX_VALUE);
+        tier.put("large", large, Long.MAX_VALUE);
+        tier.put("empty", "", Long.MAX_VALUE);
+        assertEquals(6L * OffHeapTier.BLOCK_SIZE, tier.getUsedBytes());
+
+        assertEquals(small, tier.get("small"));
+        assertEquals(large, tier.get("large"));
+        assertEquals("", tier.remove("empty"));
+        assertNull(tier.get("empty"));
+        assertEquals(2, tier.getSize());
+
+        tier.invalidate("large");
+        assertEquals(OffHeapTier.BLOCK_SIZE, tier.getUsedBytes());
+        tier.beginInvalidation(OffHeapTier.ALL_KEYS);
+        tier.put("small", small, Long.MAX_VALUE);
+        tier.endInvalidation(OffHeapTier.ALL_KEYS);
+        assertEquals(0, tier.getSize());
+        assertEquals(0, tier.getUsedBytes());
+    }
+
+    @Test
+    public void testBlocksAreReused() {
+        OffHeapTier tier = new OffHeapTier("test", 4 * OffHeapTier.BLOCK_SIZE, CODEC);
+        for (int i = 0; i < 1000; i++) {
+            String value = value("v" + i, 2 * OffHeapTier.BLOCK_SIZE);
+            tier.put("key", value, Long.MAX_VALUE);
+            assertEquals(value, tier.get("key"));
+        }
+        assertEquals(1, tier.getSize());
+        assertEquals(2L * OffHeapTier.BLOCK_SIZE, tier.getUsedBytes());
+        assertEquals(0, tier.getEvictionCount());
+    }
+
+    @Test
+    public void testEvictionSkipsRecentlyReadEntries() {
+        int capacity = 8;
+        OffHeapTier tier = new OffHeapTier("test", capacity * OffHeapTier.BLOCK_SIZE, CODEC);
+        for (int i = 0; i < capacity; i++) {
+            tier.put("key-" + i, value("v" + i, 100), Long.MAX_VALUE);
+        }
+        assertNotNull(tier.get("key-0"));
+
+        tier.put("key-" + capacity, value("v" + capacity, 100), Long.MAX_VALUE);
+        assertEquals(capacity, tier.getSize());
+        assertEquals(1, tier.getEvictionCount());
+        assertTrue(tier.keySet().contains("key-0"));
+        assertTrue(tier.keySet().contains("key-" + capacity));
+    }
+
+    @Test
+    public void testValuesThatDoNotFitAreDropped() {
+        OffHeapTier tier = new OffHeapTier("test", 2 * OffHeapTier.BLOCK_SIZE, CODEC);
+        tier.put("key", value("v", 3 * OffHeapTier.BLOCK_SIZE), Long.MAX_VALUE);
+        assertEquals(0, tier.getSize());
+        assertEquals(0, tier.getUsedBytes());
+        // Expired values are dropped as well
+        tier.put("key", "v", 0);
+        assertEquals(0, tier.getSize());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        OffHeapTier tier = new OffHeapTier("test", 32 * OffHeapTier.BLOCK_SIZE, CODEC);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        String key = "key-" + random.nextInt(64);
+                        switch (random.nextInt(4)) {
+                            case 0:
+                                tier.put(key, value(key, random.nextInt(2 * OffHeapTier.BLOCK_SIZE)), Long.MAX_VALUE);
+                                break;
+                            case 1:
+                                tier.invalidate(key);
+                                break;
+                            default:
+                                Object value = random.nextBoolean() ? tier.get(key) : tier.remove(key);
+                                // A value is never read from blocks reused by another entry
+                                assertTrue(value == null || value.toString().startsWith(key + ":"), () -> key + "=" + value);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        tier.beginInvalidation(OffHeapTier.ALL_KEYS);
+        tier.endInvalidation(OffHeapTier.ALL_KEYS);
+        assertEquals(0, tier.getUsedBytes());
+    }
+
+    private static String value(String prefix, int length) {
+        StringBuilder builder = new StringBuilder(prefix).append(':');
+        while (builder.length() < length) {
+            builder.append('x');
+        }
+        return builder.toString();
+    }
+}
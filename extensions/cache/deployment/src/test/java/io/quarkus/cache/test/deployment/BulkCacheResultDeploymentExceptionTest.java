@@ -0,0 +1,80 @@
+package io.quarkus.cache.test.deployment;
+
+import static java.util.Arrays.stream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.BulkCacheResult;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the validation of the signature of the methods annotated with {@link BulkCacheResult}.
+ */
+public class BulkCacheResultDeploymentExceptionTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClass(TestBean.class))
+            .assertException(t -> {
+                assertEquals(DeploymentException.class, t.getClass());
+                assertEquals(4, t.getSuppressed().length);
+                assertEquals(4, stream(t.getSuppressed()).filter(BulkCacheResultTargetException.class::isInstance)
+                        .map(BulkCacheResultTargetException.class::cast)
+                        .filter(e -> e.getMethodInfo().name().startsWith("invalid")).count());
+            });
+
+    @Test
+    public void shouldNotBeInvoked() {
+        fail("This method should not be invoked");
+    }
+
+    @ApplicationScoped
+    static class TestBean {
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<String, String> valid(Set<String> keys) {
+            return null;
+        }
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Uni<Map<String, String>> validUni(List<String> keys) {
+            return null;
+        }
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<String, String> invalidParameterType(String key) {
+            return null;
+        }
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<String, String> invalidParametersCount(List<String> keys, String other) {
+            return null;
+        }
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public List<String> invalidReturnType(List<String> keys) {
+            return null;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<String, String> invalidCombination(List<String> keys) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.BulkCacheResult;
+import io.quarkus.cache.CacheInvalidate;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link BulkCacheResult} annotation: only the keys missing from the cache must be passed to the cached method.
+ */
+public class BulkCacheResultTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+    private static final String ASYNC_CACHE_NAME = "async-bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testBulkCacheResult() {
+        Map<Long, String> result1 = cachedService.findByIds(List.of(1L, 2L, 3L));
+        assertEquals(Map.of(1L, "value-1", 2L, "value-2", 3L, "value-3"), result1);
+        assertEquals(List.of(List.of(1L, 2L, 3L)), cachedService.getInvocations());
+
+        // Only the missing keys are loaded, the result follows the order of the argument.
+        Map<Long, String> result2 = cachedService.findByIds(List.of(4L, 2L, 1L));
+        assertEquals(List.of(4L, 2L, 1L), new ArrayList<>(result2.keySet()));
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L)), cachedService.getInvocations());
+
+        // Nothing is loaded when all the keys are cached.
+        cachedService.findByIds(List.of(3L, 4L));
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // The keys the method does not return a value for are not cached.
+        Map<Long, String> result3 = cachedService.findByIds(List.of(1L, 42L));
+        assertEquals(Map.of(1L, "value-1"), result3);
+        assertFalse(result3.containsKey(42L));
+        cachedService.findByIds(List.of(42L));
+        assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L), List.of(42L), List.of(42L)), cachedService.getInvocations());
+
+        // Entries cached in bulk can be invalidated one by one.
+        cachedService.invalidate(2L);
+        cachedService.findByIds(List.of(1L, 2L));
+        List<List<Long>> invocations = cachedService.getInvocations();
+        assertEquals(List.of(2L), invocations.get(invocations.size() - 1));
+    }
+
+    @Test
+    public void testUniBulkCacheResult() {
+        Map<Long, String> result1 = cachedService.findByIdsAsync(List.of(1L, 2L)).await().indefinitely();
+        assertEquals(Map.of(1L, "value-1", 2L, "value-2"), result1);
+        Map<Long, String> result2 = cachedService.findByIdsAsync(List.of(2L, 3L)).await().indefinitely();
+        assertEquals(Map.of(2L, "value-2", 3L, "value-3"), result2);
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), cachedService.getAsyncInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<List<Long>> invocations = new ArrayList<>();
+        private final List<List<Long>> asyncInvocations = new ArrayList<>();
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<Long, String> findByIds(List<Long> ids) {
+            invocations.add(List.copyOf(ids));
+            return load(ids);
+        }
+
+        @BulkCacheResult(cacheName = ASYNC_CACHE_NAME)
+        public Uni<Map<Long, String>> findByIdsAsync(List<Long> ids) {
+            asyncInvocations.add(List.copyOf(ids));
+            return Uni.createFrom().item(load(ids));
+        }
+
+        @CacheInvalidate(cacheName = CACHE_NAME)
+        public void invalidate(Long id) {
+        }
+
+        public List<List<Long>> getInvocations() {
+            return invocations;
+        }
+
+        public List<List<Long>> getAsyncInvocations() {
+            return asyncInvocations;
+        }
+
+        private static Map<Long, String> load(List<Long> ids) {
+            Map<Long, String> result = new HashMap<>();
+            for (Long id : ids) {
+                if (id != 42L) {
+                    result.put(id, "value-" + id);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.OffHeapTier;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that a value moved off-heap keeps its {@code expire-after-write} deadline and that an invalidation removes it from
+ * both tiers.
+ */
+public class OffHeapTierExpirationTest {
+
+    private static final String CACHE_NAME = "off-heap-expiration-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-size", "1")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".expire-after-write", "2S")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".off-heap-maximum-size", "1M");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testExpirationAndInvalidation() throws InterruptedException {
+        OffHeapTier offHeapTier = cache.as(CaffeineCacheImpl.class).getOffHeapTier();
+
+        long written1 = System.nanoTime();
+        assertEquals("value-1", cachedService.cachedMethod("key-1"));
+        Thread.sleep(1000L);
+        long written2 = System.nanoTime();
+        assertEquals("value-2", cachedService.cachedMethod("key-2"));
+        awaitOffHeapSize(offHeapTier, 1);
+
+        // Caffeine decides which of the two keys is evicted
+        String offHeapKey = (String) offHeapTier.keySet().iterator().next();
+        long written = offHeapKey.equals("key-1") ? written1 : written2;
+        String offHeapValue = offHeapKey.replace("key", "value");
+
+        // The value is served from the off-heap tier and stays there
+        assertEquals(offHeapValue, cachedService.cachedMethod(offHeapKey));
+        assertEquals(2, cachedService.getInvocations());
+        assertEquals(1, offHeapTier.getSize());
+
+        // The value expires two seconds after it was written, not after it was moved off-heap
+        long remainingMillis = 2200L - (System.nanoTime() - written) / 1_000_000L;
+        if (remainingMillis > 0) {
+            Thread.sleep(remainingMillis);
+        }
+        assertEquals(offHeapValue, cachedService.cachedMethod(offHeapKey));
+        assertEquals(3, cachedService.getInvocations());
+
+        // An invalidation removes the value from both tiers
+        assertEquals("value-3", cachedService.cachedMethod("key-3"));
+        awaitOffHeapSize(offHeapTier, 1);
+        for (Object key : offHeapTier.keySet()) {
+            cache.invalidate(key).await().indefinitely();
+            assertNull(cache.as(CaffeineCacheImpl.class).getIfPresent(key));
+        }
+        assertEquals(0, offHeapTier.getSize());
+    }
+
+    private static void awaitOffHeapSize(OffHeapTier offHeapTier, long size) throws InterruptedException {
+        // Caffeine evicts entries asynchronously.
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (offHeapTier.getSize() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(size, offHeapTier.getSize());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return key.replace("key", "value");
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.OffHeapTier;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests that the values evicted from the heap because of the {@code maximum-size} limit are moved to the off-heap tier and
+ * served from there without being computed again.
+ */
+public class OffHeapTierTest {
+
+    private static final String CACHE_NAME = "off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".maximum-size", "1")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".off-heap-maximum-size", "1M");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testEvictedValuesAreServedFromOffHeap() throws InterruptedException {
+        OffHeapTier offHeapTier = cache.as(CaffeineCacheImpl.class).getOffHeapTier();
+        assertNotNull(offHeapTier);
+
+        assertEquals("value-1", cachedService.cachedMethod("key-1"));
+        assertEquals("value-2", cachedService.cachedMethod("key-2"));
+        assertEquals(2, cachedService.getInvocations());
+
+        // Caffeine evicts entries asynchronously.
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (offHeapTier.getSize() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(1, offHeapTier.getSize());
+        assertTrue(offHeapTier.getUsedBytes() > 0);
+
+        // Both keys are still served without invoking the method again, whichever of them was moved off-heap.
+        assertEquals("value-1", cachedService.cachedMethod("key-1"));
+        assertEquals("value-2", cachedService.cachedMethod("key-2"));
+        assertEquals(2, cachedService.getInvocations());
+        assertTrue(offHeapTier.getHitCount() >= 1);
+
+        cache.invalidateAll().await().indefinitely();
+        assertEquals(0, offHeapTier.getSize());
+        assertNull(cache.as(CaffeineCacheImpl.class).getIfPresent("key-1"));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            invocations.incrementAndGet();
+            return key.replace("key", "value");
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
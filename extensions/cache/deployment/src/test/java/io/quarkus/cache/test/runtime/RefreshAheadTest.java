@@ -0,0 +1,108 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests that the stale values of asynchronous loaders are served while they are refreshed, and that the values of
+ * synchronous loaders are not refreshed.
+ */
+public class RefreshAheadTest {
+
+    private static final String CACHE_NAME = "refresh-cache";
+    private static final String ASYNC_CACHE_NAME = "async-refresh-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.refresh-after-write", "1S")
+            .overrideConfigKey("quarkus.cache.caffeine.expire-after-write", "1M");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(ASYNC_CACHE_NAME)
+    Cache asyncCache;
+
+    @Test
+    public void testSyncValueIsNotRefreshed() throws InterruptedException {
+        CacheRefresher refresher = cache.as(CaffeineCacheImpl.class).getRefresher();
+        assertNotNull(refresher);
+
+        assertEquals("value-1", cachedService.cachedMethod("key"));
+        Thread.sleep(1100L);
+        // The synchronous method is never invoked in the background
+        assertEquals("value-1", cachedService.cachedMethod("key"));
+        Thread.sleep(100L);
+        assertEquals(1, cachedService.getInvocations());
+        assertEquals(0, refresher.getStaleHitCount());
+        assertEquals(0, refresher.getRefreshSuccessCount());
+    }
+
+    @Test
+    public void testStaleAsyncValueIsServedWhileRefreshed() throws InterruptedException {
+        CacheRefresher refresher = asyncCache.as(CaffeineCacheImpl.class).getRefresher();
+        assertNotNull(refresher);
+
+        assertEquals("async-value-1", cachedService.asyncCachedMethod("key").await().indefinitely());
+        // Fresh value
+        assertEquals("async-value-1", cachedService.asyncCachedMethod("key").await().indefinitely());
+
+        Thread.sleep(1100L);
+        // The stale value is returned immediately and the refresh is done in the background
+        assertEquals("async-value-1", cachedService.asyncCachedMethod("key").await().indefinitely());
+        awaitRefreshes(refresher, 1);
+        assertEquals("async-value-2", cachedService.asyncCachedMethod("key").await().indefinitely());
+        assertTrue(refresher.getStaleHitCount() >= 1);
+        assertEquals(0, refresher.getRefreshFailureCount());
+    }
+
+    private static void awaitRefreshes(CacheRefresher refresher, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (refresher.getRefreshSuccessCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, refresher.getRefreshSuccessCount());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger asyncInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return "value-" + invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME)
+        public Uni<String> asyncCachedMethod(String key) {
+            return Uni.createFrom().item(() -> "async-value-" + asyncInvocations.incrementAndGet());
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
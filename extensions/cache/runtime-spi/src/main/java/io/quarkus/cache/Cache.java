@@ -1,5 +1,8 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -55,6 +58,26 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valuesLoader} if necessary. The loader is given the set of keys that were not found in the cache and
+     * must return a map containing the values for these keys. The keys that are absent from the map returned by the loader
+     * are not cached and are absent from the emitted map.
+     * <p>
+     * The default implementation loads the missing values one key at a time. The caching providers that support bulk
+     * operations override it to look up all the keys in a single operation and to invoke the loader only once.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values, in the iteration order of {@code keys}
+     * @throws NullPointerException if one of the keys is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return PerKeyBulkLoader.getAll(this, keys, valuesLoader);
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
@@ -0,0 +1,70 @@
+package io.quarkus.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Default implementation of {@link Cache#getAll(Collection, Function)} for the caching providers that do not support bulk
+ * operations: each key is looked up separately and the loader is invoked once per missing key.
+ */
+final class PerKeyBulkLoader {
+
+    // Marks the keys the loader did not return a value for
+    private static final Object MISSING = new Object();
+
+    private PerKeyBulkLoader() {
+    }
+
+    static <K, V> Uni<Map<K, V>> getAll(Cache cache, Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        List<K> orderedKeys = new ArrayList<>(keys);
+        if (orderedKeys.isEmpty()) {
+            return Uni.createFrom().item(new LinkedHashMap<>());
+        }
+        List<Uni<Object>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            values.add(cache.getAsync(key, new Function<K, Uni<Object>>() {
+                @Override
+                public Uni<Object> apply(K k) {
+                    return valuesLoader.apply(Set.of(k)).map(new Function<Map<K, V>, Object>() {
+                        @Override
+                        public Object apply(Map<K, V> loaded) {
+                            if (!loaded.containsKey(k)) {
+                                // Failures are never cached
+                                throw new MissingValueException();
+                            }
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            }).onFailure(MissingValueException.class).recoverWithItem(MISSING));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<Object>, Map<K, V>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Map<K, V> apply(List<Object> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i) != MISSING) {
+                        result.put(orderedKeys.get(i), (V) list.get(i));
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
+    @SuppressWarnings("serial")
+    private static final class MissingValueException extends RuntimeException {
+
+        MissingValueException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkus.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.Nonbinding;
+import jakarta.interceptor.InterceptorBinding;
+
+/**
+ * When a method annotated with {@link BulkCacheResult} is invoked, Quarkus will use each element of the collection passed as
+ * argument as a separate cache key and look up all these keys in the cache at once.
+ * <p>
+ * The annotated method must have exactly one parameter, of type {@link java.util.Collection}, {@link java.util.List} or
+ * {@link java.util.Set}, and it must return a {@link java.util.Map} from the keys to their values, either directly or
+ * wrapped in a {@link io.smallrye.mutiny.Uni} or a {@link java.util.concurrent.CompletionStage}.
+ * <p>
+ * If all the keys are found in the cache, the annotated method is never actually executed. Otherwise, the annotated method is
+ * invoked once with the collection of the missing keys only, and the returned values are stored in the cache. The keys that
+ * are absent from the map returned by the method are not cached. The result contains the cached and the computed values, in
+ * the iteration order of the argument.
+ * <p>
+ * The caching providers that support bulk operations look up all the keys in a single operation. The other ones look up the
+ * keys one by one, and may invoke the annotated method once per missing key.
+ * <p>
+ * This annotation cannot be combined with {@link CacheResult} on a single method.
+ */
+@InterceptorBinding
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BulkCacheResult {
+
+    /**
+     * The name of the cache.
+     */
+    @Nonbinding
+    String cacheName();
+}
@@ -0,0 +1,28 @@
+package io.quarkus.cache;
+
+/**
+ * Converts cache values to bytes and back. It is used by the off-heap tier of the Caffeine caches, which stores values
+ * outside the Java heap.
+ * <p>
+ * An implementation must be a CDI bean, otherwise it is ignored. If no implementation is provided, values are converted
+ * using Java serialization and values that are not {@link java.io.Serializable} are never stored off-heap.
+ */
+public interface CacheValueCodec {
+
+    /**
+     * Converts a cache value to bytes.
+     *
+     * @param value the cache value, never {@code null}
+     * @return the encoded value
+     * @throws RuntimeException if the value cannot be encoded, in which case the value is not stored off-heap
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Converts bytes previously returned by {@link #encode(Object)} back to a cache value.
+     *
+     * @param bytes the encoded value
+     * @return the cache value
+     */
+    Object decode(byte[] bytes);
+}
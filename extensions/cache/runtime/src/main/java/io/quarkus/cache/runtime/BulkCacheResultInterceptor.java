@@ -0,0 +1,97 @@
+package io.quarkus.cache.runtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Priority;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.BulkCacheResult;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheException;
+import io.smallrye.mutiny.Uni;
+
+@BulkCacheResult(cacheName = "") // The `cacheName` attribute is @Nonbinding.
+@Interceptor
+@Priority(CacheInterceptor.BASE_PRIORITY + 2)
+public class BulkCacheResultInterceptor extends CacheInterceptor {
+
+    private static final Logger LOGGER = Logger.getLogger(BulkCacheResultInterceptor.class);
+    private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (BulkCacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
+
+    @SuppressWarnings("unchecked")
+    @AroundInvoke
+    public Object intercept(InvocationContext invocationContext) throws Throwable {
+        CacheInterceptionContext<BulkCacheResult> interceptionContext = getInterceptionContext(invocationContext,
+                BulkCacheResult.class, false);
+
+        if (interceptionContext.getInterceptorBindings().isEmpty()) {
+            // This should never happen.
+            LOGGER.warn(INTERCEPTOR_BINDING_ERROR_MSG);
+            return invocationContext.proceed();
+        }
+
+        BulkCacheResult binding = interceptionContext.getInterceptorBindings().get(0);
+        Cache cache = cacheManager.getCache(binding.cacheName()).get();
+        // The method signature is validated at build time
+        Collection<Object> keys = (Collection<Object>) invocationContext.getParameters()[0];
+        Class<?> keysType = invocationContext.getMethod().getParameterTypes()[0];
+        ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            Uni<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                    new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                        @Override
+                        public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                            // The method is only invoked with the keys that were not found in the cache
+                            Object keysArgument = keysType.isInstance(missingKeys) ? missingKeys
+                                    : new ArrayList<>(missingKeys);
+                            if (returnType == ReturnType.NonAsync) {
+                                // The invocation is delayed until subscription time, the cache may subscribe on a worker thread
+                                return Uni.createFrom().item(new Supplier<Map<Object, Object>>() {
+                                    @Override
+                                    public Map<Object, Object> get() {
+                                        return (Map<Object, Object>) proceed(invocationContext, keysArgument);
+                                    }
+                                });
+                            } else {
+                                return (Uni<Map<Object, Object>>) asyncInvocationResultToUni(
+                                        proceed(invocationContext, keysArgument), returnType);
+                            }
+                        }
+                    });
+
+            if (returnType == ReturnType.NonAsync) {
+                return cacheValues.await().indefinitely();
+            } else {
+                return createAsyncResult((Uni<Object>) (Uni<?>) cacheValues, returnType);
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static Object proceed(InvocationContext invocationContext, Object keysArgument) {
+        try {
+            invocationContext.setParameters(new Object[] { keysArgument });
+            return invocationContext.proceed();
+        } catch (CacheException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new CacheException(e);
+        }
+    }
+}
@@ -11,6 +11,7 @@
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -75,6 +76,32 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be refreshed once a fixed duration has elapsed after the entry's creation, or
+             * the most recent replacement of its value. The first lookup of a stale entry returns the stale value immediately
+             * and triggers a single asynchronous reload of the value, the next lookups return the stale value until the reload
+             * completes. If the reload fails, the stale value is kept until it expires.
+             * <p>
+             * This value should be lower than {@code expire-after-write}, otherwise the entries expire before being refreshed.
+             * The refresh only applies to the entries loaded asynchronously, by methods annotated with {@code @CacheResult}
+             * that return {@code Uni} or {@code CompletionStage}, or through {@link io.quarkus.cache.Cache#getAsync}.
+             * Synchronous loaders are not invoked in the background because they would run outside of the request
+             * context of the caller.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Maximum total size of the off-heap tier, for example {@code 512M}. If set, the entries evicted from the heap
+             * because of the {@code maximum-size} limit are serialized and moved to memory outside the Java heap instead of
+             * being discarded. When a key is not found on the heap, the off-heap tier is checked before the value is computed.
+             * This amount of direct memory is allocated when the cache is created. Once it is full, the off-heap tier evicts
+             * the entries that have not been read recently, and drops the value if it still does not fit.
+             * <p>
+             * Values are serialized with a CDI bean implementing {@link io.quarkus.cache.CacheValueCodec} if one exists,
+             * or with Java serialization otherwise. This setting is ignored if {@code maximum-size} is not set.
+             */
+            Optional<MemorySize> offHeapMaximumSize();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
@@ -0,0 +1,108 @@
+package io.quarkus.cache.runtime;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Reloads in the background the cache values which are older than the {@code refresh-after-write} duration of a cache,
+ * while the stale values keep being served. At most one reload per key runs at a time.
+ * <p>
+ * This class is an internal Quarkus cache class. Do not use it explicitly from your Quarkus application.
+ */
+public class CacheRefresher {
+
+    private static final Logger LOGGER = Logger.getLogger(CacheRefresher.class);
+
+    private final String cacheName;
+    private final long refreshAfterWriteNanos;
+    private final ConcurrentHashMap<Object, Boolean> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder successCount = new LongAdder();
+    private final LongAdder successNanos = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder failureNanos = new LongAdder();
+
+    public CacheRefresher(String cacheName, Duration refreshAfterWrite) {
+        this.cacheName = cacheName;
+        this.refreshAfterWriteNanos = refreshAfterWrite.toNanos();
+    }
+
+    /**
+     * @param ageNanos the time elapsed since the value was written, in nanoseconds
+     * @return {@code true} if a value of this age should be refreshed
+     */
+    public boolean isStale(long ageNanos) {
+        return ageNanos >= refreshAfterWriteNanos;
+    }
+
+    /**
+     * Records that a stale value was served and starts the given reload, unless a reload of the same key is already
+     * running. The reload is responsible for storing the new value into the cache. If it fails, the stale value is kept
+     * until it expires.
+     *
+     * @param key the key of the stale value
+     * @param reload the reload, invoked only if no other reload of the key is running
+     */
+    public void refresh(Object key, Supplier<Uni<?>> reload) {
+        staleHits.increment();
+        if (inFlight.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, cacheName);
+        long start = System.nanoTime();
+        Uni<?> uni;
+        try {
+            uni = reload.get();
+        } catch (Throwable t) {
+            uni = Uni.createFrom().failure(t);
+        }
+        uni.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object ignored) {
+                inFlight.remove(key);
+                successCount.increment();
+                successNanos.add(System.nanoTime() - start);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                inFlight.remove(key);
+                failureCount.increment();
+                failureNanos.add(System.nanoTime() - start);
+                LOGGER.warnf(failure, "Unable to refresh entry with key [%s] in cache [%s], the stale value is kept", key,
+                        cacheName);
+            }
+        });
+    }
+
+    /**
+     * @return the number of times a stale value was served
+     */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
+    public long getRefreshSuccessCount() {
+        return successCount.sum();
+    }
+
+    public double getRefreshSuccessTotalNanos() {
+        return successNanos.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return failureCount.sum();
+    }
+
+    public double getRefreshFailureTotalNanos() {
+        return failureNanos.sum();
+    }
+}
@@ -1,14 +1,23 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -19,12 +28,16 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
+import io.quarkus.cache.CacheValueCodec;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresher;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
@@ -41,13 +54,23 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheImpl.class);
 
+    private static final Duration UNBOUNDED_EXPIRATION = Duration.ofNanos(Long.MAX_VALUE);
+
     final AsyncCache<Object, Object> cache;
 
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    // null if the off-heap tier is disabled
+    private final OffHeapTier offHeapTier;
+    // null if the refresh is disabled
+    private final CacheRefresher refresher;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
+        this(cacheInfo, recordStats, JavaSerializationCacheValueCodec.INSTANCE);
+    }
+
+    public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats, CacheValueCodec offHeapCodec) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
         if (cacheInfo.initialCapacity != null) {
@@ -62,6 +85,10 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null && cacheInfo.expireAfterWrite == null) {
+            // Caffeine only tracks the age of the entries with a write-based expiration policy
+            builder.expireAfterWrite(UNBOUNDED_EXPIRATION);
+        }
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -76,7 +103,27 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
+        if (cacheInfo.offHeapMaximumSize != null && cacheInfo.maximumSize != null) {
+            offHeapTier = new OffHeapTier(cacheInfo.name, cacheInfo.offHeapMaximumSize, offHeapCodec);
+            // The listener is invoked synchronously during the eviction, which guarantees that an invalidation
+            // cannot be followed by a stale value being moved off-heap
+            // The listener of an async cache receives the completed values, not the futures
+            builder.evictionListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object cacheValue, RemovalCause cause) {
+                    if (cause == RemovalCause.SIZE && key != null && cacheValue != null
+                            && !(cacheValue instanceof CaffeineComputationThrowable)
+                            && NullValueConverter.fromCacheValue(cacheValue) != null) {
+                        offHeapTier.put(key, cacheValue, offHeapTimeToLive(key));
+                    }
+                }
+            });
+        } else {
+            offHeapTier = null;
+        }
         cache = builder.buildAsync();
+        refresher = cacheInfo.refreshAfterWrite != null ? new CacheRefresher(cacheInfo.name, cacheInfo.refreshAfterWrite)
+                : null;
     }
 
     @Override
@@ -109,6 +156,23 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                 .completionStage(new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
+                        if (refresher != null) {
+                            CompletableFuture<Object> existingCacheValue = cache.asMap().get(key);
+                            if (existingCacheValue != null) {
+                                refreshIfStale(key, existingCacheValue, new Supplier<Uni<Object>>() {
+                                    @Override
+                                    public Uni<Object> get() {
+                                        return valueLoader.apply(key).map(TO_CACHE_VALUE);
+                                    }
+                                });
+                            }
+                        }
+                        Object offHeapValue = getOffHeapInPlace(key);
+                        if (offHeapValue != null) {
+                            @SuppressWarnings("unchecked")
+                            CompletionStage<V> result = (CompletionStage<V>) CompletableFuture.completedFuture(offHeapValue);
+                            return result;
+                        }
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                         StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
                         @SuppressWarnings("unchecked")
@@ -117,6 +181,10 @@ public CompletionStage<V> get() {
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
+                                        Object offHeapValue = promoteFromOffHeap(key);
+                                        if (offHeapValue != null) {
+                                            return CompletableFuture.completedFuture(offHeapValue);
+                                        }
                                         return valueLoader.apply((K) key)
                                                 .map(TO_CACHE_VALUE)
                                                 .subscribeAsCompletionStage();
@@ -127,55 +195,78 @@ public CompletableFuture<Object> apply(Object key) {
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        Context context = Vertx.currentContext();
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
                     @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
+                    public CompletionStage<Map<K, V>> get() {
+                        Map<Object, Object> offHeapValues = null;
+                        Collection<K> heapKeys = keys;
+                        if (offHeapTier != null && cacheInfo.expireAfterWrite != null) {
+                            heapKeys = new LinkedHashSet<>();
+                            for (K key : keys) {
+                                Object offHeapValue = getOffHeapInPlace(key);
+                                if (offHeapValue != null) {
+                                    if (offHeapValues == null) {
+                                        offHeapValues = new HashMap<>();
+                                    }
+                                    offHeapValues.put(key, offHeapValue);
+                                } else {
+                                    heapKeys.add(key);
+                                }
                             }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                        }
+                        Map<Object, Object> inPlaceValues = offHeapValues;
+                        // The hits and misses of the heap keys are recorded by Caffeine
+                        return cache.getAll(heapKeys, new BulkLoader<>(valuesLoader))
+                                .thenApply(new Function<Map<Object, Object>, Map<K, V>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
+                                    public Map<K, V> apply(Map<Object, Object> cacheValues) {
+                                        Map<K, V> result = new LinkedHashMap<>();
+                                        for (K key : keys) {
+                                            if (cacheValues.containsKey(key)) {
+                                                result.put(key, (V) unwrapCacheValue(cacheValues.get(key)));
+                                            } else if (inPlaceValues != null && inPlaceValues.containsKey(key)) {
+                                                result.put(key, (V) unwrapCacheValue(inPlaceValues.get(key)));
+                                            }
+                                        }
+                                        return result;
                                     }
                                 });
-                            }
-                        }
                     }
-                });
+                })
+                .emitOn(capturedContextExecutor(context));
     }
 
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         CompletableFuture<Object> existingCacheValue = cache.getIfPresent(key);
+        if (existingCacheValue == null && offHeapTier != null) {
+            Object offHeapValue = getOffHeapInPlace(key);
+            if (offHeapValue != null) {
+                existingCacheValue = CompletableFuture.completedFuture(offHeapValue);
+            } else {
+                // Move the value back to the heap atomically, so that a concurrent invalidation cannot be undone
+                existingCacheValue = cache.asMap().computeIfAbsent(key,
+                        new Function<Object, CompletableFuture<Object>>() {
+                            @Override
+                            public CompletableFuture<Object> apply(Object key) {
+                                Object offHeapValue = promoteFromOffHeap(key);
+                                return offHeapValue != null ? CompletableFuture.completedFuture(offHeapValue) : null;
+                            }
+                        });
+            }
+        }
 
         if (existingCacheValue == null) {
             return null;
@@ -210,10 +301,19 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
+        Object offHeapValue = getOffHeapInPlace(key);
+        if (offHeapValue != null) {
+            return unwrapCacheValueOrThrowable(CompletableFuture.completedFuture(offHeapValue));
+        }
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
+            offHeapValue = promoteFromOffHeap(key);
+            if (offHeapValue != null) {
+                newCacheValue.complete(offHeapValue);
+                return unwrapCacheValueOrThrowable(newCacheValue);
+            }
             try {
                 Object value = valueLoader.apply(key);
                 newCacheValue.complete(NullValueConverter.toCacheValue(value));
@@ -225,36 +325,79 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            // The values of a synchronous loader are not refreshed: the loader would have to run in the background,
+            // outside of the request context, security identity and Vert.x context of the caller
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Starts the background reload of the given cache value if it is older than the {@code refresh-after-write} duration.
+     * The reloaded value only replaces the current one if the entry was not modified or invalidated in the meantime.
+     */
+    private void refreshIfStale(Object key, CompletableFuture<Object> cacheValue, Supplier<Uni<Object>> reload) {
+        if (!cacheValue.isDone() || cacheValue.isCompletedExceptionally()
+                || cacheValue.getNow(null) instanceof CaffeineComputationThrowable) {
+            return;
+        }
+        OptionalLong age = cache.synchronous().policy().expireAfterWrite().get().ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty() || !refresher.isStale(age.getAsLong())) {
+            return;
+        }
+        refresher.refresh(key, new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return reload.get().invoke(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object newCacheValue) {
+                        cache.asMap().replace(key, cacheValue, CompletableFuture.completedFuture(newCacheValue));
+                    }
+                });
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
-                }
+                return unwrapCacheValue(value);
             }
         });
     }
 
+    private static Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return NullValueConverter.fromCacheValue(value);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom().item(new Supplier<Void>() {
             @Override
             public Void get() {
-                cache.synchronous().invalidate(key);
+                if (offHeapTier == null) {
+                    cache.synchronous().invalidate(key);
+                } else {
+                    // Both tiers are invalidated atomically, a concurrent lookup cannot move the value back to the heap
+                    cache.asMap().compute(key, new BiFunction<Object, CompletableFuture<Object>, CompletableFuture<Object>>() {
+                        @Override
+                        public CompletableFuture<Object> apply(Object key, CompletableFuture<Object> value) {
+                            offHeapTier.invalidate(key);
+                            return null;
+                        }
+                    });
+                }
                 return null;
             }
         });
@@ -265,7 +408,16 @@ public Uni<Void> invalidateAll() {
         return Uni.createFrom().item(new Supplier<Void>() {
             @Override
             public Void get() {
-                cache.synchronous().invalidateAll();
+                if (offHeapTier == null) {
+                    cache.synchronous().invalidateAll();
+                } else {
+                    offHeapTier.beginInvalidation(OffHeapTier.ALL_KEYS);
+                    try {
+                        cache.synchronous().invalidateAll();
+                    } finally {
+                        offHeapTier.endInvalidation(OffHeapTier.ALL_KEYS);
+                    }
+                }
                 return null;
             }
         });
@@ -276,7 +428,18 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
         return Uni.createFrom().item(new Supplier<Void>() {
             @Override
             public Void get() {
-                cache.asMap().keySet().removeIf(predicate);
+                if (offHeapTier == null) {
+                    cache.asMap().keySet().removeIf(predicate);
+                } else {
+                    // The off-heap tier is cleared first and then drops the matching values evicted from the heap
+                    // until the heap is cleared too, so that no stale value can be moved back to the heap
+                    offHeapTier.beginInvalidation(predicate);
+                    try {
+                        cache.asMap().keySet().removeIf(predicate);
+                    } finally {
+                        offHeapTier.endInvalidation(predicate);
+                    }
+                }
                 return null;
             }
         });
@@ -284,13 +447,21 @@ public Void get() {
 
     @Override
     public Set<Object> keySet() {
-        return Collections.unmodifiableSet(new HashSet<>(cache.asMap().keySet()));
+        Set<Object> keys = new HashSet<>(cache.asMap().keySet());
+        if (offHeapTier != null) {
+            keys.addAll(offHeapTier.keySet());
+        }
+        return Collections.unmodifiableSet(keys);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
         cache.put(key, (CompletableFuture<Object>) valueFuture);
+        if (offHeapTier != null) {
+            // The new value supersedes the one stored off-heap
+            offHeapTier.invalidate(key);
+        }
     }
 
     @Override
@@ -329,6 +500,52 @@ public void setMaximumSize(long maximumSize) {
         }
     }
 
+    /**
+     * Returns the value of the given key if it is not on the heap and must be served from the off-heap tier in place.
+     * With an {@code expire-after-write} policy, moving the value back to the heap would restart its expiration, so the
+     * value is decoded on each lookup instead.
+     */
+    private Object getOffHeapInPlace(Object key) {
+        if (offHeapTier == null || cacheInfo.expireAfterWrite == null || cache.asMap().containsKey(key)) {
+            return null;
+        }
+        Object offHeapValue = offHeapTier.get(key);
+        if (offHeapValue != null) {
+            statsCounter.recordMisses(1);
+        }
+        return offHeapValue;
+    }
+
+    /**
+     * Removes the value of the given key from the off-heap tier so that it can be moved back to the heap.
+     *
+     * @return the value, or {@code null} if it is not stored off-heap or must be served in place
+     */
+    private Object promoteFromOffHeap(Object key) {
+        return offHeapTier != null && cacheInfo.expireAfterWrite == null ? offHeapTier.remove(key) : null;
+    }
+
+    /**
+     * Computes how long the value of the given key remains valid once it is moved off-heap. The write-based expiration
+     * keeps counting from the original write, the access-based expiration starts over when the value is moved.
+     *
+     * @return the time to live in nanoseconds, or {@link Long#MAX_VALUE} if the value does not expire
+     */
+    private long offHeapTimeToLive(Object key) {
+        long timeToLive = Long.MAX_VALUE;
+        Duration expireAfterWrite = cacheInfo.expireAfterWrite;
+        if (expireAfterWrite != null) {
+            // The eviction listener is invoked before the entry is removed, so its age is still known
+            OptionalLong age = cache.synchronous().policy().expireAfterWrite().get().ageOf(key, TimeUnit.NANOSECONDS);
+            timeToLive = expireAfterWrite.toNanos() - (age.isPresent() ? age.getAsLong() : 0);
+        }
+        Duration expireAfterAccess = cacheInfo.expireAfterAccess;
+        if (expireAfterAccess != null) {
+            timeToLive = Math.min(timeToLive, expireAfterAccess.toNanos());
+        }
+        return timeToLive;
+    }
+
     // For testing purposes only.
     public CaffeineCacheInfo getCacheInfo() {
         return cacheInfo;
@@ -338,6 +555,70 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    /**
+     * @return the refresher of this cache, or {@code null} if the refresh is disabled
+     */
+    public CacheRefresher getRefresher() {
+        return refresher;
+    }
+
+    /**
+     * @return the off-heap tier of this cache, or {@code null} if it is disabled
+     */
+    public OffHeapTier getOffHeapTier() {
+        return offHeapTier;
+    }
+
+    /**
+     * Returns an executor which emits the items on the captured context, or on a new duplicated context if no context was
+     * captured.
+     */
+    private static Executor capturedContextExecutor(Context context) {
+        return new Executor() {
+            // We need make sure we go back to the original context when the cache value is computed.
+            // Otherwise, we would always emit on the context having computed the value, which could
+            // break the duplicated context isolation.
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
+                                    @Override
+                                    public void handle(Void ignored) {
+                                        command.run();
+                                    }
+                                });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
+                            }
+                        });
+                    }
+                }
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T cast(Object value) {
         try {
@@ -353,6 +634,49 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    /**
+     * Loads the values missing from the heap, first from the off-heap tier and then from the user loader in a single call.
+     */
+    private class BulkLoader<K, V>
+            implements BiFunction<Set<? extends Object>, Executor, CompletableFuture<Map<Object, Object>>> {
+
+        private final Function<Set<K>, Uni<Map<K, V>>> valuesLoader;
+
+        BulkLoader(Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+            this.valuesLoader = valuesLoader;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public CompletableFuture<Map<Object, Object>> apply(Set<? extends Object> missingKeys, Executor executor) {
+            Map<Object, Object> cacheValues = new HashMap<>();
+            Set<K> keysToLoad = new LinkedHashSet<>();
+            for (Object key : missingKeys) {
+                Object offHeapValue = promoteFromOffHeap(key);
+                if (offHeapValue != null) {
+                    cacheValues.put(key, offHeapValue);
+                } else {
+                    keysToLoad.add((K) key);
+                }
+            }
+            if (keysToLoad.isEmpty()) {
+                return CompletableFuture.completedFuture(cacheValues);
+            }
+            LOGGER.debugf("Loading %s entries into cache [%s]", keysToLoad.size(), cacheInfo.name);
+            return valuesLoader.apply(keysToLoad)
+                    .map(new Function<Map<K, V>, Map<Object, Object>>() {
+                        @Override
+                        public Map<Object, Object> apply(Map<K, V> loaded) {
+                            for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                                cacheValues.put(entry.getKey(), NullValueConverter.toCacheValue(entry.getValue()));
+                            }
+                            return cacheValues;
+                        }
+                    })
+                    .subscribeAsCompletionStage();
+        }
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
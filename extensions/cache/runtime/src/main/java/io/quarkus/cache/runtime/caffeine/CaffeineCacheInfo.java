@@ -15,6 +15,16 @@ public class CaffeineCacheInfo {
 
     public Duration expireAfterAccess;
 
+    /**
+     * The age after which the entries are refreshed in the background, {@code null} if the refresh is disabled.
+     */
+    public Duration refreshAfterWrite;
+
+    /**
+     * The maximum size of the off-heap tier in bytes, {@code null} if the off-heap tier is disabled.
+     */
+    public Long offHeapMaximumSize;
+
     public boolean metricsEnabled;
 
     @Override
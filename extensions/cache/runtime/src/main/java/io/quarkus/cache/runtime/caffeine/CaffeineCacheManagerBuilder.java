@@ -8,8 +8,11 @@
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheValueCodec;
 import io.quarkus.cache.runtime.CacheConfig;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.cache.runtime.caffeine.metrics.MetricsInitializer;
@@ -43,9 +46,10 @@ public CacheManager get() {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
                                     "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
+                                            + "[expireAfterAccess=%s], [refreshAfterWrite=%s] and [metricsEnabled=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                                    cacheInfo.metricsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
@@ -53,9 +57,25 @@ public CacheManager get() {
                          * - the metrics are enabled for this cache from the Quarkus configuration
                          */
                         boolean recordMetrics = metricsInitializer.metricsEnabled() && cacheInfo.metricsEnabled;
-                        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
+                        if (cacheInfo.offHeapMaximumSize != null && cacheInfo.maximumSize == null) {
+                            LOGGER.warnf("The off-heap tier of cache '%s' is disabled because its maximum-size is not set",
+                                    cacheInfo.name);
+                        }
+                        if (cacheInfo.refreshAfterWrite != null && cacheInfo.expireAfterWrite != null
+                                && cacheInfo.refreshAfterWrite.compareTo(cacheInfo.expireAfterWrite) >= 0) {
+                            LOGGER.warnf("The entries of cache '%s' expire before they can be refreshed because its "
+                                    + "refresh-after-write is not lower than its expire-after-write", cacheInfo.name);
+                        }
+                        CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics,
+                                cacheInfo.offHeapMaximumSize != null ? offHeapCodec() : null);
                         if (recordMetrics) {
                             metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+                            if (cache.getOffHeapTier() != null) {
+                                metricsInitializer.recordOffHeapMetrics(cache.getOffHeapTier(), cacheInfo.name);
+                            }
+                            if (cache.getRefresher() != null) {
+                                metricsInitializer.recordRefreshMetrics(cache.getRefresher(), cacheInfo.name);
+                            }
                         } else if (cacheInfo.metricsEnabled) {
                             LOGGER.warnf(
                                     "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
@@ -70,4 +90,9 @@ public CacheManager get() {
             }
         };
     }
+
+    private static CacheValueCodec offHeapCodec() {
+        InstanceHandle<CacheValueCodec> codec = Arc.container().instance(CacheValueCodec.class);
+        return codec.isAvailable() ? codec.get() : JavaSerializationCacheValueCodec.INSTANCE;
+    }
 }
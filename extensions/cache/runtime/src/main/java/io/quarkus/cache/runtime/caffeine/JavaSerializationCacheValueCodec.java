@@ -0,0 +1,59 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+
+import io.quarkus.cache.CacheValueCodec;
+
+/**
+ * The default {@link CacheValueCodec}, based on Java serialization.
+ */
+public class JavaSerializationCacheValueCodec implements CacheValueCodec {
+
+    static final JavaSerializationCacheValueCodec INSTANCE = new JavaSerializationCacheValueCodec();
+
+    @Override
+    public byte[] encode(Object value) {
+        if (!(value instanceof Serializable)) {
+            throw new IllegalArgumentException("Value is not serializable: " + value.getClass().getName());
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+                // Application classes may not be visible to the default class loader in dev mode
+                ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+                if (tccl != null) {
+                    try {
+                        return Class.forName(desc.getName(), false, tccl);
+                    } catch (ClassNotFoundException e) {
+                        // fall back to the default resolution
+                    }
+                }
+                return super.resolveClass(desc);
+            }
+        }) {
+            return in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,426 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.CacheValueCodec;
+
+/**
+ * The second tier of a Caffeine cache. Entries evicted from the heap because of the maximum size are encoded with a
+ * {@link CacheValueCodec} and stored outside the Java heap. When a key is not found on the heap, this tier is checked
+ * before the value is computed, and a hit moves the entry back to the heap.
+ * <p>
+ * The direct memory is allocated once, when the tier is created, and is never released or grown afterwards. It is divided
+ * into blocks of {@value #BLOCK_SIZE} bytes, and an encoded value is stored in a chain of blocks taken from a free list.
+ * The blocks of a removed entry are returned to the free list and reused. If there are not enough free blocks, the entries
+ * that have not been read recently are evicted (CLOCK algorithm); if the value still does not fit, it is dropped.
+ * <p>
+ * The keys are indexed in a {@link ConcurrentHashMap}, so a lookup does not acquire any lock. Each entry is stored with the
+ * time it remains valid, computed by the cache from its expiration policy.
+ */
+public class OffHeapTier {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapTier.class);
+
+    static final int BLOCK_SIZE = 512;
+    // Each direct buffer holds 2^17 blocks, i.e. 64 MB
+    private static final int SLAB_SHIFT = 17;
+    private static final int SLAB_BLOCKS = 1 << SLAB_SHIFT;
+    private static final int MAX_BLOCKS = Integer.MAX_VALUE - SLAB_BLOCKS;
+    private static final int NO_BLOCK = -1;
+
+    private final String cacheName;
+    private final CacheValueCodec codec;
+
+    private final ByteBuffer[] slabs;
+    private final int capacityBlocks;
+    // Guarded by arenaLock: the block following each block in a chain of an entry or in the free list
+    private final int[] next;
+    private final Object arenaLock = new Object();
+    private int freeHead;
+    private int freeBlocks;
+
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    // Guarded by evictionLock
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private Iterator<Map.Entry<Object, Entry>> clockHand = Collections.emptyIterator();
+
+    // A put holds the read lock while it checks the pending invalidations and stores the entry, the values of the keys
+    // matching these predicates are not stored
+    private final ReentrantReadWriteLock invalidationLock = new ReentrantReadWriteLock();
+    private final List<Predicate<Object>> pendingInvalidations = new ArrayList<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    static final Predicate<Object> ALL_KEYS = new Predicate<Object>() {
+        @Override
+        public boolean test(Object key) {
+            return true;
+        }
+    };
+
+    OffHeapTier(String cacheName, long maximumBytes, CacheValueCodec codec) {
+        this.cacheName = cacheName;
+        this.codec = codec;
+        long blocks = Math.min(maximumBytes / BLOCK_SIZE, MAX_BLOCKS);
+        List<ByteBuffer> slabs = new ArrayList<>();
+        long allocated = 0;
+        try {
+            while (allocated < blocks) {
+                int slabBlocks = (int) Math.min(blocks - allocated, SLAB_BLOCKS);
+                slabs.add(ByteBuffer.allocateDirect(slabBlocks * BLOCK_SIZE));
+                allocated += slabBlocks;
+            }
+        } catch (OutOfMemoryError e) {
+            LOGGER.warnf("Only %s of the %s bytes of the off-heap tier of cache [%s] could be allocated, "
+                    + "the maximum amount of direct memory may be too low: %s", allocated * BLOCK_SIZE,
+                    blocks * BLOCK_SIZE, cacheName, e.getMessage());
+        }
+        this.slabs = slabs.toArray(new ByteBuffer[0]);
+        this.capacityBlocks = (int) allocated;
+        this.next = new int[capacityBlocks];
+        for (int i = 0; i < capacityBlocks; i++) {
+            next[i] = i + 1 < capacityBlocks ? i + 1 : NO_BLOCK;
+        }
+        this.freeHead = capacityBlocks > 0 ? 0 : NO_BLOCK;
+        this.freeBlocks = capacityBlocks;
+    }
+
+    /**
+     * Encodes and stores the given value. Values that cannot be encoded, that do not fit in this tier, that have already
+     * expired or whose key is being invalidated, are dropped.
+     *
+     * @param timeToLive the time the value remains valid in nanoseconds, or {@link Long#MAX_VALUE} if it does not expire
+     */
+    void put(Object key, Object value, long timeToLive) {
+        if (timeToLive <= 0) {
+            return;
+        }
+        byte[] bytes;
+        try {
+            bytes = codec.encode(value);
+        } catch (RuntimeException e) {
+            LOGGER.debugf("Value of key [%s] cannot be moved off-heap in cache [%s]: %s", key, cacheName, e);
+            return;
+        }
+        int blocks = Math.max(1, (bytes.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        if (blocks > capacityBlocks) {
+            return;
+        }
+        int first = allocate(blocks);
+        if (first == NO_BLOCK) {
+            // The blocks of the evicted entries are still being read
+            LOGGER.debugf("Value of key [%s] cannot be moved off-heap in cache [%s]: no free blocks", key, cacheName);
+            return;
+        }
+        write(first, bytes);
+        Entry entry = new Entry(first, blocks, bytes.length,
+                timeToLive != Long.MAX_VALUE ? System.nanoTime() + timeToLive : 0);
+        Entry previous;
+        invalidationLock.readLock().lock();
+        try {
+            for (Predicate<Object> pendingInvalidation : pendingInvalidations) {
+                if (pendingInvalidation.test(key)) {
+                    release(entry);
+                    return;
+                }
+            }
+            previous = entries.put(key, entry);
+        } finally {
+            invalidationLock.readLock().unlock();
+        }
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    /**
+     * Removes the value associated with the given key from this tier and returns it.
+     *
+     * @return the decoded value, or {@code null} if there is no such value or it has expired
+     */
+    Object remove(Object key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) {
+            return miss();
+        }
+        byte[] bytes;
+        try {
+            if (entry.isExpired()) {
+                return miss();
+            }
+            bytes = read(entry);
+        } finally {
+            release(entry);
+        }
+        return decode(key, bytes);
+    }
+
+    /**
+     * Returns the value associated with the given key, and keeps it in this tier. An expired value is removed.
+     *
+     * @return the decoded value, or {@code null} if there is no such value or it has expired
+     */
+    Object get(Object key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return miss();
+        }
+        if (entry.isExpired()) {
+            if (entries.remove(key, entry)) {
+                release(entry);
+            }
+            return miss();
+        }
+        if (!entry.retain()) {
+            // Removed in the meantime
+            return miss();
+        }
+        byte[] bytes;
+        try {
+            bytes = read(entry);
+        } finally {
+            release(entry);
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return decode(key, bytes);
+    }
+
+    private Object decode(Object key, byte[] bytes) {
+        try {
+            Object value = codec.decode(bytes);
+            hits.increment();
+            LOGGER.tracef("Key [%s] found off-heap in cache [%s]", key, cacheName);
+            return value;
+        } catch (RuntimeException e) {
+            LOGGER.debugf("Value of key [%s] cannot be decoded in cache [%s]: %s", key, cacheName, e);
+            return miss();
+        }
+    }
+
+    private Object miss() {
+        misses.increment();
+        return null;
+    }
+
+    void invalidate(Object key) {
+        Entry entry = entries.remove(key);
+        if (entry != null) {
+            release(entry);
+        }
+    }
+
+    /**
+     * Removes the values of the keys matching the given predicate, and drops the matching values stored afterwards until
+     * {@link #endInvalidation(Predicate)} is called with the same predicate.
+     */
+    void beginInvalidation(Predicate<Object> predicate) {
+        invalidationLock.writeLock().lock();
+        try {
+            pendingInvalidations.add(predicate);
+            for (Map.Entry<Object, Entry> e : entries.entrySet()) {
+                if (predicate.test(e.getKey()) && entries.remove(e.getKey(), e.getValue())) {
+                    release(e.getValue());
+                }
+            }
+        } finally {
+            invalidationLock.writeLock().unlock();
+        }
+    }
+
+    void endInvalidation(Predicate<Object> predicate) {
+        invalidationLock.writeLock().lock();
+        try {
+            pendingInvalidations.remove(predicate);
+        } finally {
+            invalidationLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Takes the given number of blocks from the free list, and evicts entries if there are not enough free blocks.
+     *
+     * @return the first block of the chain, or {@link #NO_BLOCK}
+     */
+    private int allocate(int blocks) {
+        int first = takeBlocks(blocks);
+        if (first != NO_BLOCK) {
+            return first;
+        }
+        evictionLock.lock();
+        try {
+            // An entry read since the hand last passed it gets a second chance, so two rounds evict every entry
+            long candidates = 2L * entries.size() + 1;
+            while ((first = takeBlocks(blocks)) == NO_BLOCK && candidates-- > 0) {
+                if (!clockHand.hasNext()) {
+                    clockHand = entries.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        break;
+                    }
+                }
+                Map.Entry<Object, Entry> candidate = clockHand.next();
+                Entry entry = candidate.getValue();
+                if (entry.referenced && !entry.isExpired()) {
+                    entry.referenced = false;
+                } else if (entries.remove(candidate.getKey(), entry)) {
+                    if (!entry.isExpired()) {
+                        evictions.increment();
+                    }
+                    release(entry);
+                }
+            }
+            return first;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private int takeBlocks(int blocks) {
+        synchronized (arenaLock) {
+            if (freeBlocks < blocks) {
+                return NO_BLOCK;
+            }
+            int first = freeHead;
+            int last = first;
+            for (int i = 1; i < blocks; i++) {
+                last = next[last];
+            }
+            freeHead = next[last];
+            next[last] = NO_BLOCK;
+            freeBlocks -= blocks;
+            return first;
+        }
+    }
+
+    private void release(Entry entry) {
+        if (Entry.REFERENCES.decrementAndGet(entry) == 0) {
+            synchronized (arenaLock) {
+                int last = entry.firstBlock;
+                for (int i = 1; i < entry.blocks; i++) {
+                    last = next[last];
+                }
+                next[last] = freeHead;
+                freeHead = entry.firstBlock;
+                freeBlocks += entry.blocks;
+            }
+        }
+    }
+
+    private void write(int first, byte[] bytes) {
+        int block = first;
+        for (int offset = 0; offset < bytes.length; offset += BLOCK_SIZE) {
+            slabs[block >>> SLAB_SHIFT].put((block & (SLAB_BLOCKS - 1)) * BLOCK_SIZE, bytes, offset,
+                    Math.min(BLOCK_SIZE, bytes.length - offset));
+            block = next[block];
+        }
+    }
+
+    private byte[] read(Entry entry) {
+        byte[] bytes = new byte[entry.length];
+        int block = entry.firstBlock;
+        for (int offset = 0; offset < bytes.length; offset += BLOCK_SIZE) {
+            slabs[block >>> SLAB_SHIFT].get((block & (SLAB_BLOCKS - 1)) * BLOCK_SIZE, bytes, offset,
+                    Math.min(BLOCK_SIZE, bytes.length - offset));
+            block = next[block];
+        }
+        return bytes;
+    }
+
+    public Set<Object> keySet() {
+        if (entries.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(entries.keySet());
+    }
+
+    public long getSize() {
+        return entries.size();
+    }
+
+    /**
+     *
+     * @return the number of bytes of the blocks in use
+     */
+    public long getUsedBytes() {
+        synchronized (arenaLock) {
+            return (long) (capacityBlocks - freeBlocks) * BLOCK_SIZE;
+        }
+    }
+
+    /**
+     *
+     * @return the number of bytes of direct memory allocated for this tier
+     */
+    public long getCapacityBytes() {
+        return (long) capacityBlocks * BLOCK_SIZE;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private static final class Entry {
+
+        static final AtomicIntegerFieldUpdater<Entry> REFERENCES = AtomicIntegerFieldUpdater.newUpdater(Entry.class,
+                "references");
+
+        final int firstBlock;
+        final int blocks;
+        final int length;
+        // System.nanoTime() based, 0 if the entry never expires
+        final long expiresAt;
+        // Whether the entry was read since the clock hand last passed it
+        volatile boolean referenced;
+        // One reference is held by the index and one by each reader, the blocks are freed when the count drops to 0
+        volatile int references = 1;
+
+        Entry(int firstBlock, int blocks, int length, long expiresAt) {
+            this.firstBlock = firstBlock;
+            this.blocks = blocks;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean retain() {
+            for (;;) {
+                int current = references;
+                if (current == 0) {
+                    return false;
+                }
+                if (REFERENCES.compareAndSet(this, current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
@@ -2,9 +2,16 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.cache.runtime.caffeine.OffHeapTier;
+
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    void recordOffHeapMetrics(OffHeapTier offHeapTier, String cacheName);
+
+    void recordRefreshMetrics(CacheRefresher refresher, String cacheName);
 }
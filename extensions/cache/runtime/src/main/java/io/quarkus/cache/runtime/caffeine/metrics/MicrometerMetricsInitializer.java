@@ -1,11 +1,19 @@
 package io.quarkus.cache.runtime.caffeine.metrics;
 
+import java.util.concurrent.TimeUnit;
+
 import org.jboss.logging.Logger;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.cache.runtime.caffeine.OffHeapTier;
 
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application depends on a
@@ -26,4 +34,50 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         // The 'tags' vararg is purposely empty here. Tags should be configured using MeterFilter.
         CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, cacheName);
     }
+
+    @Override
+    public void recordOffHeapMetrics(OffHeapTier offHeapTier, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer metrics for the off-heap tier of cache [%s]", cacheName);
+        Tags tags = Tags.of("cache", cacheName);
+        FunctionCounter.builder("cache.offheap.gets", offHeapTier, OffHeapTier::getHitCount)
+                .tags(tags).tag("result", "hit")
+                .description("The number of times cache lookup methods found a value in the off-heap tier")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.offheap.gets", offHeapTier, OffHeapTier::getMissCount)
+                .tags(tags).tag("result", "miss")
+                .description("The number of times cache lookup methods did not find a value in the off-heap tier")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.offheap.evictions", offHeapTier, OffHeapTier::getEvictionCount)
+                .tags(tags)
+                .description("The number of entries evicted from the off-heap tier")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("cache.offheap.size", offHeapTier, OffHeapTier::getSize)
+                .tags(tags)
+                .description("The number of entries in the off-heap tier")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("cache.offheap.bytes", offHeapTier, OffHeapTier::getUsedBytes)
+                .tags(tags)
+                .description("The number of bytes used by the off-heap tier")
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void recordRefreshMetrics(CacheRefresher refresher, String cacheName) {
+        LOGGER.tracef("Initializing Micrometer refresh metrics for cache [%s]", cacheName);
+        Tags tags = Tags.of("cache", cacheName);
+        FunctionCounter.builder("cache.stale.gets", refresher, CacheRefresher::getStaleHitCount)
+                .tags(tags)
+                .description("The number of times cache lookup methods returned a stale value while it was refreshed")
+                .register(Metrics.globalRegistry);
+        FunctionTimer.builder("cache.refreshes", refresher, CacheRefresher::getRefreshSuccessCount,
+                CacheRefresher::getRefreshSuccessTotalNanos, TimeUnit.NANOSECONDS)
+                .tags(tags).tag("result", "success")
+                .description("The duration of the successful background refreshes of stale values")
+                .register(Metrics.globalRegistry);
+        FunctionTimer.builder("cache.refreshes", refresher, CacheRefresher::getRefreshFailureCount,
+                CacheRefresher::getRefreshFailureTotalNanos, TimeUnit.NANOSECONDS)
+                .tags(tags).tag("result", "failure")
+                .description("The duration of the failed background refreshes of stale values")
+                .register(Metrics.globalRegistry);
+    }
 }
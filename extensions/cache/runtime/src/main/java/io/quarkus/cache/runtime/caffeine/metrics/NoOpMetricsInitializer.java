@@ -4,6 +4,9 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.cache.runtime.caffeine.OffHeapTier;
+
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
  * any quarkus-micrometer-registry-* extension. It is required to make the micrometer-core dependency optional.
@@ -22,4 +25,14 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordOffHeapMetrics(OffHeapTier offHeapTier, String cacheName) {
+        // Do nothing.
+    }
+
+    @Override
+    public void recordRefreshMetrics(CacheRefresher refresher, String cacheName) {
+        // Do nothing.
+    }
 }
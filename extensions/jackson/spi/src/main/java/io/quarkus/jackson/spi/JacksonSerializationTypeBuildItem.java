@@ -0,0 +1,47 @@
+package io.quarkus.jackson.spi;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * BuildItem used to signal that instances of the given class are (de)serialized with the ObjectMapper outside a REST
+ * endpoint, e.g. as the payload of a Kafka record or as a value stored in Redis.
+ *
+ * If reflection-free serializers are enabled, the class is then taken into account when generating the Jackson
+ * serializers and deserializers at build time.
+ */
+public final class JacksonSerializationTypeBuildItem extends MultiBuildItem {
+
+    private final String className;
+    private final boolean serialization;
+    private final boolean deserialization;
+
+    public JacksonSerializationTypeBuildItem(String className, boolean serialization, boolean deserialization) {
+        this.className = className;
+        this.serialization = serialization;
+        this.deserialization = deserialization;
+    }
+
+    public static JacksonSerializationTypeBuildItem serialization(String className) {
+        return new JacksonSerializationTypeBuildItem(className, true, false);
+    }
+
+    public static JacksonSerializationTypeBuildItem deserialization(String className) {
+        return new JacksonSerializationTypeBuildItem(className, false, true);
+    }
+
+    public static JacksonSerializationTypeBuildItem both(String className) {
+        return new JacksonSerializationTypeBuildItem(className, true, true);
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public boolean isSerialization() {
+        return serialization;
+    }
+
+    public boolean isDeserialization() {
+        return deserialization;
+    }
+}
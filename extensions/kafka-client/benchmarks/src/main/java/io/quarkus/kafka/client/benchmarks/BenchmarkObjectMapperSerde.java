@@ -0,0 +1,187 @@
+package io.quarkus.kafka.client.benchmarks;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
+import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
+
+/**
+ * Compares the {@link ObjectMapperSerializer} and {@link ObjectMapperDeserializer} of a record payload when the
+ * ObjectMapper uses its default, reflection based (de)serializers, and when it uses the (de)serializers generated at build
+ * time if {@code quarkus.rest.jackson.optimization.enable-reflection-free-serializers} is enabled.
+ * <p>
+ * The generated classes only exist in an application build, so {@link PayloadSerializer} and {@link PayloadDeserializer}
+ * are written by hand to match what {@code JacksonSerializerFactory} and {@code JacksonDeserializerFactory} generate.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate, i.e. {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkObjectMapperSerde {
+
+    @Param({ "false", "true" })
+    public boolean generated;
+
+    private ObjectMapperSerializer<Payload> serializer;
+    private ObjectMapperDeserializer<Payload> deserializer;
+    private Payload payload;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (generated) {
+            SimpleModule module = new SimpleModule();
+            module.addSerializer(Payload.class, new PayloadSerializer());
+            module.addDeserializer(Payload.class, new PayloadDeserializer());
+            objectMapper.registerModule(module);
+        }
+        serializer = new ObjectMapperSerializer<>(objectMapper);
+        deserializer = new ObjectMapperDeserializer<>(Payload.class, objectMapper);
+
+        payload = new Payload();
+        payload.setId(1234);
+        payload.setCustomer("Jane Doe");
+        payload.setAmount(99.5);
+        payload.setCurrency("EUR");
+        bytes = serializer.serialize("orders", payload);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize("orders", payload);
+    }
+
+    @Benchmark
+    public Payload deserialize() {
+        return deserializer.deserialize("orders", bytes);
+    }
+
+    public static class Payload {
+
+        private long id;
+        private String customer;
+        private double amount;
+        private String currency;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public String getCurrency() {
+            return currency;
+        }
+
+        public void setCurrency(String currency) {
+            this.currency = currency;
+        }
+    }
+
+    static class PayloadSerializer extends StdSerializer<Payload> {
+
+        static final SerializedString ID = new SerializedString("id");
+        static final SerializedString CUSTOMER = new SerializedString("customer");
+        static final SerializedString AMOUNT = new SerializedString("amount");
+        static final SerializedString CURRENCY = new SerializedString("currency");
+
+        PayloadSerializer() {
+            super(Payload.class);
+        }
+
+        @Override
+        public void serialize(Payload value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartObject();
+            gen.writeFieldName(AMOUNT);
+            gen.writeNumber(value.getAmount());
+            gen.writeFieldName(CURRENCY);
+            gen.writeString(value.getCurrency());
+            gen.writeFieldName(CUSTOMER);
+            gen.writeString(value.getCustomer());
+            gen.writeFieldName(ID);
+            gen.writeNumber(value.getId());
+            gen.writeEndObject();
+        }
+    }
+
+    static class PayloadDeserializer extends StdDeserializer<Payload> {
+
+        PayloadDeserializer() {
+            super(Payload.class);
+        }
+
+        @Override
+        public Payload deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            Payload payload = new Payload();
+            Iterator<Map.Entry<String, JsonNode>> fields = ((JsonNode) parser.getCodec().readTree(parser)).fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> entry = fields.next();
+                JsonNode node = entry.getValue();
+                switch (entry.getKey()) {
+                    case "id":
+                        payload.setId(node.asLong());
+                        break;
+                    case "customer":
+                        payload.setCustomer(node.asText());
+                        break;
+                    case "amount":
+                        payload.setAmount(node.asDouble());
+                        break;
+                    case "currency":
+                        payload.setCurrency(node.asText());
+                        break;
+                }
+            }
+            return payload;
+        }
+    }
+}
@@ -53,6 +53,8 @@
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
@@ -88,6 +90,8 @@
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageRunnerBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
+import io.quarkus.deployment.util.JandexUtil;
+import io.quarkus.jackson.spi.JacksonSerializationTypeBuildItem;
 import io.quarkus.kafka.client.runtime.KafkaAdminClient;
 import io.quarkus.kafka.client.runtime.KafkaBindingConverter;
 import io.quarkus.kafka.client.runtime.KafkaRecorder;
@@ -144,6 +148,8 @@ public class KafkaProcessor {
     };
 
     static final DotName OBJECT_MAPPER = DotName.createSimple("com.fasterxml.jackson.databind.ObjectMapper");
+    static final DotName OBJECT_MAPPER_SERIALIZER = DotName.createSimple(ObjectMapperSerializer.class.getName());
+    static final DotName OBJECT_MAPPER_DESERIALIZER = DotName.createSimple(ObjectMapperDeserializer.class.getName());
     private static final Set<String> SASL_PROVIDERS = Arrays.stream(new String[] {
             "com.sun.security.sasl.Provider",
             "org.apache.kafka.common.security.scram.internals.ScramSaslClientProvider",
@@ -296,6 +302,40 @@ public void build(
                 "The tls-configuration to use for the Kafka client", null, null, ConfigPhase.RUN_TIME));
     }
 
+    @BuildStep
+    void jacksonSerializationTypes(CombinedIndexBuildItem indexBuildItem,
+            BuildProducer<JacksonSerializationTypeBuildItem> serializationTypes) {
+        // The payload types of the ObjectMapper based serdes, so that the ObjectMapper can use build-time generated
+        // (de)serializers when they are enabled
+        IndexView index = indexBuildItem.getIndex();
+        for (ClassInfo serializer : index.getAllKnownSubclasses(OBJECT_MAPPER_SERIALIZER)) {
+            DotName payloadType = payloadType(serializer, OBJECT_MAPPER_SERIALIZER, index);
+            if (payloadType != null) {
+                serializationTypes.produce(JacksonSerializationTypeBuildItem.serialization(payloadType.toString()));
+            }
+        }
+        for (ClassInfo deserializer : index.getAllKnownSubclasses(OBJECT_MAPPER_DESERIALIZER)) {
+            DotName payloadType = payloadType(deserializer, OBJECT_MAPPER_DESERIALIZER, index);
+            if (payloadType != null) {
+                serializationTypes.produce(JacksonSerializationTypeBuildItem.deserialization(payloadType.toString()));
+            }
+        }
+    }
+
+    private static DotName payloadType(ClassInfo serde, DotName superClass, IndexView index) {
+        List<Type> typeParameters;
+        try {
+            typeParameters = JandexUtil.resolveTypeParameters(serde.name(), superClass, index);
+        } catch (IllegalArgumentException e) {
+            // Some class of the hierarchy is not indexed
+            return null;
+        }
+        if (typeParameters.size() != 1 || typeParameters.get(0).kind() != Type.Kind.CLASS) {
+            return null;
+        }
+        return typeParameters.get(0).name();
+    }
+
     @BuildStep(onlyIf = { HasSnappy.class, NativeOrNativeSourcesBuild.class })
     public void handleSnappyInNative(NativeImageRunnerBuildItem nativeImageRunner,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
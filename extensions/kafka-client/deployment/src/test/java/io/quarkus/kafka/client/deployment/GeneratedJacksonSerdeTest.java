@@ -0,0 +1,85 @@
+package io.quarkus.kafka.client.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
+import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedJacksonSerdeTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(Payload.class, PayloadSerializer.class, PayloadDeserializer.class)
+                    .addAsResource(new StringAsset("quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"
+                            + "quarkus.kafka.devservices.enabled=false\n"), "application.properties"));
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testApplicationObjectMapperUsesGeneratedSerializers() throws JsonMappingException {
+        // The payload type is only used by the serdes, not by any REST endpoint
+        assertTrue(ResteasyReactiveServerJacksonRecorder.getGeneratedSerializers().contains(
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Payload.class).getClass()));
+        DefaultDeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createDummyInstance(objectMapper.getDeserializationConfig());
+        assertTrue(ResteasyReactiveServerJacksonRecorder.getGeneratedDeserializers().contains(
+                context.findRootValueDeserializer(objectMapper.constructType(Payload.class)).getClass()));
+
+        Payload payload = new Payload();
+        payload.setName("foo");
+        payload.setCount(42);
+        try (PayloadSerializer serializer = new PayloadSerializer();
+                PayloadDeserializer deserializer = new PayloadDeserializer()) {
+            Payload read = deserializer.deserialize("topic", serializer.serialize("topic", payload));
+            assertEquals("foo", read.getName());
+            assertEquals(42, read.getCount());
+        }
+    }
+
+    public static class PayloadSerializer extends ObjectMapperSerializer<Payload> {
+    }
+
+    public static class PayloadDeserializer extends ObjectMapperDeserializer<Payload> {
+
+        public PayloadDeserializer() {
+            super(Payload.class);
+        }
+    }
+
+    public static class Payload {
+
+        private String name;
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.quarkus.load.shedding.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.load.shedding.ConcurrencyLimitAlgorithm;
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Compares the default overload detector, which updates the limit under a lock after each request, with the striped
+ * overload detector, when many threads finish requests concurrently.
+ * <p>
+ * Run with {@code -t <threads>} to change the number of threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@Threads(8)
+public class BenchmarkOverloadDetector {
+
+    @Param({ "false", "true" })
+    public boolean striped;
+
+    @Param({ "vegas", "gradient2" })
+    public String algorithm;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withConverter(Duration.class, 100, new DurationConverter())
+                .withDefaultValue("quarkus.load-shedding.striped.enabled", String.valueOf(striped))
+                .withDefaultValue("quarkus.load-shedding.algorithm", algorithm)
+                .build();
+        detector = new OverloadDetector(config.getConfigMapping(LoadSheddingRuntimeConfig.class),
+                (ConcurrencyLimitAlgorithm) null);
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(900, 1100));
+        return overloaded;
+    }
+}
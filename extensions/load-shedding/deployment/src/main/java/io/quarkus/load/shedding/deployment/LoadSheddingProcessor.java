@@ -1,13 +1,18 @@
 package io.quarkus.load.shedding.deployment;
 
+import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
+
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.LoadSheddingMetrics;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
@@ -21,13 +26,17 @@ FeatureBuildItem feature() {
     }
 
     @BuildStep
-    AdditionalBeanBuildItem beans() {
+    AdditionalBeanBuildItem beans(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         List<String> beans = new ArrayList<>();
         beans.add(OverloadDetector.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
         beans.add(HttpRequestClassifier.class.getName());
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
+            // if we include this unconditionally the native image building will fail when Micrometer is not around
+            beans.add(LoadSheddingMetrics.class.getName());
+        }
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
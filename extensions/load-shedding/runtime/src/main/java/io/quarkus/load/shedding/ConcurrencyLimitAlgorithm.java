@@ -0,0 +1,33 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Computes the limit of concurrent requests from the durations of finished requests.
+ * The overload detector signals an overload situation when the number of current requests
+ * reaches the limit computed by this algorithm.
+ * <p>
+ * Several algorithms are provided out of the box and may be selected using the
+ * {@code quarkus.load-shedding.algorithm} configuration property. A custom implementation
+ * may be provided as a CDI bean; if such bean exists, it takes precedence over the configured
+ * algorithm. CDI typesafe resolution rules must be followed, so that exactly one bean is resolved.
+ * <p>
+ * The {@link #update(long, int, long, long, int) update()} method is never called concurrently,
+ * so implementations need not be thread-safe. It may however be called from different threads.
+ */
+public interface ConcurrencyLimitAlgorithm {
+    /**
+     * Computes the new limit of concurrent requests. When the overload detector aggregates samples
+     * of multiple finished requests, the {@code samples} parameter is greater than 1, {@code minRequestTime}
+     * is the lowest duration among them and {@code requestTime} is their average duration. Otherwise,
+     * {@code samples} is 1 and both durations are equal.
+     * <p>
+     * The returned value is clamped to the interval between 1 and the configured maximum limit, inclusive.
+     *
+     * @param currentLimit the current limit of concurrent requests
+     * @param samples the number of finished requests described by the remaining parameters, always positive
+     * @param minRequestTime the lowest duration of the finished requests, in microseconds
+     * @param requestTime the average duration of the finished requests, in microseconds
+     * @param currentRequests the highest number of concurrent requests observed when the requests finished
+     * @return the new limit of concurrent requests
+     */
+    long update(long currentLimit, int samples, long minRequestTime, long requestTime, int currentRequests);
+}
@@ -0,0 +1,29 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.ConcurrencyLimitAlgorithm;
+
+/**
+ * An additive increase, multiplicative decrease limit algorithm. When a request takes longer
+ * than the configured timeout, the limit is multiplied by the backoff ratio. Otherwise, the limit
+ * is increased by 1, provided that the application is using at least half of the limit.
+ */
+final class AimdLimitAlgorithm implements ConcurrencyLimitAlgorithm {
+    private final double backoffRatio;
+    private final long timeout;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        backoffRatio = config.aimd().backoffRatio();
+        timeout = config.aimd().timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long currentLimit, int samples, long minRequestTime, long requestTime, int currentRequests) {
+        if (requestTime > timeout) {
+            return (long) (currentLimit * backoffRatio);
+        }
+        if (2L * currentRequests >= currentLimit) {
+            return currentLimit + 1;
+        }
+        return currentLimit;
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.ConcurrencyLimitAlgorithm;
+
+/**
+ * A limit algorithm that never changes the limit. The limit is the configured initial limit.
+ */
+final class FixedLimitAlgorithm implements ConcurrencyLimitAlgorithm {
+    @Override
+    public long update(long currentLimit, int samples, long minRequestTime, long requestTime, int currentRequests) {
+        return currentLimit;
+    }
+}
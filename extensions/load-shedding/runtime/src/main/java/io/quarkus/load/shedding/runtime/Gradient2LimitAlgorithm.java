@@ -0,0 +1,74 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.ConcurrencyLimitAlgorithm;
+
+/**
+ * A limit algorithm based on Gradient2, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The algorithm compares a short-term request time (the last sample) with an exponential
+ * moving average of request times over a long window. When the short-term time exceeds
+ * the long-term average (multiplied by a tolerance), the limit is decreased proportionally.
+ * Otherwise, the limit grows by a fixed queue size. Changes are smoothed to absorb bursts.
+ */
+final class Gradient2LimitAlgorithm implements ConcurrencyLimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final double smoothing;
+    private final double tolerance;
+    private final int longWindow;
+    private final int queueSize;
+
+    private double estimatedLimit;
+
+    private double longRequestTime;
+    private int longSamples;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        smoothing = config.gradient2().smoothing();
+        tolerance = config.gradient2().tolerance();
+        longWindow = config.gradient2().longWindow();
+        queueSize = config.gradient2().queueSize();
+    }
+
+    @Override
+    public long update(long currentLimit, int samples, long minRequestTime, long requestTime, int currentRequests) {
+        // the limit may have been clamped by the overload detector
+        if ((long) estimatedLimit != currentLimit) {
+            estimatedLimit = currentLimit;
+        }
+
+        double shortRequestTime = requestTime;
+        updateLongRequestTime(samples, shortRequestTime);
+
+        // the long-term average lags after a period of higher latencies, let it recover faster
+        if (shortRequestTime > 0 && longRequestTime / shortRequestTime > 2.0) {
+            longRequestTime *= 0.95;
+        }
+
+        // the application is not using the full limit, so there's nothing to learn
+        if (2L * currentRequests < estimatedLimit) {
+            return currentLimit;
+        }
+
+        // requests faster than the clock resolution can't be slower than the average
+        double gradient = shortRequestTime > 0
+                ? Math.max(0.5, Math.min(1.0, tolerance * longRequestTime / shortRequestTime))
+                : 1.0;
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(1.0, newLimit);
+        return (long) estimatedLimit;
+    }
+
+    private void updateLongRequestTime(int samples, double requestTime) {
+        if (longSamples < WARMUP_SAMPLES) {
+            // plain average during warmup
+            longRequestTime = (longRequestTime * longSamples + requestTime * samples) / (longSamples + samples);
+            longSamples += samples;
+        } else {
+            double factor = Math.min(1.0, 2.0 * samples / (longWindow + 1));
+            longRequestTime = longRequestTime * (1.0 - factor) + requestTime * factor;
+        }
+    }
+}
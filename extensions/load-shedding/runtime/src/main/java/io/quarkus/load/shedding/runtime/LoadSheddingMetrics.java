@@ -0,0 +1,33 @@
+package io.quarkus.load.shedding.runtime;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Exposes the state of the {@link OverloadDetector} as Micrometer metrics. This bean is only
+ * registered when the application depends on a quarkus-micrometer-registry-* extension.
+ */
+@Singleton
+public class LoadSheddingMetrics {
+    void init(@Observes StartupEvent event, OverloadDetector detector, LoadSheddingRuntimeConfig config) {
+        if (!config.enabled()) {
+            return;
+        }
+
+        // The tags are purposely empty here. Tags should be configured using MeterFilter.
+        Gauge.builder("load.shedding.limit", detector, OverloadDetector::currentLimit)
+                .description("The current limit of concurrent requests")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("load.shedding.requests.in.flight", detector, OverloadDetector::currentRequests)
+                .description("The number of requests currently in flight")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("load.shedding.requests.rejected", detector, OverloadDetector::rejectedRequests)
+                .description("The number of requests rejected due to overload")
+                .register(Metrics.globalRegistry);
+    }
+}
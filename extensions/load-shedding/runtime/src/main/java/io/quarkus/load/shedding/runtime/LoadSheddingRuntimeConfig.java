@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,6 +18,14 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     * Ignored if the application provides a CDI bean implementing
+     * {@link io.quarkus.load.shedding.ConcurrencyLimitAlgorithm}.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
@@ -46,11 +56,92 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Configuration of the striped overload detector.
+     */
+    StripedOverloadDetector striped();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    enum Algorithm {
+        /**
+         * An adaptation of TCP Vegas, which estimates a queue size by comparing request durations
+         * with the lowest duration seen.
+         */
+        VEGAS,
+        /**
+         * Gradient2, which compares request durations with their long-term average
+         * and tolerates bursts of higher latencies.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease, which decreases the limit
+         * when a request takes longer than a timeout.
+         */
+        AIMD,
+        /**
+         * The limit never changes from the initial limit.
+         */
+        FIXED,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor applied to limit changes, between 0 and 1.
+         * Lower values make the algorithm react more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * How much the short-term request duration may exceed the long-term average
+         * before the limit is decreased.
+         */
+        @WithDefault("1.5")
+        double tolerance();
+
+        /**
+         * The number of samples over which the long-term average of request durations is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests by which the limit grows when request durations are stable.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The factor by which the limit is multiplied when a request takes longer than the timeout.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request duration after which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +150,31 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface StripedOverloadDetector {
+        /**
+         * Whether the striped overload detector should be used. Instead of updating the limit
+         * of concurrent requests after each request under a global lock, request times are accumulated
+         * per thread and the limit is updated periodically from the aggregated samples.
+         * This reduces contention on machines with many cores.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The number of finished requests a single stripe accumulates before the samples
+         * of all stripes are aggregated and the limit is updated.
+         */
+        @WithDefault("16")
+        int batchSize();
+
+        /**
+         * The maximum time between two aggregations of the samples, so that the limit is updated
+         * even when the stripes fill up slowly. The aggregation is triggered by the first request
+         * that finishes after this time.
+         */
+        @WithDefault("100ms")
+        Duration aggregationInterval();
+    }
 }
@@ -1,46 +1,64 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import io.quarkus.load.shedding.ConcurrencyLimitAlgorithm;
+
 /**
- * An overload detector based on TCP Vegas, as implemented by
+ * An overload detector that compares the number of current requests with a limit. The limit is computed
+ * by a {@link ConcurrencyLimitAlgorithm}, by default based on TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * By default, each finished request updates the limit under a lock. When the striped mode is enabled,
+ * finished requests are accumulated in per-thread stripes instead, and the limit is updated from
+ * aggregated samples by whichever thread fills its stripe first, or finishes a request after the aggregation
+ * interval elapsed. This avoids contending on a single lock when there are many event loops.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
     private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final ConcurrencyLimitAlgorithm algorithm;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
+    private final LongAdder rejectedRequests = new LongAdder();
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    // only used in the striped mode, `null` otherwise
+    private final StripedSamples stripedSamples;
 
     @Inject
-    public OverloadDetector(LoadSheddingRuntimeConfig config) {
+    public OverloadDetector(LoadSheddingRuntimeConfig config, Instance<ConcurrencyLimitAlgorithm> customAlgorithm) {
+        this(config, customAlgorithm.isResolvable() ? customAlgorithm.get() : null);
+    }
+
+    /**
+     * Creates an overload detector that uses the given algorithm, or the configured algorithm if {@code null}.
+     */
+    public OverloadDetector(LoadSheddingRuntimeConfig config, ConcurrencyLimitAlgorithm customAlgorithm) {
         maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
         currentLimit = config.initialLimit();
-        resetProbeJitter();
+        if (customAlgorithm != null) {
+            algorithm = customAlgorithm;
+        } else {
+            algorithm = switch (config.algorithm()) {
+                case VEGAS -> new VegasLimitAlgorithm(config);
+                case GRADIENT2 -> new Gradient2LimitAlgorithm(config);
+                case AIMD -> new AimdLimitAlgorithm(config);
+                case FIXED -> new FixedLimitAlgorithm();
+            };
+        }
+
+        if (config.striped().enabled()) {
+            stripedSamples = new StripedSamples(Runtime.getRuntime().availableProcessors(),
+                    config.striped().batchSize(), config.striped().aggregationInterval().toNanos(), this::update);
+        } else {
+            stripedSamples = null;
+        }
     }
 
     public boolean isOverloaded() {
@@ -51,59 +69,48 @@ public void requestBegin() {
         currentRequests.incrementAndGet();
     }
 
-    public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
-
-        update(timeInMicros, current);
+    public void requestRejected() {
+        rejectedRequests.increment();
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
+    public void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
 
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        if (stripedSamples != null) {
+            stripedSamples.record(timeInMicros, current);
+        } else {
+            update(timeInMicros, current);
         }
+    }
 
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
+    /**
+     * Returns the current limit of concurrent requests.
+     */
+    public long currentLimit() {
+        return currentLimit;
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    /**
+     * Returns the number of requests currently in flight.
+     */
+    public int currentRequests() {
+        return currentRequests.get();
+    }
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
-        }
+    /**
+     * Returns the total number of requests rejected so far.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
 
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    private synchronized void update(long requestTime, int currentRequests) {
+        update(1, requestTime, requestTime, currentRequests);
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    // must be called with exclusive access, either under the monitor or by the current aggregator of striped samples
+    private void update(int samples, long minRequestTime, long requestTime, int currentRequests) {
+        long newLimit = algorithm.update(currentLimit, samples, minRequestTime, requestTime, currentRequests);
+        this.currentLimit = Math.max(1, Math.min(maxLimit, newLimit));
     }
 }
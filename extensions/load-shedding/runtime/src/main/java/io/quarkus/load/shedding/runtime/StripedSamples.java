@@ -0,0 +1,125 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Durations of finished requests, accumulated in per-thread stripes. The samples of all stripes are aggregated
+ * and handed over to a {@link Consumer} when a stripe accumulates a batch of samples, or when a sample is recorded
+ * and the aggregation interval elapsed since the previous aggregation. At most one thread aggregates at a time,
+ * and threads never wait for the aggregation.
+ */
+final class StripedSamples {
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final int batchSize;
+    private final long intervalNanos;
+    private final Consumer consumer;
+
+    private final AtomicBoolean aggregating = new AtomicBoolean();
+    private volatile long lastAggregation;
+
+    /**
+     * @param stripes the minimum number of stripes, rounded up to the next power of two
+     * @param batchSize the number of samples a stripe accumulates before the aggregation happens
+     * @param intervalNanos the time after which the next sample triggers the aggregation, in nanoseconds
+     * @param consumer the consumer of the aggregated samples
+     */
+    StripedSamples(int stripes, int batchSize, long intervalNanos, Consumer consumer) {
+        int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.stripeMask = count - 1;
+        this.batchSize = Math.max(1, batchSize);
+        this.intervalNanos = intervalNanos;
+        this.consumer = consumer;
+        this.lastAggregation = System.nanoTime();
+    }
+
+    void record(long requestTime, int currentRequests) {
+        Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+        if (stripe.add(requestTime, currentRequests) >= batchSize
+                || System.nanoTime() - lastAggregation >= intervalNanos) {
+            aggregate();
+        }
+    }
+
+    /**
+     * Aggregates the samples of all stripes, unless another thread is aggregating.
+     *
+     * @return whether this thread aggregated the samples
+     */
+    boolean aggregate() {
+        if (!aggregating.compareAndSet(false, true)) {
+            // another thread is aggregating, our samples will be picked up next time
+            return false;
+        }
+        try {
+            int samples = 0;
+            long minRequestTime = Long.MAX_VALUE;
+            long totalRequestTime = 0;
+            int maxCurrentRequests = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    if (stripe.samples == 0) {
+                        continue;
+                    }
+                    samples += stripe.samples;
+                    minRequestTime = Math.min(minRequestTime, stripe.minRequestTime);
+                    totalRequestTime += stripe.totalRequestTime;
+                    maxCurrentRequests = Math.max(maxCurrentRequests, stripe.maxCurrentRequests);
+                    stripe.reset();
+                }
+            }
+            lastAggregation = System.nanoTime();
+            if (samples > 0) {
+                consumer.accept(samples, minRequestTime, totalRequestTime / samples, maxCurrentRequests);
+            }
+            return true;
+        } finally {
+            aggregating.set(false);
+        }
+    }
+
+    int stripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Consumes aggregated samples. Never called concurrently.
+     */
+    interface Consumer {
+        void accept(int samples, long minRequestTime, long requestTime, int currentRequests);
+    }
+
+    /**
+     * Samples accumulated since the last aggregation. Stripes are selected by thread ID, so that event loop
+     * threads (which are long-lived and few) mostly end up with a stripe of their own and the monitor is
+     * uncontended. The padding keeps neighbouring stripes on different cache lines.
+     */
+    private static final class Stripe {
+        long p01, p02, p03, p04, p05, p06, p07;
+
+        int samples;
+        long minRequestTime = Long.MAX_VALUE;
+        long totalRequestTime;
+        int maxCurrentRequests;
+
+        long p11, p12, p13, p14, p15, p16, p17;
+
+        synchronized int add(long requestTime, int currentRequests) {
+            minRequestTime = Math.min(minRequestTime, requestTime);
+            totalRequestTime += requestTime;
+            maxCurrentRequests = Math.max(maxCurrentRequests, currentRequests);
+            return ++samples;
+        }
+
+        void reset() {
+            samples = 0;
+            minRequestTime = Long.MAX_VALUE;
+            totalRequestTime = 0;
+            maxCurrentRequests = 0;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class AimdLimitAlgorithmTest {
+    private final AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(TestConfig.create(Map.of(
+            "quarkus.load-shedding.aimd.timeout", "10ms",
+            "quarkus.load-shedding.aimd.backoff-ratio", "0.5")));
+
+    @Test
+    public void increasesWhenLimitIsUsed() {
+        assertEquals(11, algorithm.update(10, 1, 1_000, 1_000, 5));
+        assertEquals(11, algorithm.update(10, 1, 1_000, 1_000, 10));
+    }
+
+    @Test
+    public void unchangedWhenLimitIsNotUsed() {
+        assertEquals(10, algorithm.update(10, 1, 1_000, 1_000, 4));
+    }
+
+    @Test
+    public void decreasesAfterTimeout() {
+        assertEquals(11, algorithm.update(10, 1, 10_000, 10_000, 10));
+        assertEquals(5, algorithm.update(10, 1, 10_001, 10_001, 10));
+        // the average request time is compared with the timeout
+        assertEquals(5, algorithm.update(10, 3, 1_000, 20_000, 1));
+    }
+}
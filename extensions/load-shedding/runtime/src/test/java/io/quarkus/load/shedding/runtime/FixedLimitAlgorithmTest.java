@@ -0,0 +1,37 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.load.shedding.ConcurrencyLimitAlgorithm;
+
+public class FixedLimitAlgorithmTest {
+    @Test
+    public void limitNeverChanges() {
+        FixedLimitAlgorithm algorithm = new FixedLimitAlgorithm();
+        assertEquals(10, algorithm.update(10, 1, 1_000, 1_000, 10));
+        assertEquals(10, algorithm.update(10, 1, 0, 0, 0));
+        assertEquals(10, algorithm.update(10, 100, 1_000, 100_000_000, 1_000));
+    }
+
+    @Test
+    public void overloadDetectorKeepsInitialLimit() {
+        OverloadDetector detector = new OverloadDetector(TestConfig.create(Map.of(
+                "quarkus.load-shedding.algorithm", "fixed",
+                "quarkus.load-shedding.initial-limit", "3")), (ConcurrencyLimitAlgorithm) null);
+        for (int i = 0; i < 100; i++) {
+            detector.requestBegin();
+            detector.requestEnd(i * 1_000);
+        }
+        assertEquals(3, detector.currentLimit());
+
+        detector.requestBegin();
+        detector.requestBegin();
+        detector.requestBegin();
+        assertTrue(detector.isOverloaded());
+    }
+}
@@ -0,0 +1,50 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class Gradient2LimitAlgorithmTest {
+    private final Gradient2LimitAlgorithm algorithm = new Gradient2LimitAlgorithm(TestConfig.create(Map.of()));
+
+    @Test
+    public void zeroRequestTimes() {
+        long limit = 100;
+        for (int i = 0; i < 20; i++) {
+            limit = algorithm.update(limit, 1, 0, 0, (int) limit);
+        }
+        assertTrue(limit > 100, "limit: " + limit);
+    }
+
+    @Test
+    public void growsWhenRequestTimesAreStable() {
+        long limit = update(100, 50, 1_000);
+        assertTrue(limit > 100, "limit: " + limit);
+    }
+
+    @Test
+    public void decreasesWhenRequestsGetSlower() {
+        long limit = update(100, 20, 1_000);
+        long slowerLimit = update(limit, 20, 10_000);
+        assertTrue(slowerLimit < limit, "limit: " + limit + ", slower limit: " + slowerLimit);
+    }
+
+    @Test
+    public void unchangedWhenLimitIsNotUsed() {
+        long limit = 100;
+        for (int i = 0; i < 20; i++) {
+            limit = algorithm.update(limit, 1, 1_000, 1_000, 10);
+        }
+        assertEquals(100, limit);
+    }
+
+    private long update(long limit, int times, long requestTime) {
+        for (int i = 0; i < times; i++) {
+            limit = algorithm.update(limit, 1, requestTime, requestTime, (int) limit);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedSamplesTest {
+    @Test
+    public void stripesAreRoundedUpToPowerOfTwo() {
+        assertEquals(1, new StripedSamples(1, 1, Long.MAX_VALUE, new Aggregates()).stripes());
+        assertEquals(4, new StripedSamples(3, 1, Long.MAX_VALUE, new Aggregates()).stripes());
+        assertEquals(8, new StripedSamples(8, 1, Long.MAX_VALUE, new Aggregates()).stripes());
+    }
+
+    @Test
+    public void aggregatesWhenStripeIsFull() {
+        Aggregates aggregates = new Aggregates();
+        StripedSamples samples = new StripedSamples(1, 3, Long.MAX_VALUE, aggregates);
+
+        samples.record(10, 1);
+        samples.record(30, 5);
+        assertEquals(0, aggregates.samples);
+
+        samples.record(20, 3);
+        assertEquals(1, aggregates.calls);
+        assertEquals(3, aggregates.samples);
+        assertEquals(10, aggregates.minRequestTime);
+        assertEquals(20, aggregates.lastRequestTime);
+        assertEquals(5, aggregates.lastCurrentRequests);
+    }
+
+    @Test
+    public void aggregatesWhenIntervalElapsed() throws InterruptedException {
+        Aggregates aggregates = new Aggregates();
+        StripedSamples samples = new StripedSamples(1, Integer.MAX_VALUE, TimeUnit.MILLISECONDS.toNanos(50), aggregates);
+
+        samples.record(10, 1);
+        assertEquals(0, aggregates.calls);
+
+        Thread.sleep(100);
+        samples.record(20, 2);
+        assertEquals(1, aggregates.calls);
+        assertEquals(2, aggregates.samples);
+        assertEquals(15, aggregates.lastRequestTime);
+
+        // the interval starts over after the aggregation
+        samples.record(30, 3);
+        assertEquals(1, aggregates.calls);
+    }
+
+    @Test
+    public void concurrentCallersLoseNoSamples() throws InterruptedException {
+        int threads = 8;
+        int samplesPerThread = 100_000;
+        Aggregates aggregates = new Aggregates();
+        StripedSamples samples = new StripedSamples(4, 16, TimeUnit.MILLISECONDS.toNanos(1), aggregates);
+
+        CountDownLatch begin = new CountDownLatch(1);
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            int currentRequests = i + 1;
+            Thread caller = new Thread(() -> {
+                try {
+                    begin.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int j = 0; j < samplesPerThread; j++) {
+                    // the request times are 1..samplesPerThread, so their sum is known
+                    samples.record(j + 1, currentRequests);
+                }
+            });
+            callers.add(caller);
+            caller.start();
+        }
+        begin.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        assertTrue(samples.aggregate());
+
+        assertFalse(aggregates.concurrentAccess.get());
+        assertEquals((long) threads * samplesPerThread, aggregates.samples);
+        assertEquals(1, aggregates.minRequestTime);
+        assertEquals(threads, aggregates.maxCurrentRequests);
+        long expectedTotal = (long) threads * samplesPerThread * (samplesPerThread + 1) / 2;
+        // the average is truncated in each aggregation, so the total may be slightly lower
+        assertTrue(aggregates.totalRequestTime <= expectedTotal);
+        assertTrue(aggregates.totalRequestTime > expectedTotal - (long) aggregates.calls * aggregates.maxSamples);
+    }
+
+    static class Aggregates implements StripedSamples.Consumer {
+        final AtomicBoolean inProgress = new AtomicBoolean();
+        final AtomicBoolean concurrentAccess = new AtomicBoolean();
+
+        int calls;
+        long samples;
+        int maxSamples;
+        long minRequestTime = Long.MAX_VALUE;
+        long totalRequestTime;
+        int maxCurrentRequests;
+        long lastRequestTime;
+        int lastCurrentRequests;
+
+        @Override
+        public void accept(int samples, long minRequestTime, long requestTime, int currentRequests) {
+            if (!inProgress.compareAndSet(false, true)) {
+                concurrentAccess.set(true);
+            }
+            calls++;
+            this.samples += samples;
+            maxSamples = Math.max(maxSamples, samples);
+            this.minRequestTime = Math.min(this.minRequestTime, minRequestTime);
+            totalRequestTime += requestTime * samples;
+            maxCurrentRequests = Math.max(maxCurrentRequests, currentRequests);
+            lastRequestTime = requestTime;
+            lastCurrentRequests = currentRequests;
+            inProgress.set(false);
+        }
+    }
+}
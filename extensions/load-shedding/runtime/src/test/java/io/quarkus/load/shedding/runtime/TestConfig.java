@@ -0,0 +1,22 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+final class TestConfig {
+    private TestConfig() {
+    }
+
+    static LoadSheddingRuntimeConfig create(Map<String, String> properties) {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(LoadSheddingRuntimeConfig.class)
+                .withConverter(Duration.class, 100, new DurationConverter())
+                .withDefaultValues(properties)
+                .build();
+        return config.getConfigMapping(LoadSheddingRuntimeConfig.class);
+    }
+}
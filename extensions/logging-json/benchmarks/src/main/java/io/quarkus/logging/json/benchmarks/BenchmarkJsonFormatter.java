@@ -0,0 +1,78 @@
+package io.quarkus.logging.json.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.logging.json.runtime.AdditionalFieldConfig;
+import io.quarkus.logging.json.runtime.DirectJsonFormatter;
+import io.quarkus.logging.json.runtime.JsonFormatter;
+
+/**
+ * Compares the {@link JsonFormatter} with the {@link DirectJsonFormatter} for a record with MDC entries and additional
+ * fields.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate, i.e. {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkJsonFormatter {
+
+    private JsonFormatter jsonFormatter;
+    private DirectJsonFormatter directJsonFormatter;
+    private ExtLogRecord record;
+
+    @Setup
+    public void setup() {
+        Map<String, AdditionalFieldConfig> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("service", additionalField("orders", AdditionalFieldConfig.Type.STRING));
+        additionalFields.put("version", additionalField("42", AdditionalFieldConfig.Type.INT));
+        jsonFormatter = new JsonFormatter(null, Set.of(), additionalFields);
+        directJsonFormatter = new DirectJsonFormatter(jsonFormatter);
+
+        record = new ExtLogRecord(Level.FINE, "Processing order {0} for \"{1}\"", BenchmarkJsonFormatter.class.getName());
+        record.setLoggerName("io.quarkus.logging.json.benchmarks");
+        record.setParameters(new Object[] { 1234, "Jane Doe" });
+        record.setMdc(Map.of("traceId", "4bf92f3577b34da6a3ce929d0e0e4736", "spanId", "00f067aa0ba902b7"));
+        record.copyAll();
+    }
+
+    private static AdditionalFieldConfig additionalField(String value, AdditionalFieldConfig.Type type) {
+        AdditionalFieldConfig field = new AdditionalFieldConfig();
+        field.value = value;
+        field.type = type;
+        return field;
+    }
+
+    @Benchmark
+    public String jsonFormatter() {
+        return jsonFormatter.format(record);
+    }
+
+    @Benchmark
+    public String directJsonFormatter() {
+        return directJsonFormatter.format(record);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkJsonFormatter.class.getSimpleName(), "-prof", "gc" });
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.logging.json;
+
+import static io.quarkus.logging.json.ConsoleJsonFormatterDefaultConfigTest.getConsoleFormatter;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.logging.json.runtime.DirectJsonFormatter;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConsoleDirectJsonFormatterTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(ConsoleJsonFormatterDefaultConfigTest.class))
+            .withConfigurationResource("application-console-json-formatter-direct.properties");
+
+    @Test
+    public void jsonFormatterOutputTest() throws Exception {
+        Formatter formatter = getConsoleFormatter();
+        assertThat(formatter).isInstanceOf(DirectJsonFormatter.class);
+
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, "Hello, \"World\"!\n", ExtLogRecord.class.getName());
+        record.setMdc(Map.of("requestId", "1"));
+        String line = formatter.format(record);
+        assertThat(line).endsWith("}\n");
+
+        JsonNode node = new ObjectMapper().readTree(line);
+        // "level" has been renamed to HEY
+        assertThat(node.has("level")).isFalse();
+        assertThat(node.get("HEY").asText()).isEqualTo("INFO");
+
+        // excluded fields
+        assertThat(node.has("timestamp")).isFalse();
+        assertThat(node.has("sequence")).isFalse();
+
+        // additional fields
+        assertThat(node.get("foo").isInt()).isTrue();
+        assertThat(node.get("foo").asInt()).isEqualTo(42);
+        assertThat(node.get("bar").asText()).isEqualTo("baz");
+        assertThat(node.get("message").asText()).isEqualTo("Hello, \"World\"!\n");
+        assertThat(node.get("mdc").get("requestId").asText()).isEqualTo("1");
+    }
+
+    @Test
+    public void jsonFormatterExceptionTest() throws Exception {
+        Formatter formatter = getConsoleFormatter();
+        ExtLogRecord record = new ExtLogRecord(Level.SEVERE, "Failure", ExtLogRecord.class.getName());
+        record.setThrown(new IllegalStateException("Boom"));
+
+        JsonNode node = new ObjectMapper().readTree(formatter.format(record));
+        assertThat(node.get("exception").get("exceptionType").asText()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(node.get("foo").asInt()).isEqualTo(42);
+    }
+}
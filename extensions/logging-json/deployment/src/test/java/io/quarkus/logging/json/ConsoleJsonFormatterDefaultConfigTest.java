@@ -42,6 +42,12 @@ public void jsonFormatterDefaultConfigurationTest() {
     }
 
     public static JsonFormatter getJsonFormatter() {
+        Formatter formatter = getConsoleFormatter();
+        assertThat(formatter).isInstanceOf(JsonFormatter.class);
+        return (JsonFormatter) formatter;
+    }
+
+    public static Formatter getConsoleFormatter() {
         LogManager logManager = LogManager.getLogManager();
         assertThat(logManager).isInstanceOf(org.jboss.logmanager.LogManager.class);
 
@@ -55,8 +61,6 @@ public static JsonFormatter getJsonFormatter() {
         assertThat(handler).isNotNull();
         assertThat(handler.getLevel()).isEqualTo(Level.WARNING);
 
-        Formatter formatter = handler.getFormatter();
-        assertThat(formatter).isInstanceOf(JsonFormatter.class);
-        return (JsonFormatter) formatter;
+        return handler.getFormatter();
     }
 }
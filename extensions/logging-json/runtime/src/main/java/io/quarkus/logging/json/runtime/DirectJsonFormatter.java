@@ -0,0 +1,276 @@
+package io.quarkus.logging.json.runtime;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logmanager.ExtFormatter;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.formatters.StructuredFormatter.Key;
+
+/**
+ * A JSON formatter that writes the record directly into a reusable thread-local buffer.
+ * <p>
+ * The output is the same as the output of the given {@link JsonFormatter}, but the JSON-P generator, the intermediate
+ * writer and the lock of the {@link org.jboss.logmanager.formatters.StructuredFormatter} are not involved. The field
+ * names and the additional fields are escaped once, when the formatter is created.
+ * <p>
+ * Records with an exception, as well as the pretty printed output and the meta data, are delegated to the given
+ * {@link JsonFormatter}. The configuration of the delegate is read when this formatter is created.
+ */
+public class DirectJsonFormatter extends ExtFormatter {
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<StringBuilder> BUFFER = new ThreadLocal<>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(1024);
+        }
+    };
+
+    private final JsonFormatter delegate;
+    private final boolean delegateAll;
+    private final DateTimeFormatter dateTimeFormatter;
+    private final boolean printDetails;
+    private final String recordDelimiter;
+
+    // the escaped field names followed by a colon, null if the key is excluded
+    private final String timestamp;
+    private final String sequence;
+    private final String loggerClassName;
+    private final String loggerName;
+    private final String level;
+    private final String message;
+    private final String threadName;
+    private final String threadId;
+    private final String mdc;
+    private final String ndc;
+    private final String hostName;
+    private final String processName;
+    private final String processId;
+    private final String sourceClassName;
+    private final String sourceFileName;
+    private final String sourceMethodName;
+    private final String sourceLineNumber;
+    private final String sourceModuleName;
+    private final String sourceModuleVersion;
+    // the escaped additional fields, each one preceded by a comma
+    private final String additionalFields;
+
+    public DirectJsonFormatter(JsonFormatter delegate) {
+        this.delegate = delegate;
+        String metaData = delegate.getMetaData();
+        this.delegateAll = delegate.isPrettyPrint() || (metaData != null && !metaData.isEmpty());
+        this.dateTimeFormatter = delegate.getDateTimeFormatter();
+        this.printDetails = delegate.isPrintDetails();
+        this.recordDelimiter = delegate.getRecordDelimiter();
+
+        Set<String> excludedKeys = delegate.getExcludedKeys();
+        this.timestamp = fieldName(delegate.getKeyName(Key.TIMESTAMP), excludedKeys);
+        this.sequence = fieldName(delegate.getKeyName(Key.SEQUENCE), excludedKeys);
+        this.loggerClassName = fieldName(delegate.getKeyName(Key.LOGGER_CLASS_NAME), excludedKeys);
+        this.loggerName = fieldName(delegate.getKeyName(Key.LOGGER_NAME), excludedKeys);
+        this.level = fieldName(delegate.getKeyName(Key.LEVEL), excludedKeys);
+        this.message = fieldName(delegate.getKeyName(Key.MESSAGE), excludedKeys);
+        this.threadName = fieldName(delegate.getKeyName(Key.THREAD_NAME), excludedKeys);
+        this.threadId = fieldName(delegate.getKeyName(Key.THREAD_ID), excludedKeys);
+        this.mdc = fieldName(delegate.getKeyName(Key.MDC), excludedKeys);
+        this.ndc = fieldName(delegate.getKeyName(Key.NDC), excludedKeys);
+        this.hostName = fieldName(delegate.getKeyName(Key.HOST_NAME), excludedKeys);
+        this.processName = fieldName(delegate.getKeyName(Key.PROCESS_NAME), excludedKeys);
+        this.processId = fieldName(delegate.getKeyName(Key.PROCESS_ID), excludedKeys);
+        this.sourceClassName = fieldName(delegate.getKeyName(Key.SOURCE_CLASS_NAME), excludedKeys);
+        this.sourceFileName = fieldName(delegate.getKeyName(Key.SOURCE_FILE_NAME), excludedKeys);
+        this.sourceMethodName = fieldName(delegate.getKeyName(Key.SOURCE_METHOD_NAME), excludedKeys);
+        this.sourceLineNumber = fieldName(delegate.getKeyName(Key.SOURCE_LINE_NUMBER), excludedKeys);
+        this.sourceModuleName = fieldName(delegate.getKeyName(Key.SOURCE_MODULE_NAME), excludedKeys);
+        this.sourceModuleVersion = fieldName(delegate.getKeyName(Key.SOURCE_MODULE_VERSION), excludedKeys);
+
+        StringBuilder fields = new StringBuilder();
+        for (Map.Entry<String, AdditionalFieldConfig> entry : delegate.getAdditionalFields().entrySet()) {
+            String name = fieldName(entry.getKey(), excludedKeys);
+            if (name == null) {
+                continue;
+            }
+            fields.append(',').append(name);
+            AdditionalFieldConfig field = entry.getValue();
+            switch (field.type) {
+                case STRING:
+                    appendString(fields, field.value);
+                    break;
+                case INT:
+                    fields.append(Integer.parseInt(field.value));
+                    break;
+                case LONG:
+                    fields.append(Long.parseLong(field.value));
+                    break;
+            }
+        }
+        this.additionalFields = fields.toString();
+    }
+
+    private static String fieldName(String key, Set<String> excludedKeys) {
+        if (excludedKeys.contains(key)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(key.length() + 3);
+        appendString(sb, key);
+        return sb.append(':').toString();
+    }
+
+    @Override
+    public String format(ExtLogRecord record) {
+        if (delegateAll || record.getThrown() != null) {
+            return delegate.format(record);
+        }
+        StringBuilder sb = BUFFER.get();
+        try {
+            sb.append('{');
+            // the first field is not preceded by a comma
+            int start = sb.length();
+            if (timestamp != null) {
+                sb.append(timestamp).append('"');
+                dateTimeFormatter.formatTo(record.getInstant(), sb);
+                sb.append('"');
+            }
+            if (sequence != null) {
+                comma(sb, start).append(sequence).append(record.getSequenceNumber());
+            }
+            addString(sb, start, loggerClassName, record.getLoggerClassName());
+            addString(sb, start, loggerName, record.getLoggerName());
+            addString(sb, start, level, record.getLevel().getName());
+            addString(sb, start, message, delegate.formatMessage(record));
+            addString(sb, start, threadName, record.getThreadName());
+            if (threadId != null) {
+                comma(sb, start).append(threadId).append(record.getThreadID());
+            }
+            if (mdc != null) {
+                comma(sb, start).append(mdc).append('{');
+                boolean first = true;
+                for (Map.Entry<String, String> entry : record.getMdcCopy().entrySet()) {
+                    if (!first) {
+                        sb.append(',');
+                    }
+                    first = false;
+                    appendString(sb, entry.getKey());
+                    sb.append(':');
+                    appendNullableString(sb, entry.getValue());
+                }
+                sb.append('}');
+            }
+            addString(sb, start, ndc, record.getNdc());
+            String host = record.getHostName();
+            if (host != null && !host.isEmpty()) {
+                addString(sb, start, hostName, host);
+            }
+            String process = record.getProcessName();
+            if (process != null && !process.isEmpty()) {
+                addString(sb, start, processName, process);
+            }
+            long pid = record.getProcessId();
+            if (pid >= 0 && processId != null) {
+                comma(sb, start).append(processId).append(pid);
+            }
+            if (printDetails) {
+                addString(sb, start, sourceClassName, record.getSourceClassName());
+                addString(sb, start, sourceFileName, record.getSourceFileName());
+                addString(sb, start, sourceMethodName, record.getSourceMethodName());
+                if (sourceLineNumber != null) {
+                    comma(sb, start).append(sourceLineNumber).append(record.getSourceLineNumber());
+                }
+                addString(sb, start, sourceModuleName, record.getSourceModuleName());
+                addString(sb, start, sourceModuleVersion, record.getSourceModuleVersion());
+            }
+            if (!additionalFields.isEmpty()) {
+                if (sb.length() == start) {
+                    // all the other fields are excluded
+                    sb.append(additionalFields, 1, additionalFields.length());
+                } else {
+                    sb.append(additionalFields);
+                }
+            }
+            sb.append('}');
+            if (recordDelimiter != null) {
+                sb.append(recordDelimiter);
+            }
+            return sb.toString();
+        } finally {
+            if (sb.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+                BUFFER.remove();
+            } else {
+                sb.setLength(0);
+            }
+        }
+    }
+
+    @Override
+    public boolean isCallerCalculationRequired() {
+        return printDetails;
+    }
+
+    private static StringBuilder comma(StringBuilder sb, int start) {
+        if (sb.length() > start) {
+            sb.append(',');
+        }
+        return sb;
+    }
+
+    private static void addString(StringBuilder sb, int start, String name, String value) {
+        if (name != null) {
+            comma(sb, start).append(name);
+            appendNullableString(sb, value);
+        }
+    }
+
+    private static void appendNullableString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+        } else {
+            appendString(sb, value);
+        }
+    }
+
+    /**
+     * Appends the value as a JSON string, escaped the same way as the JSON-P generator does.
+     */
+    static void appendString(StringBuilder sb, String value) {
+        sb.append('"');
+        int len = value.length();
+        int last = 0;
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            // copy the characters that do not need to be escaped in one go
+            sb.append(value, last, i);
+            last = i + 1;
+            switch (c) {
+                case '"':
+                case '\\':
+                    sb.append('\\').append(c);
+                    break;
+                case '\b':
+                    sb.append("\\b");
+                    break;
+                case '\f':
+                    sb.append("\\f");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            }
+        }
+        sb.append(value, last, len).append('"');
+    }
+}
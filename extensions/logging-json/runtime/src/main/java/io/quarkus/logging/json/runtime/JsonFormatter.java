@@ -68,6 +68,13 @@ public void setAdditionalFields(Map<String, AdditionalFieldConfig> additionalFie
         this.additionalFields = additionalFields;
     }
 
+    /**
+     * @return the name of the key, taking the key overrides into account
+     */
+    String getKeyName(final Key key) {
+        return getKey(key);
+    }
+
     @Override
     protected Generator createGenerator(final Writer writer) {
         Generator superGenerator = super.createGenerator(writer);
@@ -98,5 +98,14 @@ public static class JsonConfig {
         @ConfigItem
         @ConfigDocMapKey("field-name")
         Map<String, AdditionalFieldConfig> additionalField;
+
+        /**
+         * Write the JSON records directly into a reusable thread-local buffer, instead of going through the JSON-P
+         * generator. The output is the same, but much less garbage is produced per record.
+         * <p>
+         * The records with an exception, as well as the pretty printed records, are still written by the JSON-P generator.
+         */
+        @ConfigItem
+        boolean directWrite;
     }
 }
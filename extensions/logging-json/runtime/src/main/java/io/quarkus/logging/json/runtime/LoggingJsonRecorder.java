@@ -41,6 +41,9 @@ private RuntimeValue<Optional<Formatter>> getFormatter(JsonConfig config) {
         if (!zoneId.equals("default")) {
             formatter.setZoneId(zoneId);
         }
+        if (config.directWrite) {
+            return new RuntimeValue<>(Optional.of(new DirectJsonFormatter(formatter)));
+        }
         return new RuntimeValue<>(Optional.of(formatter));
     }
 }
@@ -0,0 +1,32 @@
+package io.quarkus.qute.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Holds a name of a generated {@link io.quarkus.qute.CompiledExpression} class for an output expression of a template.
+ */
+public final class CompiledExpressionBuildItem extends MultiBuildItem {
+
+    private final String templatePath;
+    private final String expression;
+    private final String className;
+
+    public CompiledExpressionBuildItem(String templatePath, String expression, String className) {
+        this.templatePath = templatePath;
+        this.expression = expression;
+        this.className = className;
+    }
+
+    public String getTemplatePath() {
+        return templatePath;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+}
@@ -1,5 +1,6 @@
 package io.quarkus.qute.deployment;
 
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static io.quarkus.qute.Namespaces.isDataNamespace;
 import static io.quarkus.qute.ValueResolvers.OR;
@@ -24,6 +25,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -91,6 +93,8 @@
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.gizmo.ClassOutput;
@@ -126,6 +130,7 @@
 import io.quarkus.qute.TemplateGlobal;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.TemplateLocator;
+import io.quarkus.qute.TemplateNode;
 import io.quarkus.qute.UserTagSectionHelper;
 import io.quarkus.qute.ValueResolver;
 import io.quarkus.qute.Variant;
@@ -135,6 +140,8 @@
 import io.quarkus.qute.deployment.TypeInfos.Info;
 import io.quarkus.qute.deployment.TypeInfos.TypeInfo;
 import io.quarkus.qute.deployment.Types.AssignabilityCheck;
+import io.quarkus.qute.generator.CompiledExpressionGenerator;
+import io.quarkus.qute.generator.CompiledExpressionGenerator.Step;
 import io.quarkus.qute.generator.ExtensionMethodGenerator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceResolverCreator.ResolveCreator;
@@ -1233,6 +1240,7 @@ static MatchResult validateNestedExpressions(QuteConfig config, TemplateAnalysis
                 // Arrays are handled specifically
                 // We use the built-in resolver at runtime because the extension methods cannot be used to cover all combinations of dimensions and component types
                 if (match.isArray() && processArray(info, match)) {
+                    match.discardSteps();
                     continue;
                 }
 
@@ -1297,6 +1305,11 @@ static MatchResult validateNestedExpressions(QuteConfig config, TemplateAnalysis
                     if (type.kind() == Type.Kind.CLASS || type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
                         clazz = index.getClassByName(type.name());
                     }
+                    if (extensionMethod == null) {
+                        match.addStep(member, info.part.getName());
+                    } else {
+                        match.discardSteps();
+                    }
                     match.setValues(clazz, type);
                     if (info.hasHints()) {
                         // For example a loop section needs to validate the type of an element
@@ -2102,6 +2115,68 @@ public Function<FieldInfo, String> apply(ClassInfo clazz) {
         }
     }
 
+    @BuildStep
+    void generateCompiledExpressions(QuteConfig config, BeanArchiveIndexBuildItem beanArchiveIndex,
+            TemplatesAnalysisBuildItem templatesAnalysis,
+            List<TemplateExpressionMatchesBuildItem> expressionMatches,
+            List<IncorrectExpressionBuildItem> incorrectExpressions,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<CompiledExpressionBuildItem> compiledExpressions,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+
+        if (!config.compileExpressions || !incorrectExpressions.isEmpty()) {
+            return;
+        }
+
+        CompiledExpressionGenerator generator = new CompiledExpressionGenerator(beanArchiveIndex.getIndex(),
+                new GeneratedClassGizmoAdaptor(generatedClasses, true));
+        for (TemplateAnalysis analysis : templatesAnalysis.getAnalysis()) {
+            if (analysis.id != null) {
+                // Only file templates are compiled
+                continue;
+            }
+            TemplateExpressionMatchesBuildItem matches = null;
+            for (TemplateExpressionMatchesBuildItem m : expressionMatches) {
+                if (m.templateGeneratedId.equals(analysis.generatedId)) {
+                    matches = m;
+                    break;
+                }
+            }
+            if (matches == null) {
+                continue;
+            }
+            // Only output expressions are compiled
+            // The same expression may occur multiple times in a template, e.g. in different loops
+            Map<String, List<Step>> expressionToSteps = new LinkedHashMap<>();
+            Set<String> ambiguous = new HashSet<>();
+            for (TemplateNode node : analysis.findNodes(TemplateNode::isExpression)) {
+                Expression expression = node.asExpression().getExpressions().get(0);
+                String key = expression.toOriginalString();
+                MatchResult match = matches.getMatch(expression.getGeneratedId());
+                List<Step> steps = match != null ? match.getSteps() : null;
+                if (ambiguous.contains(key)) {
+                    continue;
+                }
+                if (steps == null
+                        || expression.hasNamespace()
+                        || steps.size() != expression.getParts().size() - 1
+                        || expression.getParts().get(0).isVirtualMethod()
+                        || (expressionToSteps.containsKey(key) && !expressionToSteps.get(key).equals(steps))) {
+                    ambiguous.add(key);
+                    expressionToSteps.remove(key);
+                } else {
+                    expressionToSteps.put(key, steps);
+                }
+            }
+            for (Entry<String, List<Step>> entry : expressionToSteps.entrySet()) {
+                String className = generator.generate(analysis.path, entry.getKey(), entry.getValue());
+                compiledExpressions.produce(new CompiledExpressionBuildItem(analysis.path, entry.getKey(), className));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(className).build());
+            }
+        }
+        LOGGER.debugf("Generated %s compiled expressions", generator.getGeneratedTypes().size());
+    }
+
     /**
      * Tracks non-application value resolvers that have already been generated. There is no need to spend time
      * generating them again on a hot reload.
@@ -2494,12 +2569,28 @@ void initialize(BuildProducer<SyntheticBeanBuildItem> syntheticBeans, QuteRecord
     @Record(value = STATIC_INIT)
     void initializeGeneratedClasses(BeanContainerBuildItem beanContainer, QuteRecorder recorder,
             List<GeneratedValueResolverBuildItem> generatedValueResolvers,
-            List<TemplateGlobalProviderBuildItem> templateInitializers) {
+            List<TemplateGlobalProviderBuildItem> templateInitializers,
+            List<CompiledExpressionBuildItem> compiledExpressions) {
+        Map<String, Map<String, String>> compiledExpressionClasses = new HashMap<>();
+        for (CompiledExpressionBuildItem compiledExpression : compiledExpressions) {
+            compiledExpressionClasses.computeIfAbsent(compiledExpression.getTemplatePath(), k -> new HashMap<>())
+                    .put(compiledExpression.getExpression(), compiledExpression.getClassName());
+        }
         // The generated classes must be initialized after the template expressions are validated in order to break the cycle in the build chain
         recorder.initializeGeneratedClasses(generatedValueResolvers.stream()
                 .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()),
                 templateInitializers.stream()
-                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()));
+                        .map(TemplateGlobalProviderBuildItem::getClassName).collect(Collectors.toList()),
+                compiledExpressionClasses);
+    }
+
+    @BuildStep
+    @Record(value = RUNTIME_INIT)
+    void registerMetrics(QuteRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
     }
 
     @BuildStep
@@ -2827,9 +2918,12 @@ static class MatchResult {
 
         private ClassInfo clazz;
         private Type type;
+        // The Java members used to evaluate the parts of the expression; null if the expression cannot be compiled
+        private List<Step> steps;
 
         MatchResult(AssignabilityCheck assignabilityCheck) {
             this.assignabilityCheck = assignabilityCheck;
+            this.steps = new ArrayList<>();
         }
 
         List<Type> getParameterizedTypeArguments() {
@@ -2874,6 +2968,29 @@ void setValues(ClassInfo clazz, Type type) {
         void clearValues() {
             clazz = null;
             type = null;
+            steps = null;
+        }
+
+        void addStep(AnnotationTarget member, String name) {
+            if (steps != null) {
+                if (clazz != null && CompiledExpressionGenerator.isSupported(clazz, member)) {
+                    steps.add(new Step(clazz, member, name));
+                } else {
+                    steps = null;
+                }
+            }
+        }
+
+        void discardSteps() {
+            steps = null;
+        }
+
+        /**
+         *
+         * @return the steps, or {@code null} if the expression cannot be compiled
+         */
+        List<Step> getSteps() {
+            return steps;
         }
 
         boolean isEmpty() {
@@ -2886,6 +3003,8 @@ void autoExtractType() {
                 boolean hasCompletionStage = assignabilityCheck.isAssignableFrom(Names.COMPLETION_STAGE, clazz.name());
                 boolean hasUni = hasCompletionStage ? false : assignabilityCheck.isAssignableFrom(Names.UNI, clazz.name());
                 if (hasCompletionStage || hasUni) {
+                    // The result must be resolved asynchronously
+                    discardSteps();
                     Set<Type> closure = Types.getTypeClosure(clazz, Types.buildResolvedMap(
                             getParameterizedTypeArguments(), getTypeParameters(), new HashMap<>(),
                             assignabilityCheck.computingIndex),
@@ -0,0 +1,79 @@
+package io.quarkus.qute.deployment.typesafe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineConfiguration;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CompiledExpressionTest {
+
+    static final String FOO = "{@io.quarkus.qute.deployment.typesafe.Item item}"
+            + "{item.name}:{item.name.length}:{item.primitiveId}:{item.name.or('none')}";
+
+    static final String LOOP = "{@java.util.List<io.quarkus.qute.deployment.typesafe.Item> items}"
+            + "{#for item in items}{item.name}{#if item_hasNext},{/if}{/for}";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Item.class, OtherItem.class, NameResolver.class)
+                    .addAsResource(new StringAsset(FOO), "templates/foo.html")
+                    .addAsResource(new StringAsset(LOOP), "templates/loop.html"))
+            .overrideConfigKey("quarkus.qute.compile-expressions", "true");
+
+    @Inject
+    Engine engine;
+
+    @Inject
+    Template foo;
+
+    @Inject
+    Template loop;
+
+    @Test
+    public void testCompiledExpressions() {
+        // The custom resolver is not bypassed by the compiled expressions
+        // {item.name.or('none')} is not compiled because it uses a virtual method
+        assertEquals("resolved:8:9:resolved", foo.data("item", new Item("box")).render());
+        assertEquals("resolved,resolved", loop.data("items", List.of(new Item("box"), new Item("bag"))).render());
+        // Templates that are not file templates are never compiled
+        assertEquals(engine.parse(FOO).data("item", new Item("box")).render(), foo.data("item", new Item("box")).render());
+        assertEquals(engine.parse(LOOP).data("items", List.of(new Item("box"))).render(),
+                loop.data("items", List.of(new Item("box"))).render());
+    }
+
+    @EngineConfiguration
+    public static class NameResolver implements ValueResolver {
+
+        @Override
+        public int getPriority() {
+            return 100;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item && context.getName().equals("name");
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            return CompletableFuture.completedStage("resolved");
+        }
+
+    }
+
+}
@@ -9,13 +9,17 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
@@ -35,6 +39,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CompiledExpression;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.EvalContext;
@@ -85,6 +90,8 @@ public class EngineProducer {
     private final Locale defaultLocale;
     private final Charset defaultCharset;
     private final ArcContainer container;
+    private final ReflectionValueResolver reflectionValueResolver;
+    private final CustomResolversGuard compiledExpressionGuard;
 
     public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig runtimeConfig,
             Event<EngineBuilder> builderReady, Event<Engine> engineReady, ContentTypes contentTypes,
@@ -106,20 +113,27 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
 
         EngineBuilder builder = Engine.builder();
 
+        // Built-in, generated and reflection value resolvers never resolve a part differently than a compiled expression
+        Set<ValueResolver> compatibleResolvers = Collections.newSetFromMap(new IdentityHashMap<>());
+
         // We don't register the map resolver because of param declaration validation
-        builder.addValueResolver(ValueResolvers.thisResolver());
-        builder.addValueResolver(ValueResolvers.orResolver());
-        builder.addValueResolver(ValueResolvers.trueResolver());
-        builder.addValueResolver(ValueResolvers.collectionResolver());
-        builder.addValueResolver(ValueResolvers.mapperResolver());
-        builder.addValueResolver(ValueResolvers.mapEntryResolver());
-        // foo.string.raw returns a RawString which is never escaped
-        builder.addValueResolver(ValueResolvers.rawResolver());
-        builder.addValueResolver(ValueResolvers.logicalAndResolver());
-        builder.addValueResolver(ValueResolvers.logicalOrResolver());
-        builder.addValueResolver(ValueResolvers.orEmpty());
-        // Note that arrays are handled specifically during validation
-        builder.addValueResolver(ValueResolvers.arrayResolver());
+        List<ValueResolver> builtinResolvers = List.of(ValueResolvers.thisResolver(),
+                ValueResolvers.orResolver(),
+                ValueResolvers.trueResolver(),
+                ValueResolvers.collectionResolver(),
+                ValueResolvers.mapperResolver(),
+                ValueResolvers.mapEntryResolver(),
+                // foo.string.raw returns a RawString which is never escaped
+                ValueResolvers.rawResolver(),
+                ValueResolvers.logicalAndResolver(),
+                ValueResolvers.logicalOrResolver(),
+                ValueResolvers.orEmpty(),
+                // Note that arrays are handled specifically during validation
+                ValueResolvers.arrayResolver());
+        for (ValueResolver valueResolver : builtinResolvers) {
+            builder.addValueResolver(valueResolver);
+        }
+        compatibleResolvers.addAll(builtinResolvers);
         // Additional value resolvers
         for (ValueResolver valueResolver : valueResolvers) {
             builder.addValueResolver(valueResolver);
@@ -158,7 +172,9 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
         builder.addResultMapper(new HtmlEscaper(List.copyOf(config.escapeContentTypes)));
 
         // Fallback reflection resolver
-        builder.addValueResolver(new ReflectionValueResolver());
+        this.reflectionValueResolver = new ReflectionValueResolver();
+        builder.addValueResolver(reflectionValueResolver);
+        compatibleResolvers.add(reflectionValueResolver);
 
         // Remove standalone lines if desired
         builder.removeStandaloneLines(runtimeConfig.removeStandaloneLines);
@@ -191,6 +207,7 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
                 builder.addNamespaceResolver((NamespaceResolver) resolver);
             } else {
                 builder.addValueResolver((ValueResolver) resolver);
+                compatibleResolvers.add((ValueResolver) resolver);
             }
             LOGGER.debugf("Added generated value resolver: %s", resolverClass);
         }
@@ -220,6 +237,10 @@ public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig
             builder.addNamespaceResolver(provider);
         }
 
+        // Add compiled expressions
+        this.compiledExpressionGuard = new CustomResolversGuard();
+        addCompiledExpressions(builder, context.getCompiledExpressionClasses());
+
         // Add a special initializer for templates that contain an inject/cdi namespace expressions
         Map<String, Boolean> discoveredInjectTemplates = new HashMap<>();
         builder.addTemplateInstanceInitializer(new Initializer() {
@@ -258,6 +279,16 @@ public void run() {
 
         engine = builder.build();
 
+        // A custom value resolver, e.g. declared with @EngineConfiguration or added by an observer of EngineBuilder, may resolve
+        // a part of a compiled expression differently; such parts are evaluated by the value resolvers
+        List<ValueResolver> customResolvers = new ArrayList<>();
+        for (ValueResolver valueResolver : engine.getValueResolvers()) {
+            if (!compatibleResolvers.contains(valueResolver)) {
+                customResolvers.add(valueResolver);
+            }
+        }
+        compiledExpressionGuard.setResolvers(customResolvers);
+
         // Load discovered template files
         Map<String, List<Template>> discovered = new HashMap<>();
         for (String path : context.getTemplatePaths()) {
@@ -305,7 +336,18 @@ Engine getEngine() {
         return engine;
     }
 
+    long getReflectionResolutionCount() {
+        return reflectionValueResolver.getResolutionCount();
+    }
+
     void onShutdown(@Observes ShutdownEvent event) {
+        if (LOGGER.isDebugEnabled()) {
+            Map<String, Long> counts = reflectionValueResolver.getResolutionCounts();
+            if (!counts.isEmpty()) {
+                // Values of these members were not resolved by a generated value resolver
+                LOGGER.debugf("Values resolved via reflection: %s", new TreeMap<>(counts));
+            }
+        }
         // Make sure to clear the Qute cache
         Qute.clearCache();
     }
@@ -324,6 +366,43 @@ private Resolver createResolver(String resolverClassName) {
         }
     }
 
+    private void addCompiledExpressions(EngineBuilder builder, Map<String, Map<String, String>> compiledExpressionClasses) {
+        for (Entry<String, Map<String, String>> templateEntry : compiledExpressionClasses.entrySet()) {
+            String path = templateEntry.getKey();
+            // A template can be also obtained by the path without suffix, e.g. items.html -> items
+            String pathWithoutSuffix = null;
+            for (String suffix : suffixes) {
+                if (path.endsWith("." + suffix)) {
+                    pathWithoutSuffix = path.substring(0, path.length() - suffix.length() - 1);
+                    break;
+                }
+            }
+            for (Entry<String, String> expressionEntry : templateEntry.getValue().entrySet()) {
+                CompiledExpression compiledExpression = createCompiledExpression(expressionEntry.getValue());
+                builder.addCompiledExpression(path, expressionEntry.getKey(), compiledExpression);
+                if (pathWithoutSuffix != null) {
+                    builder.addCompiledExpression(pathWithoutSuffix, expressionEntry.getKey(), compiledExpression);
+                }
+            }
+            LOGGER.debugf("Added %s compiled expressions for template: %s", templateEntry.getValue().size(), path);
+        }
+    }
+
+    private CompiledExpression createCompiledExpression(String compiledExpressionClassName) {
+        try {
+            Class<?> compiledExpressionClazz = Thread.currentThread()
+                    .getContextClassLoader().loadClass(compiledExpressionClassName);
+            if (CompiledExpression.class.isAssignableFrom(compiledExpressionClazz)) {
+                return (CompiledExpression) compiledExpressionClazz.getDeclaredConstructor(CompiledExpression.Guard.class)
+                        .newInstance(compiledExpressionGuard);
+            }
+            throw new IllegalStateException("Not a compiled expression: " + compiledExpressionClassName);
+        } catch (InstantiationException | IllegalAccessException | ClassNotFoundException | IllegalArgumentException
+                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+            throw new IllegalStateException("Unable to create compiled expression: " + compiledExpressionClassName, e);
+        }
+    }
+
     private TemplateGlobalProvider createGlobalProvider(String initializerClassName) {
         try {
             Class<?> initializerClazz = Thread.currentThread()
@@ -517,4 +596,78 @@ public Optional<Variant> getVariant() {
 
     }
 
+
+    /**
+     * Rejects a part of a compiled expression if a custom value resolver applies to the base object and the name of the part.
+     */
+    static class CustomResolversGuard implements CompiledExpression.Guard {
+
+        private volatile List<ValueResolver> resolvers = List.of();
+
+        void setResolvers(List<ValueResolver> resolvers) {
+            this.resolvers = List.copyOf(resolvers);
+        }
+
+        @Override
+        public boolean test(Object base, String name) {
+            List<ValueResolver> resolvers = this.resolvers;
+            if (resolvers.isEmpty()) {
+                return false;
+            }
+            EvalContext context = new PartEvalContext(base, name);
+            for (ValueResolver resolver : resolvers) {
+                if (resolver.appliesTo(context)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    /**
+     * The context used to test whether a value resolver applies to a part of a compiled expression.
+     */
+    static class PartEvalContext implements EvalContext {
+
+        private final Object base;
+        private final String name;
+
+        PartEvalContext(Object base, String name) {
+            this.base = base;
+            this.name = name;
+        }
+
+        @Override
+        public Object getBase() {
+            return base;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public List<Expression> getParams() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(String expression) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(Expression expression) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object getAttribute(String key) {
+            return null;
+        }
+
+    }
+
 }
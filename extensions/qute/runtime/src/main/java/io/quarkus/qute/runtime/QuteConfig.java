@@ -90,6 +90,17 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset defaultCharset;
 
+    /**
+     * If set to {@code true} then the type-safe output expressions are compiled into generated classes during the build.
+     * <p>
+     * An output expression is compiled if it's validated and all parts but the first one are resolved to public fields or
+     * public methods without parameters, e.g. <code>{item.name}</code> where {@code item} is declared as
+     * {@code org.acme.Item}. A compiled expression invokes the members directly and does not use the value resolvers. If the
+     * runtime types do not match the types used during validation then the expression is evaluated by the value resolvers.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean compileExpressions;
+
     /**
      * Development mode configuration.
      */
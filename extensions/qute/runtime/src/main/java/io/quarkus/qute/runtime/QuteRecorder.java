@@ -3,14 +3,20 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class QuteRecorder {
 
+    static final String REFLECTION_RESOLUTIONS_METRIC_NAME = "qute.reflection.resolutions";
+
+    static final String REFLECTION_RESOLUTIONS_METRIC_DESCRIPTION = "Number of values resolved via reflection, i.e. not by a generated value resolver.";
+
     public Supplier<Object> createContext(List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
             Set<String> templateRoots, Map<String, String> templateContents) {
         return new Supplier<Object>() {
@@ -21,6 +27,7 @@ public Object get() {
 
                     volatile List<String> resolverClasses;
                     volatile List<String> templateGlobalProviderClasses;
+                    volatile Map<String, Map<String, String>> compiledExpressionClasses;
 
                     @Override
                     public List<String> getTemplatePaths() {
@@ -53,6 +60,14 @@ public List<String> getTemplateGlobalProviderClasses() {
                         return templateGlobalProviderClasses;
                     }
 
+                    @Override
+                    public Map<String, Map<String, String>> getCompiledExpressionClasses() {
+                        if (compiledExpressionClasses == null) {
+                            throw generatedClassesNotInitialized();
+                        }
+                        return compiledExpressionClasses;
+                    }
+
                     @Override
                     public Set<String> getTemplateRoots() {
                         return templateRoots;
@@ -64,9 +79,11 @@ public Map<String, String> getTemplateContents() {
                     }
 
                     @Override
-                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+                    public void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                            Map<String, Map<String, String>> compiledExpressionClasses) {
                         this.resolverClasses = resolverClasses;
                         this.templateGlobalProviderClasses = templateGlobalProviderClasses;
+                        this.compiledExpressionClasses = compiledExpressionClasses;
                     }
 
                     private IllegalStateException generatedClassesNotInitialized() {
@@ -78,9 +95,25 @@ private IllegalStateException generatedClassesNotInitialized() {
         };
     }
 
-    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses) {
+    public void initializeGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+            Map<String, Map<String, String>> compiledExpressionClasses) {
         QuteContext context = Arc.container().instance(QuteContext.class).get();
-        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses);
+        context.setGeneratedClasses(resolverClasses, templateGlobalProviderClasses, compiledExpressionClasses);
+    }
+
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                metricsFactory.builder(REFLECTION_RESOLUTIONS_METRIC_NAME).description(REFLECTION_RESOLUTIONS_METRIC_DESCRIPTION)
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                return Arc.container().instance(EngineProducer.class).get().getReflectionResolutionCount();
+                            }
+                        });
+            }
+        };
     }
 
     public interface QuteContext {
@@ -95,6 +128,12 @@ public interface QuteContext {
 
         List<String> getTemplateGlobalProviderClasses();
 
+        /**
+         *
+         * @return the map of template path to the map of expression to compiled expression class
+         */
+        Map<String, Map<String, String>> getCompiledExpressionClasses();
+
         Set<String> getTemplateRoots();
 
         Map<String, String> getTemplateContents();
@@ -105,8 +144,10 @@ public interface QuteContext {
          *
          * @param resolverClasses
          * @param templateGlobalProviderClasses
+         * @param compiledExpressionClasses
          */
-        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses);
+        void setGeneratedClasses(List<String> resolverClasses, List<String> templateGlobalProviderClasses,
+                Map<String, Map<String, String>> compiledExpressionClasses);
 
     }
 
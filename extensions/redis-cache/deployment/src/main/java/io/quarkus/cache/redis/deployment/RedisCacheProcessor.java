@@ -2,6 +2,7 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
+import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
 import java.util.Collections;
@@ -21,6 +22,7 @@
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.deployment.CacheDeploymentConstants;
@@ -28,12 +30,15 @@
 import io.quarkus.cache.deployment.spi.CacheManagerInfoBuildItem;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildRecorder;
 import io.quarkus.cache.redis.runtime.RedisCacheBuildTimeConfig;
+import io.quarkus.cache.redis.runtime.RedisCacheMetrics;
 import io.quarkus.cache.redis.runtime.RedisCachesBuildTimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.jackson.spi.JacksonSerializationTypeBuildItem;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.smallrye.mutiny.Uni;
@@ -55,6 +60,15 @@ UnremovableBeanBuildItem redisClientUnremoveable() {
         return UnremovableBeanBuildItem.beanTypes(io.vertx.redis.client.Redis.class, io.vertx.mutiny.redis.client.Redis.class);
     }
 
+    @BuildStep
+    void redisCacheMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MICROMETER)) {
+            // if we include this unconditionally the native image building will fail when Micrometer is not around
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisCacheMetrics.class));
+        }
+    }
+
     @BuildStep
     RequestedRedisClientBuildItem requestedRedisClientBuildItem(RedisCachesBuildTimeConfig buildConfig) {
         return new RequestedRedisClientBuildItem(buildConfig.clientName.orElse(RedisConfig.DEFAULT_CLIENT_NAME));
@@ -70,7 +84,8 @@ void nativeImage(BuildProducer<ReflectiveClassBuildItem> producer) {
     @BuildStep
     @Record(STATIC_INIT)
     void determineValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildItem combinedIndex,
-            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig) {
+            CacheNamesBuildItem cacheNamesBuildItem, RedisCachesBuildTimeConfig buildConfig,
+            BuildProducer<JacksonSerializationTypeBuildItem> jacksonSerializationTypes) {
         Map<String, String> resolvedValuesTypesFromAnnotations = valueTypesFromCacheResultAnnotation(combinedIndex);
 
         Map<String, String> valueTypes = new HashMap<>();
@@ -95,6 +110,8 @@ void determineValueTypes(RedisCacheBuildRecorder recorder, CombinedIndexBuildIte
 
             if (valueType != null) {
                 valueTypes.put(cacheName, valueType);
+                // Cached values are encoded with the Jackson based codec unless it's a type with a dedicated codec
+                jacksonSerializationTypes.produce(JacksonSerializationTypeBuildItem.both(valueType));
             } else {
                 throw new DeploymentException("Unable to determine the value type for '" + cacheName
                         + "' Redis cache. An appropriate configuration value for 'quarkus.cache.redis." + cacheName
@@ -129,6 +146,26 @@ private static Map<String, String> valueTypesFromCacheResultAnnotation(CombinedI
             types.add(methodReturnType);
         }
 
+        // then record the map value types of the @BulkCacheResult methods, the signatures are validated by the cache extension
+        for (AnnotationInstance instance : combinedIndex.getIndex()
+                .getAnnotations(CacheDeploymentConstants.BULK_CACHE_RESULT)) {
+            if (instance.target().kind() != METHOD) {
+                continue;
+            }
+            Type mapType = instance.target().asMethod().returnType();
+            if (mapType.kind() == Type.Kind.PARAMETERIZED_TYPE && !CacheDeploymentConstants.MAP.equals(mapType.name())) {
+                // Uni<Map<K, V>> or CompletionStage<Map<K, V>>
+                mapType = mapType.asParameterizedType().arguments().get(0);
+            }
+            AnnotationValue cacheNameValue = instance.value("cacheName");
+            if (cacheNameValue == null || mapType.kind() != Type.Kind.PARAMETERIZED_TYPE
+                    || mapType.asParameterizedType().arguments().size() != 2) {
+                continue;
+            }
+            valueTypesFromAnnotations.computeIfAbsent(cacheNameValue.asString(), k -> new HashSet<>(1))
+                    .add(mapType.asParameterizedType().arguments().get(1));
+        }
+
         if (valueTypesFromAnnotations.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -0,0 +1,91 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.BulkCacheResult;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BulkRedisCacheTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(BulkCachedService.class, TestUtil.class));
+
+    @Inject
+    BulkCachedService bulkCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @Test
+    public void testBulkCacheResult() {
+        Map<String, String> result1 = bulkCachedService.findAll(List.of("1", "2"));
+        assertEquals(Map.of("1", "value-1", "2", "value-2"), result1);
+        Assertions.assertThat(TestUtil.allRedisKeys(redisDataSource)).contains(expectedCacheKey("1"),
+                expectedCacheKey("2"));
+
+        // Only the missing keys are loaded, the result follows the order of the argument.
+        Map<String, String> result2 = bulkCachedService.findAll(List.of("3", "2", "unknown", "1"));
+        assertEquals(List.of("3", "2", "1"), new ArrayList<>(result2.keySet()));
+        assertEquals(List.of(List.of("1", "2"), List.of("3", "unknown")), bulkCachedService.getInvocations());
+        Assertions.assertThat(TestUtil.allRedisKeys(redisDataSource)).doesNotContain(expectedCacheKey("unknown"));
+
+        // The entries loaded in bulk are shared with the single key methods.
+        assertEquals("value-3", bulkCachedService.find("3"));
+        assertFalse(bulkCachedService.isFindInvoked());
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + CACHE_NAME + ":" + key;
+    }
+
+    @ApplicationScoped
+    public static class BulkCachedService {
+
+        private final List<List<String>> invocations = new ArrayList<>();
+        private volatile boolean findInvoked;
+
+        @BulkCacheResult(cacheName = CACHE_NAME)
+        public Map<String, String> findAll(List<String> keys) {
+            invocations.add(List.copyOf(keys));
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("unknown")) {
+                    result.put(key, "value-" + key);
+                }
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String find(String key) {
+            findInvoked = true;
+            return "value-" + key;
+        }
+
+        public List<List<String>> getInvocations() {
+            return invocations;
+        }
+
+        public boolean isFindInvoked() {
+            return findInvoked;
+        }
+    }
+}
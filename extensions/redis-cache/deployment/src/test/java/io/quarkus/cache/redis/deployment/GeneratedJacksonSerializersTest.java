@@ -0,0 +1,91 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class GeneratedJacksonSerializersTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(CachedService.class, Payload.class)
+                    .addAsResource(new StringAsset("quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"),
+                            "application.properties"));
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testApplicationObjectMapperUsesGeneratedSerializers() throws JsonMappingException {
+        // The cache value type is not used by any REST endpoint
+        assertTrue(ResteasyReactiveServerJacksonRecorder.getGeneratedSerializers().contains(
+                objectMapper.getSerializerProviderInstance().findValueSerializer(Payload.class).getClass()));
+        DefaultDeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createDummyInstance(objectMapper.getDeserializationConfig());
+        assertTrue(ResteasyReactiveServerJacksonRecorder.getGeneratedDeserializers().contains(
+                context.findRootValueDeserializer(objectMapper.constructType(Payload.class)).getClass()));
+
+        // The first call stores the value in Redis, the second one reads it back
+        Payload payload = cachedService.getPayload("foo");
+        Payload cached = cachedService.getPayload("foo");
+        assertEquals(1, cachedService.invocations.get());
+        assertEquals(payload.getName(), cached.getName());
+        assertEquals(payload.getCount(), cached.getCount());
+    }
+
+    @Singleton
+    public static class CachedService {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = "payload")
+        public Payload getPayload(String key) {
+            Payload payload = new Payload();
+            payload.setName(key);
+            payload.setCount(invocations.incrementAndGet());
+            return payload;
+        }
+    }
+
+    public static class Payload {
+
+        private String name;
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
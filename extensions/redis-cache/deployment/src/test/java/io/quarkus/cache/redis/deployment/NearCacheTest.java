@@ -0,0 +1,100 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.NearCache;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands.RedisSubscriber;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class NearCacheTest {
+
+    private static final String KEY_1 = "1";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.near-cache-maximum-size", "100");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testNearCache() throws InterruptedException {
+        NearCache nearCache = cache.as(RedisCacheImpl.class).getNearCache();
+        assertNotNull(nearCache);
+        TestUtil.awaitActive(nearCache);
+
+        String value1 = simpleCachedService.cachedMethod(KEY_1);
+        assertEquals(1, nearCache.getSize());
+
+        // The key is removed behind the back of the cache, so the near cache is not notified and still returns the value.
+        redisDataSource.key().del(expectedCacheKey(KEY_1));
+        long localHits = nearCache.getLocalHitCount();
+        assertEquals(value1, simpleCachedService.cachedMethod(KEY_1));
+        assertEquals(localHits + 1, nearCache.getLocalHitCount());
+
+        // An invalidation through the cache API is applied to the near cache.
+        simpleCachedService.invalidate(KEY_1);
+        assertEquals(0, nearCache.getSize());
+        String value2 = simpleCachedService.cachedMethod(KEY_1);
+        assertNotEquals(value1, value2);
+        assertTrue(TestUtil.allRedisKeys(redisDataSource).contains(expectedCacheKey(KEY_1)));
+
+        simpleCachedService.invalidateAll();
+        assertEquals(0, nearCache.getSize());
+    }
+
+    @Test
+    public void testBulkLoadPublishesInvalidations() throws InterruptedException {
+        NearCache nearCache = cache.as(RedisCacheImpl.class).getNearCache();
+        TestUtil.awaitActive(nearCache);
+
+        List<String> messages = new CopyOnWriteArrayList<>();
+        RedisSubscriber subscriber = redisDataSource.pubsub(String.class)
+                .subscribe("cache:" + SimpleCachedService.CACHE_NAME + ":near-cache-invalidations", messages::add);
+        try {
+            Map<String, String> values = cache.<String, String> getAll(List.of("10", "11"), keys -> {
+                Map<String, String> loaded = new HashMap<>();
+                for (String key : keys) {
+                    loaded.put(key, "value" + key);
+                }
+                return Uni.createFrom().item(loaded);
+            }).await().indefinitely();
+            assertEquals(Map.of("10", "value10", "11", "value11"), values);
+
+            // The other instances are told to drop the keys loaded in bulk, the same way as a single loaded key
+            TestUtil.await(() -> messages.stream().anyMatch(m -> m.endsWith(" " + expectedCacheKey("10")))
+                    && messages.stream().anyMatch(m -> m.endsWith(" " + expectedCacheKey("11"))));
+        } finally {
+            subscriber.unsubscribe();
+        }
+    }
+
+    private static String expectedCacheKey(String key) {
+        return "cache:" + SimpleCachedService.CACHE_NAME + ":" + key;
+    }
+}
@@ -0,0 +1,52 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.NearCache;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class NearCacheTrackingTest {
+
+    private static final String KEY_1 = "1";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.near-cache-maximum-size", "100")
+            .overrideConfigKey("quarkus.cache.redis.near-cache-invalidation", "tracking");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testExternalModificationsAreDetected() throws InterruptedException {
+        NearCache nearCache = cache.as(RedisCacheImpl.class).getNearCache();
+        assertNotNull(nearCache);
+        TestUtil.awaitActive(nearCache);
+
+        String value1 = simpleCachedService.cachedMethod(KEY_1);
+        // Redis notifies our own write too, the value is then stored locally again by the next lookups
+        TestUtil.await(() -> value1.equals(simpleCachedService.cachedMethod(KEY_1)) && nearCache.getSize() == 1);
+
+        // The key is modified behind the back of the cache, Redis notifies the near cache.
+        redisDataSource.value(String.class).set("cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY_1, "external");
+        TestUtil.await(() -> nearCache.getSize() == 0);
+        assertEquals("external", simpleCachedService.cachedMethod(KEY_1));
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.cache.redis.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.redis.runtime.RedisCacheImpl;
+import io.quarkus.cache.runtime.CacheRefresher;
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class RefreshAheadRedisCacheTest {
+
+    private static final String KEY = "1";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(SimpleCachedService.class, TestUtil.class))
+            .overrideConfigKey("quarkus.cache.redis.expire-after-write", "1M")
+            .overrideConfigKey("quarkus.cache.redis.refresh-after-write", "1S");
+
+    @Inject
+    SimpleCachedService simpleCachedService;
+
+    @Inject
+    RedisDataSource redisDataSource;
+
+    @CacheName(SimpleCachedService.CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testStaleValueIsServedWhileRefreshed() throws InterruptedException {
+        CacheRefresher refresher = cache.as(RedisCacheImpl.class).getRefresher();
+        assertNotNull(refresher);
+
+        String value1 = simpleCachedService.asyncCachedMethod(KEY).await().indefinitely();
+        assertEquals(value1, simpleCachedService.asyncCachedMethod(KEY).await().indefinitely());
+
+        Thread.sleep(1100L);
+        // The stale value is returned immediately and the refresh is done in the background
+        assertEquals(value1, simpleCachedService.asyncCachedMethod(KEY).await().indefinitely());
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (refresher.getRefreshSuccessCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(1, refresher.getRefreshSuccessCount());
+
+        String value2 = simpleCachedService.asyncCachedMethod(KEY).await().indefinitely();
+        assertNotEquals(value1, value2);
+        String redisKey = "cache:" + SimpleCachedService.CACHE_NAME + ":" + KEY;
+        assertEquals(value2, redisDataSource.value(String.class).get(redisKey));
+        // The refreshed value gets the full time to live again
+        assertTrue(redisDataSource.key().pttl(redisKey) > 59_000L);
+
+        simpleCachedService.invalidateAll();
+    }
+
+    @Test
+    public void testSyncValueIsNotRefreshed() throws InterruptedException {
+        CacheRefresher refresher = cache.as(RedisCacheImpl.class).getRefresher();
+        long refreshes = refresher.getRefreshSuccessCount();
+
+        String value1 = simpleCachedService.cachedMethod(KEY);
+        Thread.sleep(1100L);
+        // The synchronous method is never invoked in the background
+        assertEquals(value1, simpleCachedService.cachedMethod(KEY));
+        Thread.sleep(100L);
+        assertEquals(value1, simpleCachedService.cachedMethod(KEY));
+        assertEquals(refreshes, refresher.getRefreshSuccessCount());
+
+        simpleCachedService.invalidateAll();
+    }
+}
@@ -7,6 +7,7 @@
 import io.quarkus.cache.CacheInvalidate;
 import io.quarkus.cache.CacheInvalidateAll;
 import io.quarkus.cache.CacheResult;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 public class SimpleCachedService {
@@ -18,6 +19,11 @@ public String cachedMethod(String key) {
         return UUID.randomUUID().toString();
     }
 
+    @CacheResult(cacheName = CACHE_NAME)
+    public Uni<String> asyncCachedMethod(String key) {
+        return Uni.createFrom().item(() -> UUID.randomUUID().toString());
+    }
+
     @CacheInvalidate(cacheName = CACHE_NAME)
     public void invalidate(String key) {
     }
@@ -3,7 +3,9 @@
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 
+import io.quarkus.cache.redis.runtime.NearCache;
 import io.quarkus.redis.datasource.RedisDataSource;
 
 final class TestUtil {
@@ -19,4 +21,18 @@ static List<String> allRedisKeys(RedisDataSource redisDataSource) {
         }
         return result;
     }
+
+    static void awaitActive(NearCache nearCache) throws InterruptedException {
+        await(nearCache::isActive);
+    }
+
+    static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met within 10 seconds");
+            }
+            Thread.sleep(10L);
+        }
+    }
 }
@@ -0,0 +1,337 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.NearCacheInvalidation;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A bounded local cache kept in front of a Redis cache.
+ * <p>
+ * The entries are keyed by the actual Redis keys and are dropped when an invalidation message is received, either from the
+ * pub/sub channel of the cache or from Redis itself when the client side caching tracking is used. The near cache is only
+ * used while the invalidation subscription is active, it is bypassed and emptied as soon as the subscription is lost.
+ */
+public class NearCache {
+
+    private static final Logger log = Logger.getLogger(NearCache.class);
+
+    static final String TRACKING_CHANNEL = "__redis__:invalidate";
+    private static final String ALL_KEYS = "*";
+    private static final long RECONNECT_DELAY = 1000L;
+
+    private final String cacheName;
+    private final String keyPrefix;
+    private final String channel;
+    private final NearCacheInvalidation invalidation;
+    private final Vertx vertx;
+    private final Redis redis;
+    private final Cache<String, Object> local;
+    // Identifies the messages published by this instance, which do not need to be applied locally
+    private final String instanceId = UUID.randomUUID().toString();
+    // Incremented on every invalidation, used to discard the values read from Redis while an invalidation was in flight
+    private final AtomicLong version = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+
+    private volatile boolean active;
+    // The following fields are only accessed while holding the lock of this instance
+    private long generation;
+    private RedisConnection subscriber;
+    private RedisConnection tracking;
+    // Whether the subscription was lost and is being restored, the retries are not logged as warnings
+    private boolean reconnecting;
+
+    NearCache(String cacheName, String keyPrefix, RedisCacheInfo cacheInfo, Vertx vertx, Redis redis) {
+        this.cacheName = cacheName;
+        this.keyPrefix = keyPrefix;
+        this.channel = keyPrefix + "near-cache-invalidations";
+        this.invalidation = cacheInfo.nearCacheInvalidation;
+        this.vertx = vertx;
+        this.redis = redis;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        }
+        this.local = builder.build();
+    }
+
+    /**
+     * Returns the value stored locally for the given Redis key, or {@code null} if the value has to be read from Redis.
+     */
+    Object get(String key) {
+        Object value = active ? local.getIfPresent(key) : null;
+        if (value != null) {
+            localHits.increment();
+        } else {
+            localMisses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the current version, to be passed to {@link #putRemoteValue(String, Object, long)} once the value has been read
+     * from Redis.
+     */
+    long version() {
+        return version.get();
+    }
+
+    /**
+     * Records the result of a Redis lookup and stores the value locally unless an invalidation was received in the meantime.
+     */
+    void putRemoteValue(String key, Object value, long version) {
+        if (value == null) {
+            remoteMisses.increment();
+            return;
+        }
+        remoteHits.increment();
+        if (active) {
+            local.put(key, value);
+            if (this.version.get() != version) {
+                // The value may have been modified in Redis after we read it
+                local.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Stores locally a value this instance just wrote to Redis, and tells the other instances to drop their own copy.
+     */
+    Uni<Void> putWrittenValue(String key, Object value) {
+        if (active) {
+            local.put(key, value);
+        }
+        return publish(key);
+    }
+
+    /**
+     * Stores locally the values this instance just wrote to Redis, and tells the other instances to drop their own copies.
+     */
+    Uni<Void> putWrittenValues(Map<String, Object> values) {
+        if (active) {
+            local.putAll(values);
+        }
+        if (invalidation != NearCacheInvalidation.PUBSUB || values.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        // One message per key, the other keys stored by the other instances remain valid
+        List<Request> requests = new ArrayList<>(values.size());
+        for (String key : values.keySet()) {
+            requests.add(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + " " + key));
+        }
+        return redis.batch(requests)
+                .onFailure().invoke(e -> log.debugf(e, "Unable to publish near cache invalidations for cache [%s]", cacheName))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    /**
+     * Drops the given keys locally and tells the other instances to do the same.
+     */
+    Uni<Void> invalidate(List<String> keys) {
+        version.incrementAndGet();
+        local.invalidateAll(keys);
+        if (keys.size() == 1) {
+            return publish(keys.get(0));
+        }
+        // A single message is cheaper than one message per key
+        return publish(ALL_KEYS);
+    }
+
+    /**
+     * Drops all the entries locally and tells the other instances to do the same.
+     */
+    Uni<Void> invalidateAll() {
+        version.incrementAndGet();
+        local.invalidateAll();
+        return publish(ALL_KEYS);
+    }
+
+    private Uni<Void> publish(String key) {
+        if (invalidation != NearCacheInvalidation.PUBSUB) {
+            // Redis notifies all the tracking clients by itself
+            return Uni.createFrom().voidItem();
+        }
+        return redis.send(Request.cmd(Command.PUBLISH).arg(channel).arg(instanceId + " " + key))
+                .onFailure().invoke(e -> log.debugf(e, "Unable to publish a near cache invalidation for cache [%s]", cacheName))
+                .onFailure().recoverWithNull()
+                .replaceWithVoid();
+    }
+
+    public long getLocalHitCount() {
+        return localHits.sum();
+    }
+
+    public long getLocalMissCount() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMissCount() {
+        return remoteMisses.sum();
+    }
+
+    public long getSize() {
+        return local.estimatedSize();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    synchronized void subscribe() {
+        long gen = ++generation;
+        redis.connect()
+                .chain(connection -> {
+                    synchronized (this) {
+                        subscriber = connection;
+                    }
+                    connection.handler(response -> onMessage(gen, response));
+                    connection.exceptionHandler(e -> onDisconnect(gen, e));
+                    connection.endHandler(() -> onDisconnect(gen, null));
+                    if (invalidation == NearCacheInvalidation.TRACKING) {
+                        return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                                .chain(id -> enableTracking(gen, id.toLong()))
+                                .chain(() -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(TRACKING_CHANNEL)));
+                    } else {
+                        return connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel));
+                    }
+                })
+                .subscribe().with(ignored -> {
+                    // The near cache is activated once the subscription is confirmed
+                }, e -> onDisconnect(gen, e));
+    }
+
+    private Uni<Response> enableTracking(long gen, long clientId) {
+        // The tracking is enabled on a second connection which redirects the invalidations to the subscriber connection
+        return redis.connect()
+                .chain(connection -> {
+                    synchronized (this) {
+                        tracking = connection;
+                    }
+                    connection.exceptionHandler(e -> onDisconnect(gen, e));
+                    connection.endHandler(() -> onDisconnect(gen, null));
+                    return connection.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                            .arg("REDIRECT").arg(clientId).arg("BCAST").arg("PREFIX").arg(keyPrefix));
+                });
+    }
+
+    private void onMessage(long gen, Response response) {
+        if (response == null || response.size() < 3) {
+            return;
+        }
+        String type = response.get(0).toString();
+        if ("subscribe".equalsIgnoreCase(type)) {
+            synchronized (this) {
+                if (gen == generation) {
+                    if (reconnecting) {
+                        reconnecting = false;
+                        log.infof("Near cache of cache [%s] enabled again, the invalidation subscription was restored",
+                                cacheName);
+                    } else {
+                        log.debugf("Near cache of cache [%s] activated", cacheName);
+                    }
+                    active = true;
+                }
+            }
+        } else if ("message".equalsIgnoreCase(type)) {
+            Response payload = response.get(2);
+            if (invalidation == NearCacheInvalidation.TRACKING) {
+                // A null payload means that the whole database was flushed
+                if (payload == null) {
+                    invalidateLocally(null);
+                } else {
+                    for (Response key : payload) {
+                        invalidateLocally(key.toString());
+                    }
+                }
+            } else if (payload != null) {
+                String message = payload.toString();
+                int separator = message.indexOf(' ');
+                if (separator > 0 && !message.regionMatches(0, instanceId, 0, separator)) {
+                    String key = message.substring(separator + 1);
+                    invalidateLocally(ALL_KEYS.equals(key) ? null : key);
+                }
+            }
+        }
+    }
+
+    private void invalidateLocally(String key) {
+        version.incrementAndGet();
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private void onDisconnect(long gen, Throwable failure) {
+        RedisConnection oldSubscriber;
+        RedisConnection oldTracking;
+        boolean retry;
+        synchronized (this) {
+            if (gen != generation) {
+                // Already handled
+                return;
+            }
+            generation++;
+            active = false;
+            oldSubscriber = subscriber;
+            oldTracking = tracking;
+            subscriber = null;
+            tracking = null;
+            retry = reconnecting;
+            reconnecting = true;
+        }
+        // The invalidations sent while disconnected are lost
+        invalidateLocally(null);
+        if (oldSubscriber != null) {
+            oldSubscriber.closeAndForget();
+        }
+        if (oldTracking != null) {
+            oldTracking.closeAndForget();
+        }
+        ArcContainer container = Arc.container();
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+        if (retry) {
+            log.debugf("Unable to restore the invalidation subscription of the near cache of cache [%s]: %s", cacheName,
+                    failure != null ? failure.toString() : "connection closed");
+        } else {
+            log.warnf(failure, "Near cache of cache [%s] disabled until the invalidation subscription is restored",
+                    cacheName);
+        }
+        vertx.setTimer(RECONNECT_DELAY, ignored -> subscribe());
+    }
+
+    @Override
+    public String toString() {
+        return "NearCache[" + cacheName + ", size=" + local.estimatedSize() + ", active=" + active + "]";
+    }
+}
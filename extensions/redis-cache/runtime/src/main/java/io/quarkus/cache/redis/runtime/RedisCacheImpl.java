@@ -3,10 +3,18 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -18,6 +26,7 @@
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresher;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
@@ -62,6 +71,11 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // null if the near cache is disabled
+    private final NearCache nearCache;
+    // null if the refresh is disabled
+    private final CacheRefresher refresher;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -101,6 +115,24 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.nearCacheMaximumSize != null) {
+            this.nearCache = new NearCache(getName(), getKeyPrefix(), cacheInfo, vertx, redis);
+            this.nearCache.subscribe();
+        } else {
+            this.nearCache = null;
+        }
+
+        if (cacheInfo.refreshAfterWrite.isPresent()
+                && (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent())) {
+            log.warnf("The refresh-after-write of cache '%s' is ignored because it requires expire-after-write to be set "
+                    + "and expire-after-access not to be set", getName());
+            this.refresher = null;
+        } else if (cacheInfo.refreshAfterWrite.isPresent()) {
+            this.refresher = new CacheRefresher(getName(), cacheInfo.refreshAfterWrite.get());
+        } else {
+            this.refresher = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -163,18 +195,29 @@ public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        // With the near cache, the local value is returned if present and the Redis value is stored locally otherwise.
+        String actualKey = computeActualKey(encodeKey(key));
+        Uni<V> local = getFromNearCache(actualKey);
+        if (local != null) {
+            return local;
+        }
+        long nearCacheVersion = nearCache != null ? nearCache.version() : 0L;
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
+        // The values of a synchronous loader are not refreshed: the loader would have to run in the background,
+        // outside of the request context, security identity and Vert.x context of the caller
+        Supplier<Uni<?>> refresh = null;
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller, actualKey, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller, actualKey, refresh).get();
                 }
+                startingPoint = startingPoint.invoke(new NearCacheRemoteLookup<>(actualKey, nearCacheVersion));
 
                 return startingPoint
                         .chain(Unchecked.function(new UncheckedFunction<>() {
@@ -200,9 +243,12 @@ public Uni<?> apply(V value) {
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
                                                 result = multi(connection, set(connection, encodedKey, encodedValue))
+                                                        .call(new NearCacheWrite(actualKey, value))
                                                         .replaceWith(value);
                                             } else {
-                                                result = set(connection, encodedKey, encodedValue).replaceWith(value);
+                                                result = set(connection, encodedKey, encodedValue)
+                                                        .call(new NearCacheWrite(actualKey, value))
+                                                        .replaceWith(value);
                                             }
                                             if (isWorkerThread) {
                                                 return result.runSubscriptionOn(
@@ -228,17 +274,37 @@ public Uni<? extends V> apply(Throwable e) {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        Uni<V> local = getFromNearCache(actualKey);
+        if (local != null) {
+            return local;
+        }
+        long nearCacheVersion = nearCache != null ? nearCache.version() : 0L;
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Supplier<Uni<?>> refresh = refresher == null ? null : new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                // The loader is invoked at the same point of the lookup as for a missing value
+                return valueLoader.apply(key)
+                        .chain(new Function<V, Uni<?>>() {
+                            @Override
+                            public Uni<?> apply(V value) {
+                                return setRefreshedValue(actualKey, encodedKey, value);
+                            }
+                        });
+            }
+        };
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller, actualKey, refresh));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<>(connection, clazz, encodedKey, marshaller, actualKey, refresh).get();
                 }
+                startingPoint = startingPoint.invoke(new NearCacheRemoteLookup<>(actualKey, nearCacheVersion));
 
                 return startingPoint
                         .chain(cached -> {
@@ -256,9 +322,11 @@ public Uni<V> apply(RedisConnection connection) {
                                             byte[] encodedValue = marshaller.encode(value);
                                             if (cacheInfo.useOptimisticLocking) {
                                                 return multi(connection, set(connection, encodedKey, encodedValue))
+                                                        .call(new NearCacheWrite(actualKey, value))
                                                         .replaceWith(value);
                                             } else {
                                                 return set(connection, encodedKey, encodedValue)
+                                                        .call(new NearCacheWrite(actualKey, value))
                                                         .replaceWith(value);
                                             }
                                         });
@@ -272,6 +340,168 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        // All the keys are read with a single MGET (or pipelined GETEX commands) and the missing values are loaded with a
+        // single loader invocation and written with pipelined SET commands.
+        // Optimistic locking is not supported by bulk lookups.
+        enforceDefaultType();
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> get() {
+                Map<K, Object> values = new HashMap<>();
+                List<K> remoteKeys = new ArrayList<>();
+                List<String> remoteActualKeys = new ArrayList<>();
+                for (K key : keys) {
+                    Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+                    String actualKey = computeActualKey(encodeKey(key));
+                    Object local = nearCache != null ? nearCache.get(actualKey) : null;
+                    if (local != null) {
+                        values.put(key, local);
+                    } else {
+                        remoteKeys.add(key);
+                        remoteActualKeys.add(actualKey);
+                    }
+                }
+                if (remoteKeys.isEmpty()) {
+                    return Uni.createFrom().item(orderedResult(keys, values));
+                }
+                long nearCacheVersion = nearCache != null ? nearCache.version() : 0L;
+                return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(RedisConnection connection) {
+                        return multiGet(connection, remoteActualKeys)
+                                .chain(new Function<List<Object>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<Map<K, V>> apply(List<Object> remoteValues) {
+                                        Set<K> missingKeys = new LinkedHashSet<>();
+                                        Map<K, String> missingActualKeys = new HashMap<>();
+                                        for (int i = 0; i < remoteKeys.size(); i++) {
+                                            Object value = remoteValues.get(i);
+                                            if (nearCache != null) {
+                                                nearCache.putRemoteValue(remoteActualKeys.get(i), value, nearCacheVersion);
+                                            }
+                                            if (value != null) {
+                                                values.put(remoteKeys.get(i), value);
+                                            } else {
+                                                missingKeys.add(remoteKeys.get(i));
+                                                missingActualKeys.put(remoteKeys.get(i), remoteActualKeys.get(i));
+                                            }
+                                        }
+                                        if (missingKeys.isEmpty()) {
+                                            return Uni.createFrom().item(orderedResult(keys, values));
+                                        }
+                                        Uni<Map<K, V>> loaded = valuesLoader.apply(missingKeys);
+                                        if (isWorkerThread) {
+                                            loaded = loaded.runSubscriptionOn(
+                                                    MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+                                        }
+                                        return loaded.call(new Function<Map<K, V>, Uni<?>>() {
+                                            @Override
+                                            public Uni<?> apply(Map<K, V> loadedValues) {
+                                                return multiSet(connection, missingActualKeys, loadedValues);
+                                            }
+                                        }).map(new Function<Map<K, V>, Map<K, V>>() {
+                                            @Override
+                                            public Map<K, V> apply(Map<K, V> loadedValues) {
+                                                for (K key : missingKeys) {
+                                                    if (loadedValues.containsKey(key)) {
+                                                        values.put(key, loadedValues.get(key));
+                                                    }
+                                                }
+                                                return orderedResult(keys, values);
+                                            }
+                                        });
+                                    }
+                                });
+                    }
+                });
+            }
+        }).onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> apply(Throwable e) {
+                log.warn("Unable to connect to Redis, recomputing cached values", e);
+                return valuesLoader.apply(new LinkedHashSet<>(keys));
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> Map<K, V> orderedResult(Collection<K> keys, Map<K, Object> values) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (values.containsKey(key)) {
+                result.put(key, (V) values.get(key));
+            }
+        }
+        return result;
+    }
+
+    private Uni<List<Object>> multiGet(RedisConnection connection, List<String> actualKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            // MGET does not refresh the time to live of the keys
+            long seconds = cacheInfo.expireAfterAccess.get().toSeconds();
+            List<Request> requests = new ArrayList<>(actualKeys.size());
+            for (String actualKey : actualKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(marshaller.encode(actualKey)).arg("EX").arg(seconds));
+            }
+            return connection.batch(requests).map(new Function<List<Response>, List<Object>>() {
+                @Override
+                public List<Object> apply(List<Response> responses) {
+                    List<Object> result = new ArrayList<>(responses.size());
+                    for (Response response : responses) {
+                        result.add(marshaller.decode(classOfValue, response));
+                    }
+                    return result;
+                }
+            });
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (String actualKey : actualKeys) {
+            request.arg(marshaller.encode(actualKey));
+        }
+        return connection.send(request).map(new Function<Response, List<Object>>() {
+            @Override
+            public List<Object> apply(Response response) {
+                List<Object> result = new ArrayList<>(response.size());
+                for (int i = 0; i < response.size(); i++) {
+                    result.add(marshaller.decode(classOfValue, response.get(i)));
+                }
+                return result;
+            }
+        });
+    }
+
+    private <K, V> Uni<Void> multiSet(RedisConnection connection, Map<K, String> actualKeys, Map<K, V> loadedValues) {
+        List<Request> requests = new ArrayList<>(loadedValues.size());
+        Map<String, Object> written = nearCache != null ? new HashMap<>() : null;
+        for (Map.Entry<K, V> entry : loadedValues.entrySet()) {
+            String actualKey = actualKeys.get(entry.getKey());
+            // Redis cannot store null values and the loader may return more keys than requested
+            if (actualKey != null && entry.getValue() != null) {
+                Request request = Request.cmd(Command.SET).arg(marshaller.encode(actualKey))
+                        .arg(marshaller.encode(entry.getValue()));
+                if (cacheInfo.expireAfterWrite.isPresent()) {
+                    request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+                }
+                requests.add(request);
+                if (written != null) {
+                    written.put(actualKey, entry.getValue());
+                }
+            }
+        }
+        if (requests.isEmpty()) {
+            return Uni.createFrom().voidItem();
+        }
+        Uni<Void> result = connection.batch(requests).replaceWithVoid();
+        if (written != null) {
+            // Other instances may hold a value for these keys, e.g. if it was invalidated and loaded again in the meantime
+            result = result.call(() -> nearCache.putWrittenValues(written));
+        }
+        return result;
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -279,12 +509,15 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        String actualKey = computeActualKey(encodeKey(key));
+        V value = supplier.get();
+        byte[] encodedKey = marshaller.encode(actualKey);
+        byte[] encodedValue = marshaller.encode(value);
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
-                return set(connection, encodedKey, encodedValue);
+                return set(connection, encodedKey, encodedValue)
+                        .call(new NearCacheWrite(actualKey, value));
             }
         });
     }
@@ -300,33 +533,51 @@ private void enforceDefaultType() {
     @Override
     public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
         enforceDefaultType();
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        Uni<V> local = getFromNearCache(actualKey);
+        if (local != null) {
+            return local;
+        }
+        long nearCacheVersion = nearCache != null ? nearCache.version() : 0L;
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        }).invoke(new NearCacheRemoteLookup<>(actualKey, nearCacheVersion))
+                .onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
         enforceDefaultType();
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        Uni<V> local = getFromNearCache(actualKey);
+        if (local != null) {
+            return local;
+        }
+        long nearCacheVersion = nearCache != null ? nearCache.version() : 0L;
+        byte[] encodedKey = marshaller.encode(actualKey);
         return withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return (Uni<V>) doGet(redisConnection, encodedKey, classOfValue, marshaller);
             }
-        });
+        }).invoke(new NearCacheRemoteLookup<>(actualKey, nearCacheVersion));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<Void> result = redis.send(Request.cmd(Command.DEL).arg(encodedKey))
                 .replaceWithVoid();
+        if (nearCache != null) {
+            result = result.call(() -> nearCache.invalidate(List.of(actualKey)));
+        }
+        return result;
     }
 
     @Override
@@ -342,20 +593,29 @@ public Uni<Void> invalidateIf(Predicate<Object> predicate) {
                     @Override
                     public Uni<?> apply(List<String> listOfKeys) {
                         var req = Request.cmd(Command.DEL);
-                        boolean hasAtLEastOneMatch = false;
+                        List<String> matchingKeys = new ArrayList<>();
                         for (String key : listOfKeys) {
                             Object userKey = computeUserKey(key);
                             if (predicate.test(userKey)) {
-                                hasAtLEastOneMatch = true;
+                                matchingKeys.add(key);
                                 req.arg(marshaller.encode(key));
                             }
                         }
-                        if (hasAtLEastOneMatch) {
+                        Uni<?> result;
+                        if (!matchingKeys.isEmpty()) {
                             // We cannot send the command with parameters, it would not be a valid command.
-                            return redis.send(req);
+                            result = redis.send(req);
                         } else {
-                            return Uni.createFrom().voidItem();
+                            result = Uni.createFrom().voidItem();
+                        }
+                        if (nearCache != null) {
+                            if (predicate == AlwaysTruePredicate.INSTANCE) {
+                                result = result.call(nearCache::invalidateAll);
+                            } else if (!matchingKeys.isEmpty()) {
+                                result = result.call(() -> nearCache.invalidate(matchingKeys));
+                            }
                         }
+                        return result;
                     }
                 })
                 .replaceWithVoid();
@@ -369,6 +629,39 @@ String computeActualKey(String key) {
         }
     }
 
+    private String getKeyPrefix() {
+        if (cacheInfo.prefix != null) {
+            return cacheInfo.prefix + ":";
+        } else {
+            return "cache:" + getName() + ":";
+        }
+    }
+
+    /**
+     * Returns the near cache of this cache, or {@code null} if the near cache is disabled.
+     */
+    public NearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * Returns the refresher of this cache, or {@code null} if the refresh is disabled.
+     */
+    public CacheRefresher getRefresher() {
+        return refresher;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> Uni<V> getFromNearCache(String actualKey) {
+        if (nearCache != null) {
+            Object value = nearCache.get(actualKey);
+            if (value != null) {
+                return Uni.createFrom().item((V) value);
+            }
+        }
+        return null;
+    }
+
     Object computeUserKey(String key) {
         String prefix = cacheInfo.prefix != null ? cacheInfo.prefix : "cache:" + getName();
         if (!key.startsWith(prefix + ":")) {
@@ -430,6 +723,60 @@ public X apply(Response r) {
         }
     }
 
+    /**
+     * Reads the value and its remaining time to live in a single round trip, and starts the refresh of the value if its age
+     * exceeds the {@code refresh-after-write} duration. The stale value is returned without waiting for the refresh.
+     */
+    private <X> Uni<X> doGetAndRefreshIfStale(RedisConnection connection, byte[] encoded, Class<X> clazz,
+            Marshaller marshaller, String actualKey, Supplier<Uni<?>> refresh) {
+        List<Request> requests = List.of(Request.cmd(Command.GET).arg(encoded), Request.cmd(Command.PTTL).arg(encoded));
+        return connection.batch(requests)
+                .map(new Function<List<Response>, X>() {
+                    @Override
+                    public X apply(List<Response> responses) {
+                        X value = marshaller.decode(clazz, responses.get(0));
+                        Response ttl = responses.get(1);
+                        // A negative TTL means that the key is missing or has no expiration
+                        if (value != null && ttl != null && ttl.toLong() >= 0) {
+                            long ageMillis = cacheInfo.expireAfterWrite.get().toMillis() - ttl.toLong();
+                            if (refresher.isStale(TimeUnit.MILLISECONDS.toNanos(ageMillis))) {
+                                refresher.refresh(actualKey, refresh);
+                            }
+                        }
+                        return value;
+                    }
+                });
+    }
+
+    /**
+     * Stores a refreshed value, unless the key was invalidated during the refresh.
+     */
+    private <V> Uni<Void> setRefreshedValue(String actualKey, byte[] encodedKey, V value) {
+        if (value == null) {
+            return Uni.createFrom().failure(new IllegalArgumentException("Cannot cache `null` value"));
+        }
+        byte[] encodedValue = marshaller.encode(value);
+        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+            @Override
+            public Uni<Void> apply(RedisConnection connection) {
+                Request request = Request.cmd(Command.SET).arg(encodedKey).arg(encodedValue)
+                        .arg("PX").arg(cacheInfo.expireAfterWrite.get().toMillis()).arg("XX");
+                return connection.send(request)
+                        .chain(new Function<Response, Uni<?>>() {
+                            @Override
+                            public Uni<?> apply(Response response) {
+                                // A null response means that the key no longer exists
+                                if (response == null) {
+                                    return Uni.createFrom().voidItem();
+                                }
+                                return new NearCacheWrite(actualKey, value).get();
+                            }
+                        })
+                        .replaceWithVoid();
+            }
+        });
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
@@ -473,20 +820,64 @@ public V get() {
         private final Class<V> clazz;
         private final byte[] encodedKey;
         private final Marshaller marshaller;
+        private final String actualKey;
+        // null if the refresh is disabled
+        private final Supplier<Uni<?>> refresh;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Class<V> clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Class<V> clazz, byte[] encodedKey, Marshaller marshaller,
+                String actualKey, Supplier<Uni<?>> refresh) {
             this.connection = connection;
             this.clazz = clazz;
             this.encodedKey = encodedKey;
             this.marshaller = marshaller;
+            this.actualKey = actualKey;
+            this.refresh = refresh;
         }
 
         @Override
         public Uni<V> get() {
+            if (refresh != null) {
+                return doGetAndRefreshIfStale(connection, encodedKey, clazz, marshaller, actualKey, refresh);
+            }
             return doGet(connection, encodedKey, clazz, marshaller);
         }
     }
 
+    private class NearCacheRemoteLookup<V> implements Consumer<V> {
+        private final String actualKey;
+        private final long nearCacheVersion;
+
+        NearCacheRemoteLookup(String actualKey, long nearCacheVersion) {
+            this.actualKey = actualKey;
+            this.nearCacheVersion = nearCacheVersion;
+        }
+
+        @Override
+        public void accept(V value) {
+            if (nearCache != null) {
+                nearCache.putRemoteValue(actualKey, value, nearCacheVersion);
+            }
+        }
+    }
+
+    private class NearCacheWrite implements Supplier<Uni<?>> {
+        private final String actualKey;
+        private final Object value;
+
+        NearCacheWrite(String actualKey, Object value) {
+            this.actualKey = actualKey;
+            this.value = value;
+        }
+
+        @Override
+        public Uni<?> get() {
+            if (nearCache != null) {
+                return nearCache.putWrittenValue(actualKey, value);
+            }
+            return Uni.createFrom().voidItem();
+        }
+    }
+
     private static class AlwaysTruePredicate implements Predicate<Object> {
 
         public static AlwaysTruePredicate INSTANCE = new AlwaysTruePredicate();
@@ -3,6 +3,8 @@
 import java.time.Duration;
 import java.util.Optional;
 
+import io.quarkus.cache.redis.runtime.RedisCacheRuntimeConfig.NearCacheInvalidation;
+
 public class RedisCacheInfo {
 
     /**
@@ -20,6 +22,11 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The age after which the entries are refreshed in the background
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -42,4 +49,19 @@ public class RedisCacheInfo {
      * Locking</a> for details.
      */
     public boolean useOptimisticLocking = false;
+
+    /**
+     * The maximum number of entries of the near cache, {@code null} if the near cache is disabled
+     */
+    public Long nearCacheMaximumSize;
+
+    /**
+     * The time to live of the near cache entries
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * How the near cache entries are invalidated
+     */
+    public NearCacheInvalidation nearCacheInvalidation = NearCacheInvalidation.PUBSUB;
 }
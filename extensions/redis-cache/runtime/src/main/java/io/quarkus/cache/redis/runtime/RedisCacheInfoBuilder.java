@@ -42,6 +42,12 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesBuild
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.ttl;
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite;
+                } else if (defaultRuntimeConfig.refreshAfterWrite.isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite;
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.prefix.isPresent()) {
                     cacheInfo.prefix = namedRuntimeConfig.prefix.get();
                 } else if (defaultRuntimeConfig.prefix.isPresent()) {
@@ -66,6 +72,26 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesBuild
                     cacheInfo.useOptimisticLocking = defaultRuntimeConfig.useOptimisticLocking.get();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize.get();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite;
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite;
+                } else {
+                    cacheInfo.nearCacheExpireAfterWrite = cacheInfo.expireAfterWrite;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheInvalidation.isPresent()) {
+                    cacheInfo.nearCacheInvalidation = namedRuntimeConfig.nearCacheInvalidation.get();
+                } else if (defaultRuntimeConfig.nearCacheInvalidation.isPresent()) {
+                    cacheInfo.nearCacheInvalidation = defaultRuntimeConfig.nearCacheInvalidation.get();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
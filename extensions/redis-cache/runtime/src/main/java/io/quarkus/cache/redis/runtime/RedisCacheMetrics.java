@@ -0,0 +1,61 @@
+package io.quarkus.cache.redis.runtime;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.caffeine.metrics.MicrometerMetricsInitializer;
+import io.quarkus.runtime.StartupEvent;
+
+/**
+ * Exposes the hits and misses of the Redis near caches and the refreshes of the stale values as Micrometer metrics. This
+ * bean is only registered when the application depends on a quarkus-micrometer-registry-* extension.
+ */
+@Singleton
+public class RedisCacheMetrics {
+
+    void init(@Observes StartupEvent event, CacheManager cacheManager) {
+        MicrometerMetricsInitializer metricsInitializer = new MicrometerMetricsInitializer();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName).orElse(null);
+            if (cache instanceof RedisCacheImpl) {
+                RedisCacheImpl redisCache = (RedisCacheImpl) cache;
+                if (redisCache.getNearCache() != null) {
+                    registerNearCache(redisCache.getNearCache(), cacheName);
+                }
+                if (redisCache.getRefresher() != null) {
+                    metricsInitializer.recordRefreshMetrics(redisCache.getRefresher(), cacheName);
+                }
+            }
+        }
+    }
+
+    private static void registerNearCache(NearCache nearCache, String cacheName) {
+        Tags tags = Tags.of("cache", cacheName);
+        FunctionCounter.builder("cache.near.gets", nearCache, NearCache::getLocalHitCount)
+                .tags(tags).tag("level", "local").tag("result", "hit")
+                .description("The number of times cache lookup methods found a value in the near cache")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.near.gets", nearCache, NearCache::getLocalMissCount)
+                .tags(tags).tag("level", "local").tag("result", "miss")
+                .description("The number of times cache lookup methods did not find a value in the near cache")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.near.gets", nearCache, NearCache::getRemoteHitCount)
+                .tags(tags).tag("level", "remote").tag("result", "hit")
+                .description("The number of times cache lookup methods found a value in Redis after a near cache miss")
+                .register(Metrics.globalRegistry);
+        FunctionCounter.builder("cache.near.gets", nearCache, NearCache::getRemoteMissCount)
+                .tags(tags).tag("level", "remote").tag("result", "miss")
+                .description("The number of times cache lookup methods did not find a value in Redis after a near cache miss")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("cache.near.size", nearCache, NearCache::getSize)
+                .tags(tags)
+                .description("The approximate number of entries in the near cache")
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -31,6 +31,17 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     Optional<Duration> expireAfterAccess;
 
+    /**
+     * Specifies that each entry should be refreshed once a fixed duration has elapsed after the entry's creation, or the
+     * most recent replacement of its value. A stale value is returned immediately and a single asynchronous reload of the
+     * value is triggered by this application instance. Only the entries loaded asynchronously, by methods returning
+     * {@code Uni} or {@code CompletionStage} or through {@code Cache#getAsync}, are refreshed.
+     * The age of the entries is computed from their remaining time to live, so this setting is ignored if
+     * {@code expire-after-write} is not set or if {@code expire-after-access} is set.
+     */
+    @ConfigItem
+    public Optional<Duration> refreshAfterWrite;
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -47,4 +58,40 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> useOptimisticLocking;
 
+    /**
+     * The maximum number of entries of the near cache, a local in-memory cache kept in front of Redis.
+     * Values found in the near cache are returned without any round trip to Redis.
+     * The near cache is disabled if this property is not set.
+     */
+    @ConfigItem
+    public Optional<Long> nearCacheMaximumSize;
+
+    /**
+     * Specifies that each entry of the near cache should be automatically removed once a fixed duration has elapsed after
+     * its creation. This bounds the staleness of the near cache entries if an invalidation message is lost.
+     * If not set, the {@code expire-after-write} duration of the cache is used.
+     */
+    @ConfigItem
+    public Optional<Duration> nearCacheExpireAfterWrite;
+
+    /**
+     * How the near cache entries are invalidated when the corresponding Redis keys are modified.
+     * Default is {@code pubsub}.
+     */
+    @ConfigItem
+    public Optional<NearCacheInvalidation> nearCacheInvalidation;
+
+    public enum NearCacheInvalidation {
+        /**
+         * The invalidations are published by the applications on a Redis pub/sub channel dedicated to the cache.
+         * Only the modifications made through the Quarkus cache API are detected.
+         */
+        PUBSUB,
+        /**
+         * The invalidations are sent by Redis using server-assisted client side caching ({@code CLIENT TRACKING} in
+         * broadcasting mode), so any modification of the keys is detected. Requires Redis 6 or later.
+         */
+        TRACKING
+    }
+
 }
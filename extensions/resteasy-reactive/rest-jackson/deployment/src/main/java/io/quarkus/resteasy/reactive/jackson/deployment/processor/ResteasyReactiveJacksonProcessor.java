@@ -62,6 +62,7 @@
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.spi.JacksonSerializationTypeBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusResteasyReactiveDotNames;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
@@ -385,6 +386,7 @@ public void initializeRolesAllowedConfigExp(ResteasyReactiveServerJacksonRecorde
     public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
             JaxRsResourceIndexBuildItem jaxRsIndex, CombinedIndexBuildItem index,
             ResteasyReactiveServerJacksonRecorder recorder,
+            List<JacksonSerializationTypeBuildItem> serializationTypes,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer) {
 
         IndexView indexView = jaxRsIndex.getIndexView();
@@ -409,6 +411,20 @@ public void handleEndpointParams(ResteasyReactiveResourceMethodEntriesBuildItem
             }
         }
 
+        // Types (de)serialized by other extensions, e.g. Kafka payloads
+        for (JacksonSerializationTypeBuildItem serializationType : serializationTypes) {
+            ClassInfo classInfo = index.getIndex().getClassByName(serializationType.getClassName());
+            if (classInfo == null) {
+                continue;
+            }
+            if (serializationType.isSerialization()) {
+                serializedClasses.put(classInfo.name().toString(), classInfo);
+            }
+            if (serializationType.isDeserialization()) {
+                deserializedClasses.put(classInfo.name().toString(), classInfo);
+            }
+        }
+
         if (!serializedClasses.isEmpty()) {
             JacksonSerializerFactory factory = new JacksonSerializerFactory(generatedClassBuildItemBuildProducer,
                     index.getComputingIndex());
@@ -0,0 +1,85 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.function.Consumer;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.builder.BuildContext;
+import io.quarkus.builder.BuildStep;
+import io.quarkus.jackson.spi.JacksonSerializationTypeBuildItem;
+import io.quarkus.resteasy.reactive.jackson.runtime.ResteasyReactiveServerJacksonRecorder;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class JacksonSerializationTypeTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar
+                    .addClasses(Payload.class)
+                    .addAsResource(new StringAsset("quarkus.rest.jackson.optimization.enable-reflection-free-serializers=true\n"),
+                            "application.properties"))
+            .addBuildChainCustomizer(new Consumer<BuildChainBuilder>() {
+                @Override
+                public void accept(BuildChainBuilder builder) {
+                    builder.addBuildStep(new BuildStep() {
+                        @Override
+                        public void execute(BuildContext context) {
+                            // Not used by any endpoint, e.g. the payload of a Kafka record
+                            context.produce(JacksonSerializationTypeBuildItem.both(Payload.class.getName()));
+                        }
+                    }).produces(JacksonSerializationTypeBuildItem.class).build();
+                }
+            });
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    @Test
+    public void testGeneratedSerializers() throws JsonProcessingException {
+        assertThat(ResteasyReactiveServerJacksonRecorder.getGeneratedSerializers())
+                .anySatisfy(c -> assertThat(c.getName()).startsWith(Payload.class.getName()));
+        assertThat(ResteasyReactiveServerJacksonRecorder.getGeneratedDeserializers())
+                .anySatisfy(c -> assertThat(c.getName()).startsWith(Payload.class.getName()));
+
+        Payload payload = new Payload();
+        payload.setName("foo");
+        payload.setCount(42);
+        String json = objectMapper.writeValueAsString(payload);
+        Payload read = objectMapper.readValue(json, Payload.class);
+        assertEquals("foo", read.getName());
+        assertEquals(42, read.getCount());
+    }
+
+    public static class Payload {
+
+        private String name;
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+    }
+}
@@ -19,4 +19,21 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then the output of a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource
+     * method is not concatenated into a {@link String}. Instead, the parts of the rendered output are kept and encoded
+     * directly into the response body once the rendering is finished.
+     * <p>
+     * The output is not streamed: no bytes are sent before the rendering is finished.
+     * <p>
+     * Note that the response entity seen by the response filters and writer interceptors is a
+     * {@link io.quarkus.resteasy.reactive.qute.runtime.TemplateOutput} instead of a {@link String}.
+     * <p>
+     * The content type must be known before the rendering starts, i.e. the resource method must declare
+     * {@link jakarta.ws.rs.Produces} or the template must have a variant. Otherwise, the output is converted to a
+     * {@link String}.
+     */
+    @WithDefault("false")
+    boolean avoidStringCopy();
+
 }
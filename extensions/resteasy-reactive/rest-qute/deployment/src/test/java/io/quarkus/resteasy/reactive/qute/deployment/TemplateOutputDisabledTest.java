@@ -0,0 +1,29 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateOutputDisabledTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TemplateOutputTest.TestResource.class, TemplateOutputTest.EntityFilter.class)
+                    .addAsResource(new StringAsset("{#for i in total}<li>Item {i} ({name})</li>{/for}"), "templates/items.txt"));
+
+    @Test
+    public void testStringEntity() {
+        // The template output is converted to a String by default
+        when().get("/test").then().statusCode(200)
+                .contentType("text/plain")
+                .header("X-Entity", String.class.getName())
+                .body(Matchers.startsWith("<li>Item 1 (foo)</li><li>Item 2 (foo)</li>"));
+    }
+
+}
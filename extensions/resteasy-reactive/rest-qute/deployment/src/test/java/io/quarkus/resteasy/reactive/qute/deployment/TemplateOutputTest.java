@@ -0,0 +1,95 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.ext.Provider;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateOutput;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class TemplateOutputTest {
+
+    private static final int ITEMS = 5000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, EntityFilter.class)
+                    .addAsResource(new StringAsset("{#for i in total}<li>Item {i} ({name})</li>{/for}"), "templates/items.txt"))
+            .overrideConfigKey("quarkus.rest.qute.avoid-string-copy", "true");
+
+    @Test
+    public void testLargeOutput() {
+        when().get("/test").then().statusCode(200)
+                .contentType("text/plain")
+                // The response is ended with a single buffer
+                .header("Content-Length", String.valueOf(expected("foo").length()))
+                .header("X-Entity", TemplateOutput.class.getName())
+                .header("X-Entity-Length", String.valueOf(expected("foo").length()))
+                .body(Matchers.is(expected("foo")));
+    }
+
+    @Test
+    public void testAsyncData() {
+        when().get("/test/async").then().statusCode(200)
+                .header("X-Entity", TemplateOutput.class.getName())
+                .body(Matchers.is(expected("bar")));
+    }
+
+    private static String expected(String name) {
+        return IntStream.rangeClosed(1, ITEMS).mapToObj(i -> "<li>Item " + i + " (" + name + ")</li>")
+                .collect(Collectors.joining());
+    }
+
+    @Provider
+    public static class EntityFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            // Response filters see the template output instead of a String
+            Object entity = responseContext.getEntity();
+            responseContext.getHeaders().add("X-Entity", entity.getClass().getName());
+            responseContext.getHeaders().add("X-Entity-Length", entity.toString().length());
+        }
+
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template items;
+
+        @GET
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance get() {
+            return items.data("total", ITEMS).data("name", "foo");
+        }
+
+        @GET
+        @Path("async")
+        @Produces(MediaType.TEXT_PLAIN)
+        public TemplateInstance async() {
+            return items.data("total", ITEMS).data("name", CompletableFuture.supplyAsync(() -> "bar"));
+        }
+    }
+}
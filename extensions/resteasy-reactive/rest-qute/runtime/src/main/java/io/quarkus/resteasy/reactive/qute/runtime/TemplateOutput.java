@@ -0,0 +1,51 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The output of a rendered template, i.e. the parts passed to the consumer of
+ * {@link io.quarkus.qute.TemplateInstance#consume(java.util.function.Consumer)}.
+ * <p>
+ * The parts are not concatenated into a single string. Instead, they're encoded one by one into the response body by
+ * {@link TemplateOutputMessageBodyWriter} once the rendering is finished.
+ */
+public final class TemplateOutput {
+
+    private final List<String> parts = new ArrayList<>();
+
+    void add(String part) {
+        parts.add(part);
+    }
+
+    byte[] getBytes(Charset charset) {
+        byte[][] encoded = new byte[parts.size()][];
+        int length = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = parts.get(i).getBytes(charset);
+            length += encoded[i].length;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (byte[] part : encoded) {
+            System.arraycopy(part, 0, bytes, offset, part.length);
+            offset += part.length;
+        }
+        return bytes;
+    }
+
+    void writeTo(Writer writer) throws IOException {
+        for (String part : parts) {
+            writer.write(part);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.join("", parts);
+    }
+
+}
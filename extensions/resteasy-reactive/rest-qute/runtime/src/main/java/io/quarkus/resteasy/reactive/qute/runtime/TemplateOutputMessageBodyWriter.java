@@ -0,0 +1,65 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Writes the {@link TemplateOutput} to the response.
+ * <p>
+ * The parts of the output are encoded directly into the response body, i.e. the response is ended with a single buffer and
+ * the writing thread never waits for the write queue of the connection. If writer interceptors are registered, the output
+ * is written to the entity stream instead.
+ */
+public class TemplateOutputMessageBodyWriter implements ServerMessageBodyWriter<TemplateOutput> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateOutput.class.equals(type);
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return TemplateOutput.class.equals(type);
+    }
+
+    @Override
+    public void writeTo(TemplateOutput output, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        Writer writer = new OutputStreamWriter(entityStream, getCharset(mediaType));
+        output.writeTo(writer);
+        // Do not close the entity stream
+        writer.flush();
+    }
+
+    @Override
+    public void writeResponse(TemplateOutput output, Type genericType, ServerRequestContext context)
+            throws WebApplicationException {
+        // Do not use the response output stream, it may block if the write queue is full
+        context.serverResponse().end(output.getBytes(getCharset(context.getResponseMediaType())));
+    }
+
+    private static Charset getCharset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+}
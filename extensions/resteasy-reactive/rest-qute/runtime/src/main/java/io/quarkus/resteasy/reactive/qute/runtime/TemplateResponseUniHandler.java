@@ -17,6 +17,23 @@ public class TemplateResponseUniHandler implements ServerRestHandler {
 
     private volatile Engine engine;
 
+    private boolean avoidStringCopy;
+
+    public TemplateResponseUniHandler() {
+    }
+
+    public TemplateResponseUniHandler(boolean avoidStringCopy) {
+        this.avoidStringCopy = avoidStringCopy;
+    }
+
+    public boolean isAvoidStringCopy() {
+        return avoidStringCopy;
+    }
+
+    public void setAvoidStringCopy(boolean avoidStringCopy) {
+        this.avoidStringCopy = avoidStringCopy;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) {
         Object result = requestContext.getResult();
@@ -36,10 +53,15 @@ public void handle(ResteasyReactiveRequestContext requestContext) {
         requestContext.setResult(createUni(requestContext, (TemplateInstance) result, engine));
     }
 
-    private Uni<String> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
+    private Uni<?> createUni(ResteasyReactiveRequestContext requestContext, TemplateInstance result, Engine engine) {
         MediaType mediaType = setSelectedVariant(result, requestContext.getRequest(),
                 requestContext.getHttpHeaders().getAcceptableLanguages());
         requestContext.setResponseContentType(mediaType);
+        if (avoidStringCopy && (mediaType != null || requestContext.getTarget().getProduces() != null)) {
+            // The parts of the output are encoded directly into the response body
+            // We only do this if the content type is known, otherwise it's derived from the String entity
+            return toOutput(result, engine);
+        }
         return toUni(result, engine);
     }
 
@@ -21,7 +21,18 @@ private Util() {
     }
 
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    static Uni<TemplateOutput> toOutput(TemplateInstance instance, Engine engine) {
+        Uni<TemplateOutput> uni = Uni.createFrom().deferred(() -> {
+            TemplateOutput output = new TemplateOutput();
+            return Uni.createFrom().completionStage(instance.consume(output::add)).replaceWith(output);
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
@@ -17,6 +17,7 @@
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityCustomizer;
 import io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityIntegrationRecorder;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
@@ -59,6 +60,16 @@ void preAuthFailureFilter(Capabilities capabilities,
         observabilityIntegrationProducer.produce(new ObservabilityIntegrationBuildItem());
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    void registerSentFilesMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            ObservabilityIntegrationRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerSentFilesMetrics()));
+        }
+    }
+
     private boolean integrationNeeded(Capabilities capabilities,
             Optional<MetricsCapabilityBuildItem> metricsCapability) {
         return capabilities.isPresent(Capability.OPENTELEMETRY_TRACER) ||
@@ -40,6 +40,7 @@ public void testFiles() throws Exception {
                 .then()
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, contentLength)
+                .header("Accept-Ranges", "bytes")
                 .body(Matchers.equalTo(content));
         RestAssured.given().header("Range", "bytes=0-9").get("/providers/file/file")
                 .then()
@@ -81,6 +82,19 @@ public void testFiles() throws Exception {
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, "10")
                 .body(Matchers.equalTo(content.substring(20, 30)));
+        // ranges are relative to the file part
+        RestAssured.given().header("Range", "bytes=2-5").get("/providers/file/file-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "4")
+                .header("Content-Range", "bytes 2-5/10")
+                .body(Matchers.equalTo(content.substring(22, 26)));
+        RestAssured.given().header("Range", "bytes=-3").get("/providers/file/file-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "3")
+                .header("Content-Range", "bytes 7-9/10")
+                .body(Matchers.equalTo(content.substring(27, 30)));
         RestAssured.get("/providers/file/path")
                 .then()
                 .statusCode(200)
@@ -91,6 +105,12 @@ public void testFiles() throws Exception {
                 .statusCode(200)
                 .header(HttpHeaders.CONTENT_LENGTH, "10")
                 .body(Matchers.equalTo(content.substring(20, 30)));
+        RestAssured.given().header("Range", "bytes=5-").get("/providers/file/path-partial")
+                .then()
+                .statusCode(206)
+                .header(HttpHeaders.CONTENT_LENGTH, "5")
+                .header("Content-Range", "bytes 5-9/10")
+                .body(Matchers.equalTo(content.substring(25, 30)));
         RestAssured.get("/providers/file/async-file")
                 .then()
                 .header(HttpHeaders.CONTENT_LENGTH, Matchers.nullValue())
@@ -2,6 +2,9 @@
 
 import static io.quarkus.resteasy.reactive.server.runtime.observability.ObservabilityUtil.*;
 
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 import jakarta.ws.rs.HttpMethod;
 
 import org.jboss.logging.Logger;
@@ -9,9 +12,11 @@
 import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.handlers.ClassRoutingHandler;
 import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.vertx.VertxResteasyReactiveRequestContext;
 
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationException;
 import io.quarkus.security.ForbiddenException;
 import io.quarkus.security.UnauthorizedException;
@@ -23,6 +28,9 @@ public class ObservabilityIntegrationRecorder {
 
     private static final Logger log = Logger.getLogger(ObservabilityIntegrationRecorder.class);
 
+    static final String SENT_FILES_METRIC_NAME = "rest.server.sent.files";
+    static final String SENT_FILES_METRIC_DESCRIPTION = "Number of files sent in responses, tagged with whether the content was transferred with zero-copy.";
+
     /**
      * Returns a handler that sets the special property URI Template path needed by various observability integrations
      */
@@ -116,4 +124,30 @@ public static void setTemplatePath(RoutingContext rc, Deployment deployment) {
     private static String getPathWithoutPrefix(RoutingContext rc, Deployment deployment) {
         return PathHelper.getPathWithoutPrefix(rc.normalizedPath(), deployment.getPrefix());
     }
+
+    /**
+     * Returns a consumer that registers the counters of files sent in responses, e.g. for {@code File} or {@code PathPart}
+     * return types. Files that are not sent with zero-copy are read in chunks, e.g. on HTTP/2 or TLS connections.
+     */
+    public Consumer<MetricsFactory> registerSentFilesMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                registerSentFilesCounter(metricsFactory, true);
+                registerSentFilesCounter(metricsFactory, false);
+            }
+        };
+    }
+
+    private static void registerSentFilesCounter(MetricsFactory metricsFactory, boolean zeroCopy) {
+        metricsFactory.builder(SENT_FILES_METRIC_NAME)
+                .description(SENT_FILES_METRIC_DESCRIPTION)
+                .tag("zero-copy", String.valueOf(zeroCopy))
+                .buildCounter(new Supplier<Number>() {
+                    @Override
+                    public Number get() {
+                        return VertxResteasyReactiveRequestContext.getSentFilesCount(zeroCopy);
+                    }
+                });
+    }
 }
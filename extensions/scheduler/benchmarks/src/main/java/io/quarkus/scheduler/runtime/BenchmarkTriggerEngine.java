@@ -0,0 +1,138 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cronutils.model.CronType;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Trigger;
+import io.quarkus.scheduler.common.runtime.ScheduledMethod;
+import io.quarkus.scheduler.common.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
+
+/**
+ * Compares the periodic trigger engine, which evaluates every trigger once per second, with the queue trigger engine, which
+ * only evaluates the triggers that are due, for a large number of programmatic jobs.
+ * <p>
+ * The jobs are delayed by one hour, so that none of them fires during the benchmark. The work done when a job fires is the
+ * same for both engines and is not measured. The checks are invoked directly instead of from the trigger thread, which is
+ * why this class is in the package of the scheduler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkTriggerEngine {
+
+    @Param({ "periodic", "queue" })
+    public String engine;
+
+    @Param({ "10000", "100000" })
+    public int jobs;
+
+    private SimpleScheduler scheduler;
+    private boolean queue;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        SchedulerRuntimeConfig runtimeConfig = new SchedulerRuntimeConfig();
+        runtimeConfig.enabled = true;
+        runtimeConfig.overdueGracePeriod = Duration.ofSeconds(1);
+        runtimeConfig.startMode = Optional.empty();
+        runtimeConfig.triggerEngine = TriggerEngine.valueOf(engine.toUpperCase());
+        SchedulerConfig schedulerConfig = new SchedulerConfig();
+        schedulerConfig.cronType = CronType.QUARTZ;
+        queue = runtimeConfig.triggerEngine == TriggerEngine.QUEUE;
+        scheduler = new SimpleScheduler(new BenchmarkSchedulerContext(), runtimeConfig, null, null, null, null, null, null,
+                null, null, schedulerConfig, null);
+        for (int i = 0; i < jobs; i++) {
+            schedule("job-" + i);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.stop();
+    }
+
+    /**
+     * One check of the trigger thread; the periodic engine performs one such check per second.
+     */
+    @Benchmark
+    public void check() {
+        if (queue) {
+            scheduler.checkQueuedTriggers();
+        } else {
+            scheduler.checkTriggers();
+        }
+    }
+
+    @Benchmark
+    public Trigger scheduleAndUnschedule() {
+        String identity = "extra-" + sequence.incrementAndGet();
+        schedule(identity);
+        return scheduler.unscheduleJob(identity);
+    }
+
+    private void schedule(String identity) {
+        scheduler.newJob(identity)
+                .setInterval("1h")
+                .setDelayed("1h")
+                .setTask(execution -> {
+                })
+                .schedule();
+    }
+
+    static class BenchmarkSchedulerContext implements SchedulerContext {
+
+        @Override
+        public CronType getCronType() {
+            return CronType.QUARTZ;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods() {
+            return List.of();
+        }
+
+        @Override
+        public boolean forceSchedulerStart() {
+            return true;
+        }
+
+        @Override
+        public List<ScheduledMethod> getScheduledMethods(String implementation) {
+            return List.of();
+        }
+
+        @Override
+        public boolean matchesImplementation(Scheduled scheduled, String implementation) {
+            return Scheduled.SIMPLE.equals(implementation);
+        }
+
+        @Override
+        public String autoImplementation() {
+            return Scheduled.SIMPLE;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.quarkus.scheduler.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QueueTriggerEngineTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class))
+            .overrideConfigKey("quarkus.scheduler.trigger-engine", "queue");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testTriggers() throws InterruptedException {
+        // 10 executions of a job with 100ms interval would take at least 10 seconds with the periodic engine
+        assertTrue(Jobs.SUB_SECOND_LATCH.await(3, TimeUnit.SECONDS));
+        assertTrue(Jobs.CRON_LATCH.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch programmaticLatch = new CountDownLatch(5);
+        assertNotNull(scheduler.newJob("programmatic")
+                .setInterval("0.2s")
+                .setTask(ex -> programmaticLatch.countDown())
+                .schedule());
+        assertTrue(programmaticLatch.await(3, TimeUnit.SECONDS));
+
+        scheduler.pause("programmatic");
+        scheduler.resume("programmatic");
+        CountDownLatch rescheduledLatch = new CountDownLatch(1);
+        scheduler.unscheduleJob("programmatic");
+        scheduler.newJob("programmatic")
+                .setInterval("0.2s")
+                .setTask(ex -> rescheduledLatch.countDown())
+                .schedule();
+        assertTrue(rescheduledLatch.await(3, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUnscheduledJobIsNotExecuted() {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("unscheduled")
+                .setInterval("0.1s")
+                .setTask(ex -> executions.incrementAndGet())
+                .schedule();
+        await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() >= 2);
+        assertNotNull(scheduler.unscheduleJob("unscheduled"));
+        // An execution may be in progress; the job would run several more times during this period if still scheduled
+        int count = executions.get();
+        await().during(Duration.ofMillis(800)).atMost(Duration.ofSeconds(5)).until(() -> executions.get() <= count + 1);
+    }
+
+    @Test
+    public void testPausedJobIsQueuedAgainWhenResumed() {
+        AtomicInteger executions = new AtomicInteger();
+        scheduler.newJob("resumed")
+                .setInterval("0.2s")
+                .setTask(ex -> executions.incrementAndGet())
+                .schedule();
+        await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() >= 1);
+
+        // A paused job is not executed, it is queued again when resumed
+        scheduler.pause("resumed");
+        assertNotExecutedWhilePaused(executions);
+        int paused = executions.get();
+        scheduler.resume("resumed");
+        await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() > paused);
+
+        // The whole scheduler
+        scheduler.pause();
+        assertNotExecutedWhilePaused(executions);
+        int schedulerPaused = executions.get();
+        scheduler.resume();
+        await().atMost(Duration.ofSeconds(5)).until(() -> executions.get() > schedulerPaused);
+        scheduler.unscheduleJob("resumed");
+    }
+
+    private static void assertNotExecutedWhilePaused(AtomicInteger executions) {
+        // An execution may be in progress; the job would run several more times during this period if not paused
+        int count = executions.get();
+        await().during(Duration.ofMillis(800)).atMost(Duration.ofSeconds(5)).until(() -> executions.get() <= count + 1);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SUB_SECOND_LATCH = new CountDownLatch(10);
+        static final CountDownLatch CRON_LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "0.1s")
+        void everyHundredMillis() {
+            SUB_SECOND_LATCH.countDown();
+        }
+
+        @Scheduled(cron = "0/1 * * * * ?")
+        void everySecond() {
+            CRON_LATCH.countDown();
+        }
+    }
+
+}
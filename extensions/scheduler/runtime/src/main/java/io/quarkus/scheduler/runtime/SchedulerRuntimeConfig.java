@@ -30,6 +30,27 @@ public class SchedulerRuntimeConfig {
     @ConfigItem
     public Optional<StartMode> startMode;
 
+    /**
+     * The way the simple scheduler finds the jobs that should be executed.
+     */
+    @ConfigItem(defaultValue = "periodic")
+    public TriggerEngine triggerEngine;
+
+    public enum TriggerEngine {
+
+        /**
+         * All triggers are evaluated every second. Intervals shorter than one second are not supported.
+         */
+        PERIODIC,
+
+        /**
+         * Triggers are kept in a queue ordered by the time of their next evaluation and the scheduler only wakes up
+         * when a trigger is due. This is more efficient when there are many jobs, and intervals shorter than one second
+         * are supported.
+         */
+        QUEUE;
+    }
+
     public enum StartMode {
 
         /**
@@ -6,16 +6,19 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.TreeSet;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -66,6 +69,7 @@
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
 import io.quarkus.virtual.threads.VirtualThreadsRecorder;
@@ -100,6 +104,14 @@ public class SimpleScheduler implements Scheduler {
     private final SchedulerConfig schedulerConfig;
     private final Instance<JobInstrumenter> jobInstrumenter;
 
+    // Only used by the queue trigger engine, null otherwise; all access must be synchronized on the queue
+    // A red-black tree rather than a binary heap, because an unscheduled or rescheduled job is removed in O(log n)
+    private final TreeSet<QueuedTask> triggerQueue;
+    private ScheduledFuture<?> nextCheck;
+    private long nextCheckTime;
+    private long queueSequence;
+    private boolean started;
+
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
             Event<FailedExecution> failedExecutionEvent, Event<SchedulerPaused> schedulerPausedEvent,
@@ -123,6 +135,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         CronDefinition definition = CronDefinitionBuilder.instanceDefinitionFor(context.getCronType());
         this.cronParser = new CronParser(definition);
         this.defaultOverdueGracePeriod = schedulerRuntimeConfig.overdueGracePeriod;
+        this.triggerQueue = schedulerRuntimeConfig.triggerEngine == TriggerEngine.QUEUE ? new TreeSet<>() : null;
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
@@ -190,7 +203,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()),
                             skippedExecutionEvent, successExecutionEvent, failedExecutionEvent,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask task = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, task);
+                    enqueue(task);
                 }
             }
         }
@@ -218,6 +233,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    dequeue(task);
                     return task.trigger;
                 }
             }
@@ -230,6 +246,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (triggerQueue != null) {
+            synchronized (triggerQueue) {
+                started = true;
+                scheduleNextCheck();
+            }
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -261,6 +284,104 @@ void checkTriggers() {
         }
     }
 
+    void checkQueuedTriggers() {
+        List<ScheduledTask> dueTasks = new ArrayList<>();
+        synchronized (triggerQueue) {
+            nextCheck = null;
+            if (!running) {
+                // The queue is left untouched and the next check is scheduled when the scheduler is resumed
+                LOG.trace("Skip all triggers - scheduler paused");
+                return;
+            }
+            long nowMillis = System.currentTimeMillis();
+            QueuedTask head;
+            while ((head = first()) != null && head.time <= nowMillis) {
+                triggerQueue.pollFirst();
+                head.task.queued = null;
+                dueTasks.add(head.task);
+            }
+        }
+        try {
+            ZonedDateTime now = ZonedDateTime.now();
+            LOG.tracef("Check %s due triggers at %s", dueTasks.size(), now);
+            for (ScheduledTask task : dueTasks) {
+                task.execute(now, vertx);
+            }
+        } finally {
+            synchronized (triggerQueue) {
+                long nowMillis = System.currentTimeMillis();
+                for (ScheduledTask task : dueTasks) {
+                    // Paused jobs are queued again when resumed, which may have happened already
+                    if (task.queued == null && task.trigger.isRunning() && scheduledTasks.get(task.trigger.id) == task) {
+                        Instant next = task.trigger.getNextEvaluationTime();
+                        if (next != null) {
+                            // A job that did not fire yet, e.g. because of the clock resolution, is checked again
+                            // right after its fire time
+                            add(task, Math.max(next.toEpochMilli(), nowMillis + 1));
+                        }
+                    }
+                }
+                scheduleNextCheck();
+            }
+        }
+    }
+
+    private void enqueue(ScheduledTask task) {
+        if (triggerQueue == null) {
+            return;
+        }
+        synchronized (triggerQueue) {
+            if (task.queued != null) {
+                triggerQueue.remove(task.queued);
+            }
+            Instant firstEvaluation = task.trigger.getNextEvaluationTime();
+            add(task, firstEvaluation != null ? firstEvaluation.toEpochMilli() : 0);
+            scheduleNextCheck();
+        }
+    }
+
+    private void dequeue(ScheduledTask task) {
+        if (triggerQueue == null) {
+            return;
+        }
+        synchronized (triggerQueue) {
+            if (task.queued != null) {
+                triggerQueue.remove(task.queued);
+                task.queued = null;
+            }
+            // The next check is not cancelled, it may be due for other tasks
+        }
+    }
+
+    // Must be called while holding the lock of the trigger queue
+    private void add(ScheduledTask task, long time) {
+        QueuedTask queued = new QueuedTask(time, queueSequence++, task);
+        task.queued = queued;
+        triggerQueue.add(queued);
+    }
+
+    // Must be called while holding the lock of the trigger queue
+    private QueuedTask first() {
+        return triggerQueue.isEmpty() ? null : triggerQueue.first();
+    }
+
+    // Must be called while holding the lock of the trigger queue
+    private void scheduleNextCheck() {
+        if (!started || !running || triggerQueue.isEmpty() || scheduledExecutor.isShutdown()) {
+            return;
+        }
+        long time = triggerQueue.first().time;
+        if (nextCheck != null) {
+            if (nextCheckTime <= time) {
+                return;
+            }
+            nextCheck.cancel(false);
+        }
+        nextCheckTime = time;
+        nextCheck = scheduledExecutor.schedule(this::checkQueuedTriggers,
+                Math.max(0, time - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public void pause() {
         if (!enabled) {
@@ -306,6 +427,11 @@ public void resume() {
             LOG.warn("Scheduler is disabled and cannot be resumed");
         } else {
             running = true;
+            if (triggerQueue != null) {
+                synchronized (triggerQueue) {
+                    scheduleNextCheck();
+                }
+            }
             Events.fire(schedulerResumedEvent, SchedulerResumed.INSTANCE);
         }
     }
@@ -321,6 +447,7 @@ public void resume(String identity) {
         ScheduledTask task = scheduledTasks.get(parsedIdentity);
         if (task != null) {
             task.trigger.setRunning(true);
+            enqueue(task);
             Events.fire(scheduledJobResumedEvent, new ScheduledJobResumed(task.trigger));
         }
     }
@@ -382,7 +509,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, CronP
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    triggerQueue != null));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -417,6 +545,8 @@ static class ScheduledTask {
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // Only used by the queue trigger engine; guarded by the lock of the trigger queue
+        QueuedTask queued;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -477,6 +607,28 @@ void doInvoke(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
 
     }
 
+    static final class QueuedTask implements Comparable<QueuedTask> {
+
+        // epoch milliseconds
+        final long time;
+        // makes the order total, so that a task can be removed from the queue
+        final long sequence;
+        final ScheduledTask task;
+
+        QueuedTask(long time, long sequence, ScheduledTask task) {
+            this.time = time;
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(QueuedTask other) {
+            int result = Long.compare(time, other.time);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+
+    }
+
     static abstract class SimpleTrigger implements Trigger {
 
         protected final String id;
@@ -498,6 +650,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @return the time when this trigger should be evaluated next, or {@code null} if unknown
+         */
+        Instant getNextEvaluationTime() {
+            return getNextFireTime();
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -527,12 +686,16 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // The periodic check only has a granularity of one second
+        private final ChronoUnit precision;
 
-        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                boolean subSecond) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precision = subSecond ? ChronoUnit.MILLIS : ChronoUnit.SECONDS;
+            if (!subSecond && interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -546,13 +709,13 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(precision);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(precision);
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -568,6 +731,12 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        Instant getNextEvaluationTime() {
+            // The first execution happens at the start time
+            return lastFireTime == null ? start.toInstant() : getNextFireTime();
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -749,6 +918,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                enqueue(scheduledTask);
                 return simpleTrigger;
             }
             return null;
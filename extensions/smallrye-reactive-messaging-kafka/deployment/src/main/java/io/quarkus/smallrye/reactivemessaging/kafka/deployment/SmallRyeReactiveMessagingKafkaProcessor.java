@@ -41,6 +41,7 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
+import io.quarkus.jackson.spi.JacksonSerializationTypeBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.ReactiveMessagingDotNames;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
 import io.quarkus.smallrye.reactivemessaging.kafka.DatabindProcessingStateCodec;
@@ -187,12 +188,14 @@ public void defaultChannelConfiguration(
             List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
             BuildProducer<RunTimeConfigurationDefaultBuildItem> defaultConfigProducer,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
-            BuildProducer<ReflectiveClassBuildItem> reflection) {
+            BuildProducer<ReflectiveClassBuildItem> reflection,
+            BuildProducer<JacksonSerializationTypeBuildItem> jacksonSerializationTypes) {
 
         DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
         if (buildTimeConfig.serializerAutodetectionEnabled) {
             discoverDefaultSerdeConfig(discoveryState, channelsManagedByConnectors, defaultConfigProducer,
-                    buildTimeConfig.serializerGenerationEnabled ? generatedClass : null, reflection);
+                    buildTimeConfig.serializerGenerationEnabled ? generatedClass : null, reflection,
+                    jacksonSerializationTypes);
         }
 
         if (launchMode.getLaunchMode().isDevOrTest()) {
@@ -223,7 +226,8 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
             List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors,
             BuildProducer<RunTimeConfigurationDefaultBuildItem> config,
             BuildProducer<GeneratedClassBuildItem> generatedClass,
-            BuildProducer<ReflectiveClassBuildItem> reflection) {
+            BuildProducer<ReflectiveClassBuildItem> reflection,
+            BuildProducer<JacksonSerializationTypeBuildItem> jacksonSerializationTypes) {
         Map<String, Result> alreadyGeneratedSerializers = new HashMap<>();
         Map<String, Result> alreadyGeneratedDeserializers = new HashMap<>();
         for (AnnotationInstance annotation : discovery.findRepeatableAnnotationsOnMethods(DotNames.INCOMING)) {
@@ -311,6 +315,16 @@ void discoverDefaultSerdeConfig(DefaultSerdeDiscoveryState discovery,
                 }, generatedClass, reflection, alreadyGeneratedSerializers);
             }
         }
+
+        if (jacksonSerializationTypes != null) {
+            // The generated serdes delegate to the ObjectMapper, let it use build-time generated (de)serializers too
+            for (String type : alreadyGeneratedSerializers.keySet()) {
+                jacksonSerializationTypes.produce(JacksonSerializationTypeBuildItem.serialization(type));
+            }
+            for (String type : alreadyGeneratedDeserializers.keySet()) {
+                jacksonSerializationTypes.produce(JacksonSerializationTypeBuildItem.deserialization(type));
+            }
+        }
     }
 
     private void processKafkaTransactions(DefaultSerdeDiscoveryState discovery,
@@ -871,7 +885,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
         // also, only generate the serializer/deserializer for classes and only generate once
         if (result == null && type != null && generatedClass != null && type.kind() == Type.Kind.CLASS) {
             // Check if already generated
-            result = alreadyGeneratedDeserializers.get(type.toString());
+            result = alreadyGeneratedDeserializers.get(type.name().toString());
             if (result == null) {
                 String clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
                 LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
@@ -880,7 +894,7 @@ private Result deserializerFor(DefaultSerdeDiscoveryState discovery,
                         ReflectiveClassBuildItem.builder(clazz)
                                 .reason(getClass().getName())
                                 .methods().build());
-                alreadyGeneratedDeserializers.put(type.toString(), result);
+                alreadyGeneratedDeserializers.put(type.name().toString(), result);
                 // if the channel has a DLQ config generate a serializer as well
                 if (hasDLQConfig(channelName, discovery.getConfig())) {
                     Result serializer = serializerFor(discovery, type, generatedClass, reflection, alreadyGeneratedSerializers);
@@ -910,7 +924,7 @@ private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
         // also, only generate the serializer/deserializer for classes and only generate once
         if (result == null && type != null && generatedClass != null && type.kind() == Type.Kind.CLASS) {
             // Check if already generated
-            result = alreadyGeneratedSerializers.get(type.toString());
+            result = alreadyGeneratedSerializers.get(type.name().toString());
             if (result == null) {
                 String clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
                 LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
@@ -920,7 +934,7 @@ private Result serializerFor(DefaultSerdeDiscoveryState discovery, Type type,
                                 .reason(getClass().getName())
                                 .methods().build());
                 result = Result.of(clazz);
-                alreadyGeneratedSerializers.put(type.toString(), result);
+                alreadyGeneratedSerializers.put(type.name().toString(), result);
             }
         }
 
@@ -101,7 +101,7 @@ boolean isKafkaConnector(List<ConnectorManagedChannelBuildItem> list, boolean in
             new SmallRyeReactiveMessagingKafkaProcessor().discoverDefaultSerdeConfig(discovery, Collections.emptyList(),
                     configs::add,
                     (generatedNames == null) ? null : generated::add,
-                    (reflectiveNames == null) ? null : reflective::add);
+                    (reflectiveNames == null) ? null : reflective::add, null);
 
             assertThat(configs)
                     .extracting(RunTimeConfigurationDefaultBuildItem::getKey, RunTimeConfigurationDefaultBuildItem::getValue)
@@ -0,0 +1,134 @@
+package io.quarkus.vertx.http.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.buffer.ByteBufHolder;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContentCompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.util.ReferenceCountUtil;
+
+/**
+ * Measures the CPU time spent per request on the compression of a static resource, with the same compressor as the HTTP
+ * server when {@code quarkus.http.enable-compression} is enabled, i.e. gzip with the default compression level.
+ * <p>
+ * If {@code precompressed} is {@code true}, the response carries the variant compressed at build time, like the responses
+ * of {@code PrecompressedStaticResources}, and the compressor passes it through. Otherwise the resource is compressed for
+ * each request.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate, i.e. {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkStaticResourceCompression {
+
+    @Param({ "4096", "65536" })
+    public int size;
+
+    @Param({ "false", "true" })
+    public boolean precompressed;
+
+    private EmbeddedChannel channel;
+    private byte[] content;
+
+    @Setup
+    public void setup() {
+        channel = new EmbeddedChannel(new HttpContentCompressor(0, StandardCompressionOptions.gzip()));
+        byte[] resource = resource(size);
+        content = precompressed ? gzip(resource) : resource;
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Benchmark
+    public int request() {
+        DefaultFullHttpRequest request = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/script.js");
+        request.headers().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip, deflate, br");
+        channel.writeInbound(request);
+        ReferenceCountUtil.release(channel.readInbound());
+
+        FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                Unpooled.wrappedBuffer(content));
+        response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/javascript;charset=UTF-8");
+        response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, content.length);
+        if (precompressed) {
+            response.headers().set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+        }
+        channel.writeOutbound(response);
+
+        int written = 0;
+        Object message;
+        while ((message = channel.readOutbound()) != null) {
+            if (message instanceof ByteBufHolder) {
+                written += ((ByteBufHolder) message).content().readableBytes();
+            }
+            ReferenceCountUtil.release(message);
+        }
+        return written;
+    }
+
+    /**
+     * A script with some variance, so that it does not compress much better than a real one.
+     */
+    private static byte[] resource(int size) {
+        StringBuilder script = new StringBuilder(size + 64);
+        for (int i = 0; script.length() < size; i++) {
+            script.append("function handler").append(i).append("(event) { return render('item-")
+                    .append(Integer.toHexString(i * 7919)).append("', event.detail); }\n");
+        }
+        script.setLength(size);
+        return script.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The same as the build step that pre-compresses the static resources.
+     */
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
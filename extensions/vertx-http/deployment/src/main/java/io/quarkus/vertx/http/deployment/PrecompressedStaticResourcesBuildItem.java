@@ -0,0 +1,25 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The static resources that were compressed at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, List<String>> encodings;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, List<String>> encodings) {
+        this.encodings = encodings;
+    }
+
+    /**
+     * @return the content encodings of the compressed variants, in the order of preference, keyed by the resource path
+     */
+    public Map<String, List<String>> getEncodings() {
+        return encodings;
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The manifest of the static resources served from the classpath.
+ */
+public final class StaticResourcesManifestBuildItem extends SimpleBuildItem {
+
+    private final Map<String, Long> sizes;
+    private final Map<String, Long> lastModified;
+
+    public StaticResourcesManifestBuildItem(Map<String, Long> sizes, Map<String, Long> lastModified) {
+        this.sizes = sizes;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * @return the sizes of the resources in bytes, keyed by the resource path
+     */
+    public Map<String, Long> getSizes() {
+        return sizes;
+    }
+
+    /**
+     * @return the last modification times of the resources in milliseconds since the epoch, keyed by the resource path;
+     *         the resources generated in memory have no entry
+     */
+    public Map<String, Long> getLastModified() {
+        return lastModified;
+    }
+}
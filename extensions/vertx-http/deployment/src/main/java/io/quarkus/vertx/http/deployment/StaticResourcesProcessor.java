@@ -2,52 +2,93 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.BrotliEncoder;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
+import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResources;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep
     void collectStaticResources(Capabilities capabilities,
             List<AdditionalStaticResourceBuildItem> additionalStaticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
             BuildProducer<StaticResourcesBuildItem> staticResources,
-            LaunchModeBuildItem launchModeBuildItem) {
+            BuildProducer<StaticResourcesManifestBuildItem> manifest,
+            LaunchModeBuildItem launchModeBuildItem) throws IOException {
         if (capabilities.isPresent(Capability.SERVLET)) {
             // Servlet container handles static resources
             return;
         }
-        Set<StaticResourcesBuildItem.Entry> paths = getClasspathResources();
+        Map<String, Long> sizes = new HashMap<>();
+        Map<String, Long> lastModified = new HashMap<>();
+        Set<StaticResourcesBuildItem.Entry> paths = getClasspathResources(sizes, lastModified);
         // We shouldn't add them in test and dev-mode (as they are handled by the GeneratedStaticResourcesProcessor), but for backward compatibility we keep it for now
         for (AdditionalStaticResourceBuildItem bi : additionalStaticResources) {
             paths.add(new StaticResourcesBuildItem.Entry(bi.getPath(), bi.isDirectory()));
         }
+        if (launchModeBuildItem.getLaunchMode() == LaunchMode.NORMAL) {
+            for (GeneratedStaticResourceBuildItem generatedStaticResource : generatedStaticResources) {
+                if (generatedStaticResource.isFile()) {
+                    sizes.put(generatedStaticResource.getEndpoint(), Files.size(generatedStaticResource.getFile()));
+                    lastModified.put(generatedStaticResource.getEndpoint(),
+                            Files.getLastModifiedTime(generatedStaticResource.getFile()).toMillis());
+                } else {
+                    sizes.put(generatedStaticResource.getEndpoint(), (long) generatedStaticResource.getContent().length);
+                }
+            }
+        }
 
         if (!paths.isEmpty()) {
             staticResources.produce(new StaticResourcesBuildItem(paths));
+            manifest.produce(new StaticResourcesManifestBuildItem(sizes, lastModified));
         }
     }
 
@@ -55,9 +96,138 @@ void collectStaticResources(Capabilities capabilities,
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources,
+            Optional<StaticResourcesManifestBuildItem> manifest,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressedStaticResources.map(PrecompressedStaticResourcesBuildItem::getEncodings)
+                            .orElse(Map.of()),
+                    manifest.map(StaticResourcesManifestBuildItem::getSizes).orElse(Map.of()),
+                    manifest.map(StaticResourcesManifestBuildItem::getLastModified).orElse(Map.of()))));
+        }
+    }
+
+    @BuildStep(onlyIfNot = IsDevelopment.class)
+    void precompressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig,
+            Optional<StaticResourcesBuildItem> staticResources,
+            List<GeneratedStaticResourceBuildItem> generatedStaticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) throws IOException {
+        if (!httpBuildTimeConfig.precompressStaticResources || staticResources.isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.orElse(List.of()));
+        List<String> compressors = httpBuildTimeConfig.compressors.orElse(List.of());
+        // Brotli compresses better than gzip, prefer it if the client accepts both
+        List<String> encodings = new ArrayList<>(2);
+        if (compressors.stream().anyMatch("br"::equalsIgnoreCase)) {
+            if (Brotli.isAvailable()) {
+                encodings.add("br");
+            } else {
+                LOGGER.warnf("Brotli is not available, static resources are not pre-compressed with brotli: %s",
+                        Brotli.cause());
+            }
+        }
+        if (compressors.stream().anyMatch("gzip"::equalsIgnoreCase)) {
+            encodings.add("gzip");
+        }
+        if (encodings.isEmpty() || compressMediaTypes.isEmpty()) {
+            return;
+        }
+
+        Set<String> paths = staticResources.get().getPaths();
+        Map<String, byte[]> contents = new HashMap<>();
+        visitRuntimeMetaInfResources(visit -> {
+            if (!Files.isDirectory(visit.getPath())) {
+                String path = visit.getRelativePath().substring(StaticResourcesRecorder.META_INF_RESOURCES.length());
+                if (isCompressedMediaType(path, compressMediaTypes)) {
+                    try {
+                        contents.putIfAbsent(path, Files.readAllBytes(visit.getPath()));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+        });
+        for (GeneratedStaticResourceBuildItem generatedStaticResource : generatedStaticResources) {
+            String path = generatedStaticResource.getEndpoint();
+            if (isCompressedMediaType(path, compressMediaTypes)) {
+                contents.put(path, generatedStaticResource.isFile()
+                        ? Files.readAllBytes(generatedStaticResource.getFile())
+                        : generatedStaticResource.getContent());
+            }
+        }
+
+        Map<String, List<String>> precompressed = new HashMap<>();
+        long originalSize = 0;
+        long compressedSize = 0;
+        for (Map.Entry<String, byte[]> e : contents.entrySet()) {
+            String path = e.getKey();
+            byte[] content = e.getValue();
+            if (!paths.contains(path)) {
+                continue;
+            }
+            for (String encoding : encodings) {
+                byte[] compressed = "br".equals(encoding) ? brotli(content) : gzip(content);
+                if (compressed.length >= content.length) {
+                    // Not worth it
+                    continue;
+                }
+                String location = StaticResourcesRecorder.META_INF_PRECOMPRESSED_RESOURCES + path + "."
+                        + PrecompressedStaticResources.extension(encoding);
+                generatedResources.produce(new GeneratedResourceBuildItem(location, compressed, false));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(location));
+                precompressed.computeIfAbsent(path, k -> new ArrayList<>(encodings.size())).add(encoding);
+                originalSize += content.length;
+                compressedSize += compressed.length;
+            }
+        }
+        if (!precompressed.isEmpty()) {
+            LOGGER.debugf("Pre-compressed %s static resources [%s bytes compressed to %s bytes]", precompressed.size(),
+                    originalSize, compressedSize);
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(precompressed));
+        }
+    }
+
+    private static boolean isCompressedMediaType(String path, Set<String> compressMediaTypes) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        return contentType != null && compressMediaTypes.contains(contentType);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] content) {
+        // The compression is done once at build time, use the best quality
+        EmbeddedChannel channel = new EmbeddedChannel(new BrotliEncoder(new Encoder.Parameters().setQuality(11)));
+        try {
+            channel.writeOutbound(Unpooled.wrappedBuffer(content));
+            channel.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+            ByteBuf buf;
+            while ((buf = channel.readOutbound()) != null) {
+                try {
+                    buf.readBytes(out, buf.readableBytes());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    buf.release();
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            channel.finishAndReleaseAll();
         }
     }
 
@@ -95,15 +265,25 @@ public void nativeImageResource(Optional<StaticResourcesBuildItem> staticResourc
     /**
      * Find all static file resources that are available from classpath.
      *
+     * @param sizes the map to put the sizes of the resources into
+     * @param lastModified the map to put the last modification times of the resources into
      * @return the set of static resources
      */
-    private Set<StaticResourcesBuildItem.Entry> getClasspathResources() {
+    private Set<StaticResourcesBuildItem.Entry> getClasspathResources(Map<String, Long> sizes,
+            Map<String, Long> lastModified) {
         Set<StaticResourcesBuildItem.Entry> knownPaths = new HashSet<>();
         visitRuntimeMetaInfResources(visit -> {
             if (!Files.isDirectory(visit.getPath())) {
-                knownPaths.add(new StaticResourcesBuildItem.Entry(
-                        visit.getRelativePath().substring(StaticResourcesRecorder.META_INF_RESOURCES.length()),
-                        false));
+                String path = visit.getRelativePath().substring(StaticResourcesRecorder.META_INF_RESOURCES.length());
+                if (knownPaths.add(new StaticResourcesBuildItem.Entry(path, false))) {
+                    try {
+                        sizes.put(path, Files.size(visit.getPath()));
+                        // The time of the zip entry if the resource comes from a jar
+                        lastModified.put(path, Files.getLastModifiedTime(visit.getPath()).toMillis());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
             }
         });
         return knownPaths;
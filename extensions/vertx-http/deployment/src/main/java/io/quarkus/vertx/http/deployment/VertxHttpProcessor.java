@@ -46,6 +46,8 @@
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
 import io.quarkus.deployment.logging.LoggingDecorateBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageRunnerBuildItem;
 import io.quarkus.deployment.pkg.steps.GraalVM;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
@@ -348,7 +350,8 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
             LiveReloadConfig lrc,
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
             ExecutorBuildItem executorBuildItem,
-            TlsRegistryBuildItem tlsRegistryBuildItem) // Injected to be sure that the TLS registry has been produced before calling this method.
+            TlsRegistryBuildItem tlsRegistryBuildItem, // Injected to be sure that the TLS registry has been produced before calling this method.
+            ShutdownContextBuildItem shutdown)
             throws BuildException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -423,11 +426,22 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
                 logBuildTimeConfig,
                 srcMainJava,
                 knowClasses,
-                combinedActions);
+                combinedActions,
+                shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerAccessLogMetrics(VertxHttpRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            // Only registered if the ring buffer access log is enabled at runtime
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerAccessLogMetrics()));
+        }
+    }
+
     @BuildStep
     void config(BuildProducer<RunTimeConfigBuilderBuildItem> runtimeConfigBuilder) {
         runtimeConfigBuilder.produce(new RunTimeConfigBuilderBuildItem(VertxConfigBuilder.class));
@@ -0,0 +1,105 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+
+public class StaticResourcesInMemoryTest extends AbstractStaticResourcesTest {
+
+    private static final String LARGE = "0123456789".repeat(200);
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.in-memory-max-file-size=1K\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/static-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/.hidden-file.html")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg")
+                    .addAsResource(new StringAsset(LARGE), "META-INF/resources/large.txt"));
+
+    @Test
+    public void testConditionalRequests() {
+        ExtractableResponse<Response> response = RestAssured.when().get("/image.svg")
+                .then()
+                .statusCode(200)
+                .header("Content-Type", "image/svg+xml")
+                .header("Cache-Control", "public, max-age=86400")
+                .header("Last-Modified", not(nullValue()))
+                .header("ETag", not(startsWith("W/")))
+                .header("Vary", nullValue())
+                .extract();
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/image.svg")
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+        RestAssured.given().header("If-Modified-Since", lastModified)
+                .get("/image.svg")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"foo\"")
+                .get("/image.svg")
+                .then()
+                .statusCode(200);
+    }
+
+    @Test
+    public void testCompressedOnTheFly() {
+        // The bytes sent depend on the Accept-Encoding header
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", startsWith("W/"))
+                .extract().header("ETag");
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .get("/static-file.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", "Accept-Encoding")
+                .header("ETag", etag);
+        RestAssured.given().header("If-None-Match", etag)
+                .get("/static-file.html")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testRange() {
+        RestAssured.given().header("Range", "bytes=0-3")
+                .get("/image.svg")
+                .then()
+                .statusCode(206)
+                .header("Content-Range", startsWith("bytes 0-3/"));
+    }
+
+    @Test
+    public void testLargeResourceNotInMemory() {
+        // Served by the StaticHandler that does not set the ETag header
+        RestAssured.when().get("/large.txt")
+                .then()
+                .statusCode(200)
+                .header("ETag", nullValue())
+                .body(equalTo(LARGE));
+    }
+
+}
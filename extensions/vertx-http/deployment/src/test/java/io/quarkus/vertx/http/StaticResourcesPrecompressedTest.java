@@ -0,0 +1,103 @@
+package io.quarkus.vertx.http;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+
+public class StaticResourcesPrecompressedTest {
+
+    private static final String SCRIPT = "function hello() { return 'Hello world!'; }\n".repeat(100);
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.precompress-static-resources=true\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset(SCRIPT), "META-INF/resources/script.js")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/image.svg"));
+
+    @TestHTTPResource
+    URL url;
+
+    @Test
+    public void testPrecompressed() throws Exception {
+        HttpResponse<byte[]> response = get("script.js", "gzip, deflate", null);
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", header(response, "Content-Encoding"));
+        assertEquals("Accept-Encoding", header(response, "Vary"));
+        assertEquals(Integer.toString(response.body().length), header(response, "Content-Length"));
+        assertEquals("public, max-age=86400", header(response, "Cache-Control"));
+        String etag = header(response, "ETag");
+        assertNotNull(etag);
+        assertFalse(etag.startsWith("W/"));
+        assertEquals(SCRIPT, gunzip(response.body()));
+
+        response = get("script.js", "gzip", etag);
+        assertEquals(304, response.statusCode());
+        assertEquals(etag, header(response, "ETag"));
+
+        // The index page is pre-compressed too
+        response = get("", "gzip", null);
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", header(response, "Content-Encoding"));
+        assertTrue(gunzip(response.body()).contains("This is the title of the webpage!"));
+    }
+
+    @Test
+    public void testNotAccepted() throws Exception {
+        HttpResponse<byte[]> response = get("script.js", "identity", null);
+        assertEquals(200, response.statusCode());
+        assertNull(header(response, "Content-Encoding"));
+        assertEquals("Accept-Encoding", header(response, "Vary"));
+        assertEquals(SCRIPT, new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testNotCompressedMediaType() throws Exception {
+        HttpResponse<byte[]> response = get("image.svg", "gzip", null);
+        assertEquals(200, response.statusCode());
+        assertNull(header(response, "Content-Encoding"));
+        assertNull(header(response, "Vary"));
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding, String ifNoneMatch)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url.toString() + path))
+                .header("Accept-Encoding", acceptEncoding);
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String header(HttpResponse<?> response, String name) {
+        return response.headers().firstValue(name).orElse(null);
+    }
+
+    private static String gunzip(byte[] content) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
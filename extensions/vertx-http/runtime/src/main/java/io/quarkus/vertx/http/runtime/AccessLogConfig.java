@@ -83,4 +83,9 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "false")
     public boolean consolidateReroutedRequests;
 
+    /**
+     * The ring buffer used to write the access log to a file.
+     */
+    public AccessLogRingBufferConfig ringBuffer;
+
 }
@@ -0,0 +1,49 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class AccessLogRingBufferConfig {
+
+    /**
+     * If enabled then the access log entries written to a file are encoded into a pre-allocated ring buffer on the
+     * event loop and written in batches by a dedicated thread.
+     * <p>
+     * The entries are dropped, and counted, when the ring buffer is full. If a metrics extension is present, the number
+     * of dropped and truncated entries is exposed as the {@code http.access.log.dropped} and
+     * {@code http.access.log.truncated} counters. This setting is only taken into account if {@code log-to-file} is
+     * enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The number of slots of the ring buffer. The value is rounded up to the next power of two.
+     */
+    @ConfigItem(defaultValue = "4096")
+    public int slots;
+
+    /**
+     * The size of a slot of the ring buffer. Longer entries are truncated.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize slotSize;
+
+    /**
+     * The maximum time an entry waits in the ring buffer before it's written to the file.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration flushInterval;
+
+    /**
+     * The maximum size of the log file. The file is rotated before this size is exceeded, in addition to the daily
+     * rotation if {@code rotate} is enabled.
+     */
+    @ConfigItem
+    public Optional<MemorySize> maxFileSize;
+}
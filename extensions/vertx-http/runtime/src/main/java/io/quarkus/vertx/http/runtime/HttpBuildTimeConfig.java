@@ -118,4 +118,15 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * If enabled then the static resources with a compressed media type as configured via {@link #compressMediaTypes}
+     * are compressed at build time with the {@code gzip} and {@code br} compressors configured via {@link #compressors}.
+     * <p>
+     * A client that accepts one of these encodings is served the pre-compressed variant, together with a strong
+     * {@code ETag} and the {@code Vary: Accept-Encoding} header, instead of compressing the resource for every request.
+     * Pre-compressed resources are not used in the development mode.
+     */
+    @ConfigItem
+    public boolean precompressStaticResources;
 }
@@ -5,6 +5,7 @@
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
 
 @ConfigGroup
 public class StaticResourcesConfig {
@@ -57,4 +58,23 @@ public class StaticResourcesConfig {
     @ConfigItem(defaultValue = "UTF-8")
     public Charset contentEncoding;
 
+    /**
+     * The maximum size of a static resource that is kept in memory.
+     * <p>
+     * The static resources that are not larger than this value are loaded in memory when the application starts.
+     * They are served together with precomputed {@code Content-Type}, {@code ETag}, {@code Last-Modified} and
+     * {@code Cache-Control} headers, and conditional requests are answered without any I/O. The {@code Last-Modified}
+     * header is the modification time of the resource at build time. The resources with a media type that is compressed
+     * on the fly get a weak {@code ETag} and {@code Vary: Accept-Encoding}. Range requests are still served from the
+     * classpath. If set to {@code 0} then no static resource is kept in memory.
+     */
+    @ConfigItem(defaultValue = "0")
+    public MemorySize inMemoryMaxFileSize;
+
+    /**
+     * The maximum total size of the static resources kept in memory. The smallest resources are kept first.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize inMemoryMaxTotalSize;
+
 }
@@ -3,11 +3,14 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.InMemoryStaticResources;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticResources;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -21,6 +24,7 @@
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
+    public static final String META_INF_PRECOMPRESSED_RESOURCES = "META-INF/precompressed-resources";
 
     private static volatile List<Path> hotDeploymentResourcePaths;
 
@@ -38,7 +42,8 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, List<String>> precompressedPaths,
+            Map<String, Long> knownPathSizes, Map<String, Long> knownPathLastModified) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -85,6 +90,12 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage.charAt(0) == '/')
                     ? config.indexPage.substring(1)
                     : config.indexPage;
+            final PrecompressedStaticResources precompressed = precompressedPaths.isEmpty() ? null
+                    : new PrecompressedStaticResources(META_INF_PRECOMPRESSED_RESOURCES, precompressedPaths,
+                            config.contentEncoding, config.cachingEnabled ? config.maxAge.toSeconds() : -1);
+            final InMemoryStaticResources inMemory = config.inMemoryMaxFileSize.asLongValue() <= 0 ? null
+                    : new InMemoryStaticResources(META_INF_RESOURCES, knownPathSizes, knownPathLastModified,
+                            compressMediaTypes, config);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -94,7 +105,14 @@ public void handle(RoutingContext ctx) {
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        String resourcePath = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+                        if (precompressed != null && precompressed.handle(ctx, resourcePath)) {
+                            return;
+                        }
                         compressIfNeeded(ctx, rel);
+                        if (inMemory != null && inMemory.handle(ctx, resourcePath)) {
+                            return;
+                        }
                         staticHandler.handle(ctx);
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
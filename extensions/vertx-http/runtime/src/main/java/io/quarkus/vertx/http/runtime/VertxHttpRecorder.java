@@ -68,6 +68,7 @@
 import io.quarkus.runtime.configuration.ConfigUtils;
 import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.logging.LogBuildTimeConfig;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.tls.TlsConfigurationRegistry;
 import io.quarkus.tls.runtime.config.TlsConfig;
@@ -89,6 +90,7 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceConfiguration;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -388,7 +390,8 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
             LogBuildTimeConfig logBuildTimeConfig,
             String srcMainJava,
             List<String> knowClasses,
-            List<ErrorPageAction> actions) {
+            List<ErrorPageAction> actions,
+            ShutdownContext shutdown) {
         HttpConfiguration httpConfiguration = this.httpConfiguration.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -478,8 +481,33 @@ public void handle(RoutingContext routingContext) {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                AccessLogRingBufferConfig ringBuffer = accessLog.ringBuffer;
+                if (ringBuffer.enabled) {
+                    RingBufferAccessLogReceiver ringBufferReceiver = RingBufferAccessLogReceiver.builder()
+                            .setOutputDirectory(outputDir.toPath())
+                            .setLogBaseName(accessLog.baseFileName)
+                            .setLogNameSuffix(accessLog.logSuffix)
+                            .setRotate(accessLog.rotate)
+                            .setSlots(ringBuffer.slots)
+                            .setSlotSize(ringBuffer.slotSize.asBigInteger().intValueExact())
+                            .setMaxFileSize(ringBuffer.maxFileSize.map(MemorySize::asLongValue).orElse(0L))
+                            .setFlushInterval(ringBuffer.flushInterval)
+                            .build();
+                    shutdown.addLastShutdownTask(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                ringBufferReceiver.close();
+                            } catch (IOException e) {
+                                LOGGER.error("Unable to close the access log", e);
+                            }
+                        }
+                    });
+                    receiver = ringBufferReceiver;
+                } else {
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName,
+                            accessLog.logSuffix, accessLog.rotate);
+                }
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -1130,6 +1158,23 @@ public GracefulShutdownFilter createGracefulShutdownHandler() {
         return new GracefulShutdownFilter();
     }
 
+    public Consumer<MetricsFactory> registerAccessLogMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                AccessLogConfig accessLog = httpConfiguration.getValue().accessLog;
+                if (accessLog.enabled && accessLog.logToFile && accessLog.ringBuffer.enabled) {
+                    metricsFactory.builder("http.access.log.dropped")
+                            .description("Number of access log messages dropped because the ring buffer was full")
+                            .buildCounter(RingBufferAccessLogReceiver::totalDroppedMessages);
+                    metricsFactory.builder("http.access.log.truncated")
+                            .description("Number of access log messages truncated because they did not fit in a slot")
+                            .buildCounter(RingBufferAccessLogReceiver::totalTruncatedMessages);
+                }
+            }
+        };
+    }
+
     private static class WebDeploymentVerticle extends AbstractVerticle implements Resource {
 
         private final TlsConfigurationRegistry registry;
@@ -16,6 +16,13 @@ public CompositeExchangeAttribute(ExchangeAttribute[] attributes) {
         this.attributes = copy;
     }
 
+    /**
+     * @return a copy of the attributes the value is made of
+     */
+    public ExchangeAttribute[] getAttributes() {
+        return attributes.clone();
+    }
+
     @Override
     public String readAttribute(RoutingContext exchange) {
         final StringBuilder sb = new StringBuilder();
@@ -24,6 +24,7 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.quarkus.vertx.http.runtime.attribute.CompositeExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
 import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeParser;
 import io.quarkus.vertx.http.runtime.attribute.SubstituteEmptyWrapper;
@@ -96,7 +97,7 @@ public class AccessLogHandler implements Handler<RoutingContext> {
     private final AccessLogReceiver accessLogReceiver;
     private final String formatString;
     private final boolean consolidateReroutedRequests;
-    private final ExchangeAttribute tokens;
+    private final ExchangeAttribute[] attributes;
     private final Pattern excludePattern;
 
     public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String formatString,
@@ -105,8 +106,9 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, final String
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
-        this.tokens = new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
-                .parse(this.formatString);
+        this.attributes = attributes(
+                new ExchangeAttributeParser(classLoader, Collections.singletonList(new SubstituteEmptyWrapper("-")))
+                        .parse(this.formatString));
         if (excludePattern.isPresent()) {
             this.excludePattern = Pattern.compile(excludePattern.get());
         } else {
@@ -119,10 +121,18 @@ public AccessLogHandler(final AccessLogReceiver accessLogReceiver, String format
         this.accessLogReceiver = accessLogReceiver;
         this.formatString = handleCommonNames(formatString);
         this.consolidateReroutedRequests = consolidateReroutedRequests;
-        this.tokens = attribute;
+        this.attributes = attributes(attribute);
         this.excludePattern = null;
     }
 
+    private static ExchangeAttribute[] attributes(ExchangeAttribute tokens) {
+        // the receiver may write the values one by one, without concatenating them first
+        if (tokens instanceof CompositeExchangeAttribute) {
+            return ((CompositeExchangeAttribute) tokens).getAttributes();
+        }
+        return new ExchangeAttribute[] { tokens };
+    }
+
     private static String handleCommonNames(String formatString) {
         switch (formatString) {
             case "common":
@@ -155,7 +165,7 @@ public void handle(RoutingContext rc) {
         QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
-                accessLogReceiver.logMessage(tokens.readAttribute(rc));
+                accessLogReceiver.logMessage(rc, attributes);
             }
         });
         if (consolidateReroutedRequests) {
@@ -18,6 +18,9 @@
 
 package io.quarkus.vertx.http.runtime.filters.accesslog;
 
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
 /**
  * Interface that is used by the access log handler to send data to the log file manager.
  *
@@ -29,4 +32,27 @@ public interface AccessLogReceiver {
 
     void logMessage(final String message);
 
+    /**
+     * Logs the message made of the values of the given attributes. The {@code null} values are skipped.
+     * <p>
+     * The default implementation concatenates the values and calls {@link #logMessage(String)}.
+     *
+     * @param exchange The exchange
+     * @param attributes The attributes that make up the message
+     */
+    default void logMessage(final RoutingContext exchange, final ExchangeAttribute[] attributes) {
+        if (attributes.length == 1) {
+            logMessage(attributes[0].readAttribute(exchange));
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (ExchangeAttribute attribute : attributes) {
+            String val = attribute.readAttribute(exchange);
+            if (val != null) {
+                sb.append(val);
+            }
+        }
+        logMessage(sb.toString());
+    }
+
 }
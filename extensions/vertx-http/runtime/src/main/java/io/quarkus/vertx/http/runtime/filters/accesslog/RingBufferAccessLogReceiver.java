@@ -0,0 +1,584 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Log receiver that encodes the messages into a pre-allocated ring buffer of fixed size byte slots, and writes them to
+ * a file in batches.
+ * <p>
+ * Web threads claim a slot and encode the attribute values directly into it, without building an intermediate string.
+ * A single writer thread copies the published slots into a direct buffer and writes them with a {@link FileChannel}.
+ * If the ring buffer is full the message is dropped, and messages that do not fit in a slot are truncated. Both are
+ * counted, see {@link #getDroppedMessages()} and {@link #getTruncatedMessages()}. The totals of all receivers are
+ * exposed as metrics if a metrics extension is present.
+ * <p>
+ * The log file is rotated after midnight, like in {@link DefaultAccessLogReceiver}, and optionally before it exceeds a
+ * maximum size.
+ */
+public class RingBufferAccessLogReceiver implements AccessLogReceiver, Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogReceiver.class);
+
+    private static final String DEFAULT_LOG_SUFFIX = "log";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int BATCH_SIZE = 64 * 1024;
+    private static final long DROPPED_REPORT_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+    private static final long CLOSE_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    // set in the tail once the receiver is closed, so that no position can be claimed afterwards
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private static final LongAdder TOTAL_DROPPED = new LongAdder();
+    private static final LongAdder TOTAL_TRUNCATED = new LongAdder();
+
+    private final byte[] buffer;
+    private final int[] lengths;
+    // the slot at index i is free for the position p if sequences[i] == p, and published for p if sequences[i] == p + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final int slotSize;
+    private final AtomicLong tail = new AtomicLong();
+    private final int wakeUpThreshold;
+
+    private final LongAdder droppedMessages = new LongAdder();
+    private final LongAdder truncatedMessages = new LongAdder();
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix; // always starts with a '.' character
+    private final boolean rotate;
+    private final long maxFileSize;
+    private final long flushIntervalNanos;
+    private final LogFileHeaderGenerator fileHeaderGenerator;
+    private final Thread writerThread;
+
+    // the next position to drain, written by the writer thread only
+    private volatile long head;
+    private volatile boolean parked;
+    private volatile boolean closed;
+
+    // only accessed by the writer thread
+    private FileChannel channel;
+    private long fileSize;
+    private long changeOverPoint;
+    private String currentDateString;
+    private long reportedDroppedMessages;
+    private long lastDroppedReport;
+
+    RingBufferAccessLogReceiver(Builder builder) {
+        if (builder.slots <= 0 || builder.slots > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid number of slots: " + builder.slots);
+        }
+        int slots = builder.slots == 1 ? 1 : Integer.highestOneBit(builder.slots - 1) << 1;
+        if (builder.slotSize < 2 || (long) slots * builder.slotSize > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid slot size: " + builder.slotSize);
+        }
+        this.buffer = new byte[slots * builder.slotSize];
+        this.lengths = new int[slots];
+        this.sequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = slots - 1;
+        this.slotSize = builder.slotSize;
+        this.wakeUpThreshold = Math.max(1, slots / 2);
+        this.outputDirectory = builder.outputDirectory;
+        this.logBaseName = builder.logBaseName;
+        this.logNameSuffix = effectiveLogNameSuffix(builder.logNameSuffix);
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
+        this.rotate = builder.rotate;
+        this.maxFileSize = builder.maxFileSize;
+        this.flushIntervalNanos = builder.flushInterval.toNanos();
+        this.fileHeaderGenerator = builder.logFileHeaderGenerator;
+        this.writerThread = new Thread(this, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        calculateChangeOverPoint();
+    }
+
+    private static String effectiveLogNameSuffix(String logNameSuffix) {
+        var result = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
+        if (result.charAt(0) != '.') {
+            return '.' + result;
+        }
+        return result;
+    }
+
+    RingBufferAccessLogReceiver start() {
+        writerThread.start();
+        return this;
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        long pos = claim();
+        if (pos < 0) {
+            return;
+        }
+        int start = (int) (pos & mask) * slotSize;
+        int length = 0;
+        try {
+            int end = start + slotSize - 1; // reserve the line separator
+            int offset = message == null ? start : encode(message, buffer, start, end);
+            if (offset < 0) {
+                offset = ~offset;
+                truncate();
+            }
+            buffer[offset++] = '\n';
+            length = offset - start;
+        } finally {
+            publish(pos, length);
+        }
+    }
+
+    @Override
+    public void logMessage(final RoutingContext exchange, final ExchangeAttribute[] attributes) {
+        long pos = claim();
+        if (pos < 0) {
+            return;
+        }
+        int start = (int) (pos & mask) * slotSize;
+        int length = 0;
+        try {
+            int end = start + slotSize - 1; // reserve the line separator
+            int offset = start;
+            for (ExchangeAttribute attribute : attributes) {
+                String val = attribute.readAttribute(exchange);
+                if (val != null) {
+                    offset = encode(val, buffer, offset, end);
+                    if (offset < 0) {
+                        offset = ~offset;
+                        truncate();
+                        break;
+                    }
+                }
+            }
+            buffer[offset++] = '\n';
+            length = offset - start;
+        } finally {
+            // an empty slot is skipped by the writer
+            publish(pos, length);
+        }
+    }
+
+    /**
+     * @return the claimed position, or {@code -1} if the ring buffer is full
+     */
+    private long claim() {
+        for (;;) {
+            long pos = tail.get();
+            if (pos < 0) {
+                // closed, the writer thread does not wait for positions claimed from now on
+                drop();
+                return -1;
+            }
+            long diff = sequences.get((int) (pos & mask)) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    return pos;
+                }
+            } else if (diff < 0) {
+                drop();
+                return -1;
+            }
+            // otherwise another thread claimed this position in the meantime
+        }
+    }
+
+    private void drop() {
+        droppedMessages.increment();
+        TOTAL_DROPPED.increment();
+    }
+
+    private void truncate() {
+        truncatedMessages.increment();
+        TOTAL_TRUNCATED.increment();
+    }
+
+    private void publish(long pos, int length) {
+        int index = (int) (pos & mask);
+        lengths[index] = length;
+        sequences.lazySet(index, pos + 1);
+        if (parked && pos - head >= wakeUpThreshold) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    /**
+     * Encodes the value as UTF-8 into {@code dst}, starting at {@code offset}.
+     *
+     * @return the offset after the last byte written, or its bitwise complement if the value was truncated at
+     *         {@code end}
+     */
+    static int encode(String value, byte[] dst, int offset, int end) {
+        int len = value.length();
+        int i = 0;
+        // fast path for ASCII characters
+        for (; i < len && offset < end; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                break;
+            }
+            dst[offset++] = (byte) c;
+        }
+        for (; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (offset >= end) {
+                    return ~offset;
+                }
+                dst[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                if (offset + 2 > end) {
+                    return ~offset;
+                }
+                dst[offset++] = (byte) (0xc0 | (c >> 6));
+                dst[offset++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(value.charAt(i + 1))) {
+                if (offset + 4 > end) {
+                    return ~offset;
+                }
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                dst[offset++] = (byte) (0xf0 | (cp >> 18));
+                dst[offset++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                dst[offset++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                dst[offset++] = (byte) (0x80 | (cp & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // malformed input
+                if (offset >= end) {
+                    return ~offset;
+                }
+                dst[offset++] = '?';
+            } else {
+                if (offset + 3 > end) {
+                    return ~offset;
+                }
+                dst[offset++] = (byte) (0xe0 | (c >> 12));
+                dst[offset++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                dst[offset++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * writes the published messages until the receiver is closed
+     */
+    @Override
+    public void run() {
+        ByteBuffer batch = ByteBuffer.allocateDirect(Math.max(BATCH_SIZE, slotSize));
+        try {
+            for (;;) {
+                if (closed) {
+                    drainClaimed(batch);
+                    reportDroppedMessages(true);
+                    break;
+                }
+                int drained = drain(batch);
+                reportDroppedMessages(false);
+                if (drained == 0) {
+                    parked = true;
+                    if (!closed) {
+                        LockSupport.parkNanos(this, flushIntervalNanos);
+                    }
+                    parked = false;
+                }
+            }
+        } finally {
+            closeChannel();
+        }
+    }
+
+    /**
+     * Writes the messages of all the positions claimed before the receiver was closed, waiting for the web threads that
+     * are still encoding them.
+     */
+    private void drainClaimed(ByteBuffer batch) {
+        long end = tail.get() & ~CLOSED;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT);
+        for (;;) {
+            drain(batch);
+            if (head >= end) {
+                return;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                // the messages are counted as dropped
+                droppedMessages.add(end - head);
+                TOTAL_DROPPED.add(end - head);
+                return;
+            }
+            LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private int drain(ByteBuffer batch) {
+        int drained = 0;
+        long pos = head;
+        for (;;) {
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                break;
+            }
+            int length = lengths[index];
+            if (batch.remaining() < length) {
+                write(batch);
+            }
+            batch.put(buffer, index * slotSize, length);
+            // release the slot
+            sequences.lazySet(index, pos + mask + 1);
+            head = ++pos;
+            drained++;
+        }
+        if (batch.position() > 0) {
+            write(batch);
+        }
+        return drained;
+    }
+
+    private void write(ByteBuffer batch) {
+        batch.flip();
+        try {
+            long now = System.currentTimeMillis();
+            if ((rotate && now > changeOverPoint)
+                    || (maxFileSize > 0 && fileSize > 0 && fileSize + batch.remaining() > maxFileSize)) {
+                doRotate();
+            }
+            if (channel == null) {
+                openChannel();
+            }
+            while (batch.hasRemaining()) {
+                fileSize += channel.write(batch);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+            closeChannel();
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void openChannel() throws IOException {
+        if (rotate && Files.exists(defaultLogFile)
+                && Files.getLastModifiedTime(defaultLogFile).toMillis() < changeOverPoint - TimeUnit.DAYS.toMillis(1)) {
+            // the existing log file was written on a previous day
+            doRotate();
+        }
+        channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        fileSize = channel.size();
+        if (fileSize == 0 && fileHeaderGenerator != null) {
+            String header = fileHeaderGenerator.generateHeader();
+            if (header != null) {
+                ByteBuffer bytes = ByteBuffer.wrap((header + "\n").getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) {
+                    fileSize += channel.write(bytes);
+                }
+            }
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void calculateChangeOverPoint() {
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = LocalDate.now(zone);
+        currentDateString = DATE_FORMAT.format(today);
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = DATE_FORMAT.format(
+                        Instant.ofEpochMilli(Files.getLastModifiedTime(defaultLogFile).toMillis()).atZone(zone));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private void doRotate() {
+        closeChannel();
+        fileSize = 0;
+        try {
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            calculateChangeOverPoint();
+        }
+    }
+
+    private void reportDroppedMessages(boolean force) {
+        long now = System.currentTimeMillis();
+        if (!force && now - lastDroppedReport < DROPPED_REPORT_INTERVAL) {
+            return;
+        }
+        long dropped = droppedMessages.sum();
+        if (dropped > reportedDroppedMessages) {
+            log.warnf("%s access log messages were dropped because the ring buffer was full",
+                    dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
+        }
+        lastDroppedReport = now;
+    }
+
+    /**
+     * @return the number of messages dropped because the ring buffer was full or the receiver was closed
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * @return the number of messages truncated because they did not fit in a slot
+     */
+    public long getTruncatedMessages() {
+        return truncatedMessages.sum();
+    }
+
+    /**
+     * @return the number of messages dropped by all the receivers
+     */
+    public static long totalDroppedMessages() {
+        return TOTAL_DROPPED.sum();
+    }
+
+    /**
+     * @return the number of messages truncated by all the receivers
+     */
+    public static long totalTruncatedMessages() {
+        return TOTAL_TRUNCATED.sum();
+    }
+
+    /**
+     * Writes the pending messages and closes the log file. Messages logged afterwards are dropped.
+     */
+    @Override
+    public void close() throws IOException {
+        long pos;
+        do {
+            pos = tail.get();
+        } while (pos >= 0 && !tail.compareAndSet(pos, pos | CLOSED));
+        closed = true;
+        LockSupport.unpark(writerThread);
+        if (writerThread.isAlive() && Thread.currentThread() != writerThread) {
+            try {
+                writerThread.join(CLOSE_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Path outputDirectory;
+        private String logBaseName;
+        private String logNameSuffix;
+        private boolean rotate;
+        private LogFileHeaderGenerator logFileHeaderGenerator;
+        private int slots = 4096;
+        private int slotSize = 1024;
+        private long maxFileSize;
+        private Duration flushInterval = Duration.ofSeconds(1);
+
+        public Builder setOutputDirectory(Path outputDirectory) {
+            this.outputDirectory = outputDirectory;
+            return this;
+        }
+
+        public Builder setLogBaseName(String logBaseName) {
+            this.logBaseName = logBaseName;
+            return this;
+        }
+
+        public Builder setLogNameSuffix(String logNameSuffix) {
+            this.logNameSuffix = logNameSuffix;
+            return this;
+        }
+
+        public Builder setRotate(boolean rotate) {
+            this.rotate = rotate;
+            return this;
+        }
+
+        public Builder setLogFileHeaderGenerator(LogFileHeaderGenerator logFileHeaderGenerator) {
+            this.logFileHeaderGenerator = logFileHeaderGenerator;
+            return this;
+        }
+
+        /**
+         * @param slots the number of slots, rounded up to the next power of two
+         */
+        public Builder setSlots(int slots) {
+            this.slots = slots;
+            return this;
+        }
+
+        /**
+         * @param slotSize the size of a slot in bytes, including the line separator
+         */
+        public Builder setSlotSize(int slotSize) {
+            this.slotSize = slotSize;
+            return this;
+        }
+
+        /**
+         * @param maxFileSize the maximum size of the log file in bytes, {@code 0} to disable the size based rotation
+         */
+        public Builder setMaxFileSize(long maxFileSize) {
+            this.maxFileSize = maxFileSize;
+            return this;
+        }
+
+        public Builder setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        public RingBufferAccessLogReceiver build() {
+            return new RingBufferAccessLogReceiver(this).start();
+        }
+    }
+}
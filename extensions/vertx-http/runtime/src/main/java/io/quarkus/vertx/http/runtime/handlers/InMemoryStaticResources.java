@@ -0,0 +1,198 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vertx.http.runtime.StaticResourcesConfig;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves small static resources from memory.
+ * <p>
+ * The resources are loaded when the application starts and all the response headers are computed upfront. The
+ * conditional requests are answered without any I/O.
+ * <p>
+ * The resources with a media type that is compressed on the fly get a weak {@code ETag} and {@code Vary: Accept-Encoding},
+ * because the bytes sent depend on the {@code Accept-Encoding} header of the request.
+ */
+public class InMemoryStaticResources {
+
+    private static final Logger LOG = Logger.getLogger(InMemoryStaticResources.class);
+
+    private static final int HTTP_STATUS_NOT_MODIFIED = 304;
+    private static final String RANGE = "Range";
+    private static final String VARY_VALUE = HttpHeaders.ACCEPT_ENCODING.toString();
+
+    private final Map<String, Resource> resources;
+    private final String cacheControl;
+    private final boolean rangeSupport;
+
+    /**
+     * @param location the classpath location of the resources
+     * @param sizes the sizes of the resources keyed by the resource path
+     * @param lastModified the last modification times of the resources in milliseconds since the epoch, keyed by the
+     *        resource path
+     * @param compressMediaTypes the media types that are compressed on the fly
+     * @param config the static resources config
+     */
+    public InMemoryStaticResources(String location, Map<String, Long> sizes, Map<String, Long> lastModified,
+            Set<String> compressMediaTypes, StaticResourcesConfig config) {
+        long maxFileSize = config.inMemoryMaxFileSize.asLongValue();
+        long remaining = config.inMemoryMaxTotalSize.asLongValue();
+        List<Map.Entry<String, Long>> candidates = new ArrayList<>(sizes.size());
+        for (Map.Entry<String, Long> e : sizes.entrySet()) {
+            if (e.getValue() <= maxFileSize && (config.includeHidden || !isHidden(e.getKey()))) {
+                candidates.add(e);
+            }
+        }
+        // Keep as many resources as possible
+        candidates.sort(Map.Entry.comparingByValue(Comparator.naturalOrder()));
+
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        this.resources = new HashMap<>(candidates.size());
+        long total = 0;
+        for (Map.Entry<String, Long> e : candidates) {
+            if (e.getValue() > remaining) {
+                break;
+            }
+            String path = e.getKey();
+            byte[] content = PrecompressedStaticResources.read(cl, location + path);
+            if (content == null || content.length > remaining) {
+                continue;
+            }
+            boolean compressed = compressMediaTypes.contains(MimeMapping.getMimeTypeForFilename(path));
+            String etag = PrecompressedStaticResources.etag(content, null);
+            resources.put(path, new Resource(PrecompressedStaticResources.directBuffer(content),
+                    PrecompressedStaticResources.contentType(path, config.contentEncoding),
+                    compressed ? "W/" + etag : etag, compressed, lastModified.get(path)));
+            remaining -= content.length;
+            total += content.length;
+        }
+        LOG.debugf("%s static resources kept in memory [%s bytes]", resources.size(), total);
+
+        this.cacheControl = config.cachingEnabled ? "public, max-age=" + config.maxAge.toSeconds() : null;
+        this.rangeSupport = config.enableRangeSupport;
+    }
+
+    /**
+     * Sends the resource if it's kept in memory.
+     *
+     * @param ctx the routing context
+     * @param path the resource path
+     * @return {@code true} if the response was sent, {@code false} if the request should be handled by the next handler
+     */
+    public boolean handle(RoutingContext ctx, String path) {
+        Resource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD)
+                // Ranges are served from the classpath
+                || request.headers().contains(RANGE)) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        if (resource.compressed) {
+            headers.set(HttpHeaders.VARY, VARY_VALUE);
+        }
+        headers.set(HttpHeaders.ETAG, resource.etag);
+        if (resource.lastModified != null) {
+            headers.set(HttpHeaders.LAST_MODIFIED, resource.lastModified);
+        }
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (isNotModified(request, resource)) {
+            response.setStatusCode(HTTP_STATUS_NOT_MODIFIED).end();
+            return true;
+        }
+        if (resource.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (rangeSupport) {
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, resource.contentLength);
+            response.end();
+        } else {
+            response.end(resource.content);
+        }
+        return true;
+    }
+
+    private boolean isNotModified(HttpServerRequest request, Resource resource) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // If-Modified-Since is ignored if If-None-Match is present
+            return ifNoneMatch.equals("*") || ifNoneMatch.contains(resource.etag);
+        }
+        String ifModifiedSince = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (ifModifiedSince != null && resource.lastModified != null) {
+            if (ifModifiedSince.equals(resource.lastModified)) {
+                return true;
+            }
+            try {
+                return !ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant()
+                        .isBefore(resource.lastModifiedInstant);
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHidden(String path) {
+        return path.startsWith(".") || path.contains("/.");
+    }
+
+    private static final class Resource {
+
+        final Buffer content;
+        final String contentLength;
+        final String contentType;
+        final String etag;
+        final boolean compressed;
+        final String lastModified;
+        final Instant lastModifiedInstant;
+
+        Resource(Buffer content, String contentType, String etag, boolean compressed, Long lastModified) {
+            this.content = content;
+            this.contentLength = Integer.toString(content.length());
+            this.contentType = contentType;
+            this.etag = etag;
+            this.compressed = compressed;
+            if (lastModified != null) {
+                // The HTTP date has a precision of one second
+                this.lastModifiedInstant = Instant.ofEpochMilli(lastModified).truncatedTo(ChronoUnit.SECONDS);
+                this.lastModified = DateTimeFormatter.RFC_1123_DATE_TIME
+                        .format(lastModifiedInstant.atZone(ZoneOffset.UTC));
+            } else {
+                this.lastModifiedInstant = null;
+                this.lastModified = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the static resources that were compressed at build time to the clients that accept the content encoding.
+ * <p>
+ * The compressed variants are loaded in memory when the application starts. Every variant has a strong {@code ETag}
+ * so that the conditional requests can be answered without sending the content.
+ */
+public class PrecompressedStaticResources {
+
+    private static final int HTTP_STATUS_NOT_MODIFIED = 304;
+    private static final String RANGE = "Range";
+    private static final String VARY_VALUE = HttpHeaders.ACCEPT_ENCODING.toString();
+
+    private final Map<String, Resource> resources;
+    private final String cacheControl;
+
+    /**
+     * @param location the classpath location of the compressed variants
+     * @param encodings the content encodings of the compressed variants, in the order of preference, keyed by the
+     *        resource path
+     * @param defaultEncoding the charset of the text resources
+     * @param maxAgeSeconds the value of the {@code max-age} directive, or a negative value if caching is disabled
+     */
+    public PrecompressedStaticResources(String location, Map<String, List<String>> encodings, Charset defaultEncoding,
+            long maxAgeSeconds) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        this.resources = new HashMap<>(encodings.size());
+        for (Map.Entry<String, List<String>> e : encodings.entrySet()) {
+            String path = e.getKey();
+            List<Variant> variants = new ArrayList<>(e.getValue().size());
+            for (String encoding : e.getValue()) {
+                byte[] content = read(cl, location + path + "." + extension(encoding));
+                if (content != null) {
+                    variants.add(new Variant(encoding, directBuffer(content), etag(content, encoding)));
+                }
+            }
+            if (!variants.isEmpty()) {
+                resources.put(path, new Resource(contentType(path, defaultEncoding), variants.toArray(new Variant[0])));
+            }
+        }
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, max-age=" + maxAgeSeconds;
+    }
+
+    /**
+     * Sends the compressed variant of the resource if the client accepts one of its encodings.
+     *
+     * @param ctx the routing context
+     * @param path the resource path
+     * @return {@code true} if the response was sent, {@code false} if the request should be handled by the next handler
+     */
+    public boolean handle(RoutingContext ctx, String path) {
+        Resource resource = resources.get(path);
+        if (resource == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpServerResponse response = ctx.response();
+        // The uncompressed variant varies by the Accept-Encoding header as well
+        response.putHeader(HttpHeaders.VARY, VARY_VALUE);
+        HttpMethod method = request.method();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD)
+                // Ranges are served from the uncompressed resource
+                || request.headers().contains(RANGE)) {
+            return false;
+        }
+        Variant variant = resource.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (variant == null) {
+            return false;
+        }
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(variant.etag))) {
+            response.setStatusCode(HTTP_STATUS_NOT_MODIFIED).end();
+            return true;
+        }
+        headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        if (resource.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, resource.contentType);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(variant.content.length()));
+            response.end();
+        } else {
+            response.end(variant.content);
+        }
+        return true;
+    }
+
+    public static String extension(String encoding) {
+        return "gzip".equals(encoding) ? "gz" : encoding;
+    }
+
+    static String contentType(String path, Charset defaultEncoding) {
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            // The same as StaticHandler
+            return contentType + ";charset=" + defaultEncoding;
+        }
+        return contentType;
+    }
+
+    static String etag(byte[] content, String encoding) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        return "\"" + Integer.toHexString(content.length) + "-" + Long.toHexString(crc.getValue())
+                + (encoding != null ? "-" + encoding : "") + "\"";
+    }
+
+    /**
+     * The content is written to the socket without a copy and is never released.
+     */
+    static Buffer directBuffer(byte[] content) {
+        return Buffer.buffer(Unpooled.unreleasableBuffer(Unpooled.directBuffer(content.length).writeBytes(content)));
+    }
+
+    static byte[] read(ClassLoader cl, String name) {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            return in != null ? in.readAllBytes() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param acceptEncoding the value of the {@code Accept-Encoding} header
+     * @param encoding the content encoding
+     * @return {@code true} if the given content encoding is acceptable
+     */
+    static boolean accepts(String acceptEncoding, String encoding) {
+        boolean wildcard = false;
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int paramsStart = acceptEncoding.indexOf(';', start);
+            int nameEnd = paramsStart != -1 && paramsStart < end ? paramsStart : end;
+            String name = acceptEncoding.substring(start, nameEnd).trim();
+            boolean matches = name.equalsIgnoreCase(encoding);
+            if (matches || name.equals("*")) {
+                boolean accepted = nameEnd == end || qualityValue(acceptEncoding.substring(nameEnd + 1, end)) > 0;
+                if (matches) {
+                    // An explicit value takes precedence over the wildcard
+                    return accepted;
+                }
+                wildcard = accepted;
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    private static float qualityValue(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Float.parseFloat(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static final class Resource {
+
+        final String contentType;
+        final Variant[] variants;
+
+        Resource(String contentType, Variant[] variants) {
+            this.contentType = contentType;
+            this.variants = variants;
+        }
+
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+                return null;
+            }
+            for (Variant variant : variants) {
+                if (accepts(acceptEncoding, variant.encoding)) {
+                    return variant;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class Variant {
+
+        final String encoding;
+        final Buffer content;
+        final String etag;
+
+        Variant(String encoding, Buffer content, String etag) {
+            this.encoding = encoding;
+            this.content = content;
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.attribute.ConstantExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.ExchangeAttribute;
+import io.quarkus.vertx.http.runtime.attribute.NullAttribute;
+
+class RingBufferAccessLogReceiverTest {
+
+    @TempDir
+    Path logDirectory;
+
+    @Test
+    void testWriteMessages() throws IOException {
+        RingBufferAccessLogReceiver receiver = builder().build();
+        receiver.logMessage("GET /hello 200");
+        receiver.logMessage(null, new ExchangeAttribute[] { new ConstantExchangeAttribute("GET /héllo "),
+                NullAttribute.INSTANCE, new ConstantExchangeAttribute("😀 200") });
+        receiver.close();
+
+        assertEquals(List.of("GET /hello 200", "GET /héllo 😀 200"), readLines("server.log"));
+        assertEquals(0, receiver.getDroppedMessages());
+    }
+
+    @Test
+    void testTruncateMessages() throws IOException {
+        RingBufferAccessLogReceiver receiver = builder().setSlotSize(8).build();
+        receiver.logMessage("0123456789");
+        // multi-byte characters are not split
+        receiver.logMessage("012345é");
+        receiver.close();
+
+        assertEquals(List.of("0123456", "012345"), readLines("server.log"));
+        assertEquals(2, receiver.getTruncatedMessages());
+    }
+
+    @Test
+    void testDropMessagesWhenFull() throws IOException {
+        // the writer thread is not started yet
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(builder().setSlots(3));
+        for (int i = 0; i < 5; i++) {
+            receiver.logMessage("message " + i);
+        }
+        assertEquals(1, receiver.getDroppedMessages());
+        receiver.start();
+        receiver.close();
+
+        assertEquals(List.of("message 0", "message 1", "message 2", "message 3"), readLines("server.log"));
+        receiver.logMessage("message 5");
+        assertEquals(2, receiver.getDroppedMessages());
+    }
+
+    @Test
+    void testCloseWhileLogging() throws Exception {
+        RingBufferAccessLogReceiver receiver = builder().setSlots(1024).build();
+        int threads = 4;
+        AtomicLong attempts = new AtomicLong();
+        AtomicBoolean stop = new AtomicBoolean();
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread producer = new Thread(() -> {
+                while (!stop.get()) {
+                    receiver.logMessage("message");
+                    attempts.incrementAndGet();
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        Thread.sleep(50);
+        receiver.close();
+        stop.set(true);
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // every message is either written or counted as dropped
+        assertEquals(attempts.get(), readLines("server.log").size() + receiver.getDroppedMessages());
+    }
+
+    @Test
+    void testRotateOnSize() throws IOException {
+        RingBufferAccessLogReceiver receiver = new RingBufferAccessLogReceiver(builder().setMaxFileSize(20));
+        receiver.logMessage("first message");
+        receiver.start();
+        // wait until the first message is written so that the messages are written in two batches
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!Files.exists(logDirectory.resolve("server.log")) && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        receiver.logMessage("second message");
+        receiver.close();
+
+        try (Stream<Path> files = Files.list(logDirectory)) {
+            List<Path> rotated = files.filter(p -> !p.getFileName().toString().equals("server.log")).toList();
+            assertEquals(1, rotated.size());
+            assertTrue(rotated.get(0).getFileName().toString().startsWith("server"));
+            assertEquals(List.of("first message"), Files.readAllLines(rotated.get(0), StandardCharsets.UTF_8));
+        }
+        assertEquals(List.of("second message"), readLines("server.log"));
+    }
+
+    private RingBufferAccessLogReceiver.Builder builder() {
+        return RingBufferAccessLogReceiver.builder()
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server")
+                .setLogNameSuffix(".log")
+                .setSlots(16)
+                .setSlotSize(128);
+    }
+
+    private List<String> readLines(String file) throws IOException {
+        return Files.readAllLines(logDirectory.resolve(file), StandardCharsets.UTF_8);
+    }
+}
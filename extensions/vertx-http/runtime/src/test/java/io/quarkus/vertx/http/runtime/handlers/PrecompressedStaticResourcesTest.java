@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PrecompressedStaticResourcesTest {
+
+    @Test
+    public void testAccepts() {
+        assertTrue(PrecompressedStaticResources.accepts("gzip", "gzip"));
+        assertTrue(PrecompressedStaticResources.accepts("deflate, gzip, br", "br"));
+        assertTrue(PrecompressedStaticResources.accepts("gzip;q=1.0, br;q=0.5", "br"));
+        assertTrue(PrecompressedStaticResources.accepts("GZIP", "gzip"));
+        assertTrue(PrecompressedStaticResources.accepts("*", "br"));
+        assertTrue(PrecompressedStaticResources.accepts("identity, *;q=0.1", "gzip"));
+        assertFalse(PrecompressedStaticResources.accepts("deflate", "gzip"));
+        assertFalse(PrecompressedStaticResources.accepts("gzip;q=0", "gzip"));
+        assertFalse(PrecompressedStaticResources.accepts("br;q=0.0, gzip", "br"));
+        assertFalse(PrecompressedStaticResources.accepts("*, br;q=0", "br"));
+        assertFalse(PrecompressedStaticResources.accepts("gzip;q=0, *", "gzip"));
+        assertFalse(PrecompressedStaticResources.accepts("gzipped", "gzip"));
+    }
+
+}
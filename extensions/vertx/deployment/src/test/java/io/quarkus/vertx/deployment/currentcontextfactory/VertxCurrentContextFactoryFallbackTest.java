@@ -0,0 +1,51 @@
+package io.quarkus.vertx.deployment.currentcontextfactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.util.concurrent.FastThreadLocalThread;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.vertx.runtime.VertxCurrentContextFactory;
+
+public class VertxCurrentContextFactoryFallbackTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest();
+
+    @Test
+    public void testContextWithoutVertxContext() throws InterruptedException {
+        assertTrue(Arc.container().getCurrentContextFactory() instanceof VertxCurrentContextFactory);
+        List<Boolean> results = new CopyOnWriteArrayList<>();
+        Runnable task = () -> {
+            ManagedContext requestContext = Arc.container().requestContext();
+            results.add(requestContext.isActive());
+            requestContext.activate();
+            try {
+                results.add(requestContext.isActive());
+            } finally {
+                requestContext.terminate();
+            }
+            results.add(requestContext.isActive());
+        };
+        // Without a duplicated context the state is stored in the thread-local fallback
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+        // The same applies to a netty thread
+        Thread fastThread = new FastThreadLocalThread(task);
+        fastThread.start();
+        fastThread.join();
+        assertEquals(List.of(false, true, false, false, true, false), results);
+        assertFalse(Arc.container().requestContext().isActive());
+    }
+
+}
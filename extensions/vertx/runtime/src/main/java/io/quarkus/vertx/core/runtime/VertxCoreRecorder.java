@@ -35,7 +35,9 @@
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.FastThreadLocal;
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.impl.ScopedValueCurrentContextFactory;
 import io.quarkus.runtime.ExecutorRecorder;
 import io.quarkus.runtime.IOThreadDetector;
 import io.quarkus.runtime.LaunchMode;
@@ -602,8 +604,13 @@ private static void setNewThreadTccl(VertxThread thread) {
     }
 
     public ContextHandler<Object> executionContextHandler(boolean customizeArcContext) {
+        CurrentContextFactory containerFactory = Arc.container().getCurrentContextFactory();
+        ScopedValueCurrentContextFactory scopedValueFactory = containerFactory instanceof ScopedValueCurrentContextFactory
+                ? (ScopedValueCurrentContextFactory) containerFactory
+                : null;
         VertxCurrentContextFactory currentContextFactory = customizeArcContext
-                ? (VertxCurrentContextFactory) Arc.container().getCurrentContextFactory()
+                ? (VertxCurrentContextFactory) (scopedValueFactory != null ? scopedValueFactory.getDelegate()
+                        : containerFactory)
                 : null;
         return new ContextHandler<Object>() {
             @Override
@@ -632,7 +639,12 @@ public void runWith(Runnable task, Object context) {
                     }
                     vertxContext.beginDispatch();
                     try {
-                        task.run();
+                        if (scopedValueFactory != null && scopedValueFactory.isBound()) {
+                            // The states bound for the current task must not be propagated either
+                            scopedValueFactory.run(task);
+                        } else {
+                            task.run();
+                        }
                     } finally {
                         vertxContext.endDispatch(currentContext);
                     }
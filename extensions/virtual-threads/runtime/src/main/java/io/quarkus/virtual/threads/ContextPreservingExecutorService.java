@@ -12,12 +12,18 @@
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.impl.ScopedValueCurrentContextFactory;
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.ContextInternal;
 
 /**
  * Delegating executor service implementation preserving the Vert.x context on {@link #execute(Runnable)}
+ * <p>
+ * If the current contexts of ArC are backed by a {@link ScopedValueCurrentContextFactory}, the states of the current contexts
+ * are bound for the duration of each task.
  */
 class ContextPreservingExecutorService implements ExecutorService {
     private final ExecutorService delegate;
@@ -42,12 +48,12 @@ public void run() {
                 ContextInternal contextInternal = (ContextInternal) context;
                 final var previousContext = contextInternal.beginDispatch();
                 try {
-                    task.run();
+                    runBound(task);
                 } finally {
                     contextInternal.endDispatch(previousContext);
                 }
             } else {
-                task.run();
+                runBound(task);
             }
         }
     }
@@ -68,16 +74,38 @@ public T call() throws Exception {
                 ContextInternal contextInternal = (ContextInternal) context;
                 final var previousContext = contextInternal.beginDispatch();
                 try {
-                    return task.call();
+                    return callBound(task);
                 } finally {
                     contextInternal.endDispatch(previousContext);
                 }
             } else {
-                return task.call();
+                return callBound(task);
             }
         }
     }
 
+    private static void runBound(Runnable task) {
+        ScopedValueCurrentContextFactory factory = scopedValueCurrentContextFactory();
+        if (factory != null) {
+            factory.run(task);
+        } else {
+            task.run();
+        }
+    }
+
+    private static <T> T callBound(Callable<T> task) throws Exception {
+        ScopedValueCurrentContextFactory factory = scopedValueCurrentContextFactory();
+        return factory != null ? factory.call(task) : task.call();
+    }
+
+    private static ScopedValueCurrentContextFactory scopedValueCurrentContextFactory() {
+        ArcContainer container = Arc.container();
+        if (container != null && container.getCurrentContextFactory() instanceof ScopedValueCurrentContextFactory) {
+            return (ScopedValueCurrentContextFactory) container.getCurrentContextFactory();
+        }
+        return null;
+    }
+
     private static Runnable decorate(Runnable command) {
         Objects.requireNonNull(command);
         return new ContextPreservingRunnable(command);
@@ -0,0 +1,71 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.quarkus.websockets.next.test.utils.WSClient.ReceiverMode;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class BroadcastSenderTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Encoded.class, WSClient.class);
+            });
+
+    @TestHTTPResource("encoded")
+    URI encodedUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBroadcast() {
+        try (WSClient sender = WSClient.create(vertx, ReceiverMode.TEXT).connect(WSClient.toWS(encodedUri, "encoded/sender"));
+                WSClient receiver = WSClient.create(vertx, ReceiverMode.TEXT)
+                        .connect(WSClient.toWS(encodedUri, "encoded/receiver"));
+                WSClient excluded = WSClient.create(vertx, ReceiverMode.TEXT)
+                        .connect(WSClient.toWS(encodedUri, "encoded/excluded"));
+                WSClient closed = WSClient.create(vertx, ReceiverMode.TEXT)
+                        .connect(WSClient.toWS(encodedUri, "encoded/closed"))) {
+            Awaitility.await().until(() -> Encoded.OPEN_THREADS.size() == 4);
+            // A closed connection must not fail the broadcast
+            closed.disconnect();
+
+            sender.sendAndAwait("hello");
+            sender.waitForMessages(2);
+            receiver.waitForMessages(1);
+
+            assertEquals(List.of("HELLO", "done"), texts(sender.getMessages()));
+            assertEquals(List.of("HELLO"), texts(receiver.getMessages()));
+            assertEquals(List.of(), texts(excluded.getMessages()));
+            // The message is encoded once for all connections
+            assertEquals(1, Encoded.ENCODED.get());
+            // Each connection is filtered (and written) on the event loop it was opened on
+            assertFalse(Encoded.FILTER_THREADS.isEmpty());
+            for (Map.Entry<String, String> e : Encoded.FILTER_THREADS.entrySet()) {
+                assertEquals(Encoded.OPEN_THREADS.get(e.getKey()), e.getValue(), e.getKey());
+            }
+        }
+    }
+
+    private static List<String> texts(List<Buffer> messages) {
+        return messages.stream().map(Buffer::toString).toList();
+    }
+
+}
@@ -0,0 +1,77 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.TextMessageCodec;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+
+@WebSocket(path = "/encoded/{client}")
+public class Encoded {
+
+    static final AtomicInteger ENCODED = new AtomicInteger();
+
+    // connection id -> thread the connection was opened on
+    static final Map<String, String> OPEN_THREADS = new ConcurrentHashMap<>();
+
+    // connection id -> thread the broadcast filter was applied on
+    static final Map<String, String> FILTER_THREADS = new ConcurrentHashMap<>();
+
+    @Inject
+    WebSocketConnection connection;
+
+    @OnOpen
+    Uni<Void> open() {
+        OPEN_THREADS.put(connection.id(), Thread.currentThread().getName());
+        return Uni.createFrom().voidItem();
+    }
+
+    @OnTextMessage
+    Uni<String> broadcast(String msg) {
+        return connection.broadcast()
+                .filter(c -> {
+                    FILTER_THREADS.put(c.id(), Context.isOnEventLoopThread() ? Thread.currentThread().getName() : "");
+                    return !c.pathParam("client").equals("excluded");
+                })
+                .sendText(new Message(msg))
+                .replaceWith("done")
+                .onFailure().recoverWithItem(t -> "failed: " + t);
+    }
+
+    public record Message(String value) {
+    }
+
+    @Singleton
+    @Priority(10)
+    public static class MessageCodec implements TextMessageCodec<Message> {
+
+        @Override
+        public boolean supports(Type type) {
+            return type.equals(Message.class);
+        }
+
+        @Override
+        public String encode(Message value) {
+            ENCODED.incrementAndGet();
+            return value.value().toUpperCase();
+        }
+
+        @Override
+        public Message decode(Type type, String value) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
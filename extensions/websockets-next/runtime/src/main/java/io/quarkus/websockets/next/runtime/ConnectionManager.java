@@ -14,6 +14,7 @@
 
 import org.jboss.logging.Logger;
 
+import io.netty.channel.EventLoop;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.websockets.next.Closed;
@@ -29,6 +30,9 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // generatedEndpointClassName -> open server connections grouped by the event loop they are bound to
+    private final ConcurrentMap<String, EventLoopShards> endpointToShards = new ConcurrentHashMap<>();
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
@@ -56,6 +60,11 @@ public Stream<WebSocketConnection> stream() {
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+            if (connection instanceof WebSocketConnectionImpl) {
+                WebSocketConnectionImpl impl = (WebSocketConnectionImpl) connection;
+                endpointToShards.computeIfAbsent(endpoint, e -> new EventLoopShards()).get(impl.eventLoop()).connections
+                        .add(impl);
+            }
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -77,6 +86,13 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                if (connection instanceof WebSocketConnectionImpl) {
+                    WebSocketConnectionImpl impl = (WebSocketConnectionImpl) connection;
+                    EventLoopShards shards = endpointToShards.get(endpoint);
+                    if (shards != null) {
+                        shards.get(impl.eventLoop()).connections.remove(impl);
+                    }
+                }
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -107,6 +123,19 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param endpoint
+     * @return the server connections for the given endpoint grouped by their event loop, never {@code null}
+     */
+    List<EventLoopShard> getEventLoopShards(String endpoint) {
+        EventLoopShards shards = endpointToShards.get(endpoint);
+        if (shards == null) {
+            return List.of();
+        }
+        return shards.all;
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +143,45 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointToShards.clear();
+    }
+
+    /**
+     * The connections bound to a single event loop.
+     */
+    static final class EventLoopShard {
+
+        // null for connections that were not created on an event loop
+        final EventLoop eventLoop;
+
+        final Set<WebSocketConnectionImpl> connections = ConcurrentHashMap.newKeySet();
+
+        EventLoopShard(EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+    }
+
+    private static final class EventLoopShards {
+
+        private final EventLoopShard noEventLoop = new EventLoopShard(null);
+
+        private final ConcurrentMap<EventLoop, EventLoopShard> byEventLoop = new ConcurrentHashMap<>();
+
+        // Shards are never removed; there are only a few event loops
+        private final List<EventLoopShard> all = new CopyOnWriteArrayList<>(List.of(noEventLoop));
+
+        EventLoopShard get(EventLoop eventLoop) {
+            if (eventLoop == null) {
+                return noEventLoop;
+            }
+            return byEventLoop.computeIfAbsent(eventLoop, e -> {
+                EventLoopShard shard = new EventLoopShard(e);
+                all.add(shard);
+                return shard;
+            });
+        }
+
     }
 
     public interface ConnectionListener {
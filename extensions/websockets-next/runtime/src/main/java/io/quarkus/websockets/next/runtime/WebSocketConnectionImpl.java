@@ -7,16 +7,26 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.netty.channel.EventLoop;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.ConnectionManager.EventLoopShard;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.ext.web.RoutingContext;
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
@@ -31,15 +41,29 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final BroadcastSender defaultBroadcast;
 
+    // The event loop the underlying channel is registered with, or null if unknown
+    private final EventLoop eventLoop;
+
+    // Text messages up to this size are broadcast as a single frame
+    private final int maxFrameSize;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager,
-            Codecs codecs, RoutingContext ctx, TrafficLogger trafficLogger) {
+            Codecs codecs, RoutingContext ctx, TrafficLogger trafficLogger, int maxFrameSize) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
         this.defaultBroadcast = new BroadcastImpl(null);
+        // Connections are always created on the event loop of the HTTP connection
+        Context context = Vertx.currentContext();
+        this.eventLoop = context instanceof ContextInternal ? ((ContextInternal) context).nettyEventLoop() : null;
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    EventLoop eventLoop() {
+        return eventLoop;
     }
 
     @Override
@@ -164,25 +188,6 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Buffer b) {
-                return c.sendBinary(b);
-            }
-        };
-
         private final Predicate<WebSocketConnection> filter;
 
         BroadcastImpl(Predicate<WebSocketConnection> filter) {
@@ -196,17 +201,25 @@ public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return Uni.createFrom().deferred(() -> doSendText(message));
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // The message is encoded only once for all connections
+            return Uni.createFrom().deferred(() -> doSendText(encodeText(message)));
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return Uni.createFrom().deferred(() -> doSend(new Function<>() {
+                @Override
+                public Future<Void> apply(WebSocketConnectionImpl c) {
+                    Future<Void> future = c.webSocket.writeBinaryMessage(message);
+                    return c.trafficLogger == null ? future
+                            : future.onSuccess(v -> c.trafficLogger.binaryMessageSent(c, message));
+                }
+            }));
         }
 
         @Override
@@ -219,26 +232,99 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
-        private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
-            if (connections.isEmpty()) {
+        private Uni<Void> doSendText(String message) {
+            Buffer payload = Buffer.buffer(message);
+            boolean singleFrame = payload.length() <= maxFrameSize;
+            return doSend(new Function<>() {
+                @Override
+                public Future<Void> apply(WebSocketConnectionImpl c) {
+                    Future<Void> future;
+                    if (singleFrame) {
+                        // The UTF-8 payload is shared by all connections, each frame only wraps it
+                        future = c.webSocket.writeFrame(new WebSocketFrameImpl(WebSocketFrameType.TEXT,
+                                payload.getByteBuf(), true));
+                    } else {
+                        // Let Vert.x split the message into multiple frames
+                        future = c.webSocket.writeTextMessage(message);
+                    }
+                    return c.trafficLogger == null ? future
+                            : future.onSuccess(v -> c.trafficLogger.textMessageSent(c, message));
+                }
+            });
+        }
+
+        private Uni<Void> doSend(Function<WebSocketConnectionImpl, Future<Void>> sendFunction) {
+            List<EventLoopShard> shards = connectionManager.getEventLoopShards(generatedEndpointClass);
+            // A single task is submitted per event loop; the connections are filtered on the event loop
+            List<Future<List<Throwable>>> results = new ArrayList<>(shards.size());
+            for (EventLoopShard shard : shards) {
+                if (shard.connections.isEmpty()) {
+                    continue;
+                }
+                Promise<List<Throwable>> promise = Promise.promise();
+                Runnable batch = new Runnable() {
+                    @Override
+                    public void run() {
+                        sendBatch(shard.connections, sendFunction, promise);
+                    }
+                };
+                EventLoop eventLoop = shard.eventLoop;
+                if (eventLoop == null || eventLoop.inEventLoop()) {
+                    batch.run();
+                } else {
+                    eventLoop.execute(batch);
+                }
+                results.add(promise.future());
+            }
+            if (results.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            List<Uni<Void>> unis = new ArrayList<>(connections.size());
-            for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
-                    unis.add(sendFunction.apply(connection, message)
-                            // Intentionally ignore 'WebSocket is closed' failures
-                            // It might happen that the connection is closed in the mean time
-                            .onFailure(t -> Endpoints.isWebSocketIsClosedFailure(t, (WebSocketConnectionBase) connection))
-                            .recoverWithNull());
+            return Uni.createFrom().completionStage(Future.all(results).toCompletionStage())
+                    .onItem().transformToUni(composite -> {
+                        List<Throwable> failures = new ArrayList<>();
+                        for (Future<List<Throwable>> result : results) {
+                            failures.addAll(result.result());
+                        }
+                        if (failures.isEmpty()) {
+                            return Uni.createFrom().voidItem();
+                        }
+                        return Uni.createFrom().failure(failures.size() == 1 ? failures.get(0)
+                                : new CompositeException(failures));
+                    });
+        }
+
+        private void sendBatch(Set<WebSocketConnectionImpl> connections,
+                Function<WebSocketConnectionImpl, Future<Void>> sendFunction, Promise<List<Throwable>> promise) {
+            List<Future<Void>> writes = new ArrayList<>();
+            for (WebSocketConnectionImpl connection : connections) {
+                Future<Void> write;
+                try {
+                    if (!connection.isOpen() || (filter != null && !filter.test(connection))) {
+                        continue;
+                    }
+                    write = sendFunction.apply(connection);
+                } catch (Throwable t) {
+                    write = Future.failedFuture(t);
                 }
+                writes.add(write
+                        // Intentionally ignore 'WebSocket is closed' failures
+                        // It might happen that the connection is closed in the mean time
+                        .recover(t -> Endpoints.isWebSocketIsClosedFailure(t, connection) ? Future.succeededFuture()
+                                : Future.failedFuture(t)));
             }
-            if (unis.isEmpty()) {
-                return Uni.createFrom().voidItem();
+            if (writes.isEmpty()) {
+                promise.complete(List.of());
+                return;
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            Future.join(writes).onComplete(ignored -> {
+                List<Throwable> failures = new ArrayList<>(0);
+                for (Future<Void> write : writes) {
+                    if (write.failed()) {
+                        failures.add(write.cause());
+                    }
+                }
+                promise.complete(failures);
+            });
         }
 
     }
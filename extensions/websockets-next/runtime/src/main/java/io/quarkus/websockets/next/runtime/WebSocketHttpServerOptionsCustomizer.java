@@ -34,6 +34,9 @@ private void customize(HttpServerOptions options) {
         if (config.maxMessageSize().isPresent()) {
             options.setMaxWebSocketMessageSize(config.maxMessageSize().getAsInt());
         }
+        if (config.maxFrameSize().isPresent()) {
+            options.setMaxWebSocketFrameSize(config.maxFrameSize().getAsInt());
+        }
     }
 
 }
@@ -0,0 +1,137 @@
+package io.quarkus.arc.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.context.BeforeDestroyed;
+import jakarta.enterprise.context.Destroyed;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.spi.CreationalContext;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.spi.EventContext;
+import jakarta.inject.Named;
+
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableObserverMethod;
+
+/**
+ * Registers the observers of {@link DomainEvent} and a {@code @RequestScoped} bean without a build step, i.e. the same way the
+ * generated components provider of an application does, with the built-in qualifiers: two synchronous and two asynchronous
+ * observers, and {@link #COUNTER_BEAN}.
+ */
+public class BenchmarkComponentsProvider implements ComponentsProvider {
+
+    static final LongAdder SYNC_NOTIFICATIONS = new LongAdder();
+    static final LongAdder ASYNC_NOTIFICATIONS = new LongAdder();
+
+    static final CounterBean COUNTER_BEAN = new CounterBean();
+
+    @Override
+    public Components getComponents(CurrentContextFactory currentContextFactory) {
+        return new Components(List.of(COUNTER_BEAN),
+                List.of(new Observer(false, 1), new Observer(false, 2), new Observer(true, 1), new Observer(true, 2)),
+                Collections.emptyList(), Collections.emptySet(), Collections.emptyMap(), Collections::emptyList,
+                Collections.emptyMap(),
+                Set.of(Any.class.getName(), Default.class.getName(), Named.class.getName(), Initialized.class.getName(),
+                        BeforeDestroyed.class.getName(), Destroyed.class.getName()),
+                Collections.emptyMap());
+    }
+
+    static final class Counter {
+
+        private long value;
+
+        long increment() {
+            return ++value;
+        }
+
+    }
+
+    static final class CounterBean implements InjectableBean<Counter> {
+
+        @Override
+        public String getIdentifier() {
+            return "benchmark_counter";
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Counter.class;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return RequestScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Set.of(Counter.class, Object.class);
+        }
+
+        @Override
+        public Counter create(CreationalContext<Counter> creationalContext) {
+            return new Counter();
+        }
+
+        @Override
+        public Counter get(CreationalContext<Counter> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+    static final class Observer implements InjectableObserverMethod<DomainEvent> {
+
+        private final boolean async;
+        private final int priority;
+
+        Observer(boolean async, int priority) {
+            this.async = async;
+            this.priority = priority;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return BenchmarkComponentsProvider.class;
+        }
+
+        @Override
+        public Type getObservedType() {
+            return DomainEvent.class;
+        }
+
+        @Override
+        public boolean isAsync() {
+            return async;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getDeclaringBeanIdentifier() {
+            return null;
+        }
+
+        @Override
+        public void notify(EventContext<DomainEvent> eventContext) {
+            if (eventContext.getEvent().id() >= 0) {
+                (async ? ASYNC_NOTIFICATIONS : SYNC_NOTIFICATIONS).increment();
+            }
+        }
+
+    }
+
+}
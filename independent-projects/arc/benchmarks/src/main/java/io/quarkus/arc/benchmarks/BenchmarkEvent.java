@@ -0,0 +1,66 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+
+/**
+ * Measures {@link Event#fire(Object)} and {@link Event#fireAsync(Object)} of an event type with two synchronous and two
+ * asynchronous observers, see {@link BenchmarkComponentsProvider}.
+ * <p>
+ * The request context is activated for each notification, as it is for application observers. Run with {@code -prof gc} to
+ * see the allocation rate, i.e. {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkEvent {
+
+    private Event<DomainEvent> event;
+    private DomainEvent domainEvent;
+
+    @Setup
+    public void setup() {
+        Arc.initialize();
+        event = Arc.container().beanManager().getEvent().select(DomainEvent.class);
+        domainEvent = new DomainEvent(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(domainEvent);
+    }
+
+    @Benchmark
+    public DomainEvent fireAsync() {
+        // Includes the handoff to the executor, i.e. ForkJoinPool#commonPool()
+        return event.fireAsync(domainEvent).toCompletableFuture().join();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkEvent.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
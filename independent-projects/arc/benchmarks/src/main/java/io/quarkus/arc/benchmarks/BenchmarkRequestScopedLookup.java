@@ -0,0 +1,90 @@
+package io.quarkus.arc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInitConfig;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.BenchmarkComponentsProvider.Counter;
+import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ScopedValueCurrentContextFactory;
+
+/**
+ * Measures the lookup of a {@code @RequestScoped} bean instance, i.e. what a client proxy does for each invocation of a
+ * business method, with the default thread-local current context and with the current context bound to a scoped value, see
+ * {@link ScopedValueCurrentContextFactory}.
+ * <p>
+ * Each invocation performs {@value #LOOKUPS} lookups; for {@code scoped-value} in a single bound scope, as for a request
+ * handled on a virtual thread. The {@code scoped-value} variant requires JDK 21 or newer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRequestScopedLookup {
+
+    static final int LOOKUPS = 100;
+
+    @Param({ "thread-local", "scoped-value" })
+    public String currentContext;
+
+    private ScopedValueCurrentContextFactory scopedValueFactory;
+    private ManagedContext requestContext;
+    private long sum;
+
+    @Setup
+    public void setup() {
+        if ("scoped-value".equals(currentContext)) {
+            scopedValueFactory = new ScopedValueCurrentContextFactory(null);
+        }
+        Arc.initialize(ArcInitConfig.builder().setCurrentContextFactory(scopedValueFactory).build());
+        requestContext = Arc.container().requestContext();
+        requestContext.activate();
+    }
+
+    @TearDown
+    public void tearDown() {
+        requestContext.terminate();
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long lookup() {
+        if (scopedValueFactory != null) {
+            scopedValueFactory.run(this::lookups);
+        } else {
+            lookups();
+        }
+        return sum;
+    }
+
+    private void lookups() {
+        for (int i = 0; i < LOOKUPS; i++) {
+            Counter counter = ClientProxies.getSingleContextDelegate(requestContext,
+                    BenchmarkComponentsProvider.COUNTER_BEAN);
+            sum += counter.increment();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkRequestScopedLookup.class.getSimpleName() });
+    }
+
+}
@@ -0,0 +1,4 @@
+package io.quarkus.arc.benchmarks;
+
+public record DomainEvent(long id) {
+}
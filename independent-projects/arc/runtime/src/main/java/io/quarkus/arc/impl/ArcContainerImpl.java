@@ -410,6 +410,21 @@ public ExecutorService getExecutorService() {
         return executor != null ? executor : ForkJoinPool.commonPool();
     }
 
+    /**
+     * Each activation of the request context is counted, e.g. for an HTTP request or an observer notification.
+     *
+     * @param withBeanInstances
+     * @return the number of destroyed request context states with/without any request scoped bean instance
+     * @see RequestContext#getUnusedStatesCount()
+     */
+    public long getDestroyedRequestContextsCount(boolean withBeanInstances) {
+        if (contexts.requestContext instanceof RequestContext) {
+            RequestContext requestContext = (RequestContext) contexts.requestContext;
+            return withBeanInstances ? requestContext.getUsedStatesCount() : requestContext.getUnusedStatesCount();
+        }
+        return 0;
+    }
+
     public void setExecutor(ExecutorService executor) {
         this.executorService = executor;
     }
@@ -441,6 +456,11 @@ public synchronized void shutdown() {
             }
             // Terminate request context if for any reason is still active
             contexts.requestContext.terminate();
+            if (LOGGER.isDebugEnabled() && contexts.requestContext instanceof RequestContext) {
+                RequestContext requestContext = (RequestContext) contexts.requestContext;
+                LOGGER.debugf("Request context states destroyed [without bean instances=%s, with bean instances=%s]",
+                        requestContext.getUnusedStatesCount(), requestContext.getUsedStatesCount());
+            }
             // Fire an event with qualifier @BeforeDestroyed(ApplicationScoped.class)
             Set<Annotation> beforeDestroyQualifiers = new HashSet<>(4);
             beforeDestroyQualifiers.add(BeforeDestroyed.Literal.APPLICATION);
@@ -97,7 +97,8 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
+            // No need to submit a task if there is no async observer to notify
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
@@ -105,8 +106,7 @@ public <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions o
             @Override
             public U get() {
                 // Note that async observers are notified serially - no need to synchronize the collection
-                ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(),
-                        Arc.container().instance(AsyncObserverExceptionHandler.class).get());
+                ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>());
                 notifier.notify(event, exceptionHandler, true);
                 handleExceptions(exceptionHandler);
                 return event;
@@ -247,6 +247,9 @@ private void handleExceptions(ObserverExceptionHandler handler) {
 
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
+        // The observer methods are split upfront so that we don't need to filter them for each notification
+        private final List<ObserverMethod<? super T>> syncObserverMethods;
+        private final List<ObserverMethod<? super T>> asyncObserverMethods;
         final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
         private final boolean activateRequestContext;
@@ -259,6 +262,17 @@ private void handleExceptions(ObserverExceptionHandler handler) {
                 boolean activateRequestContext) {
             this.runtimeType = runtimeType;
             this.observerMethods = observerMethods;
+            List<ObserverMethod<? super T>> syncObserverMethods = new ArrayList<>();
+            List<ObserverMethod<? super T>> asyncObserverMethods = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    asyncObserverMethods.add(observerMethod);
+                } else {
+                    syncObserverMethods.add(observerMethod);
+                }
+            }
+            this.syncObserverMethods = syncObserverMethods.isEmpty() ? List.of() : syncObserverMethods;
+            this.asyncObserverMethods = asyncObserverMethods.isEmpty() ? List.of() : asyncObserverMethods;
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
@@ -270,10 +284,11 @@ void notify(T event) {
 
         @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            List<ObserverMethod<? super T>> observers = async ? asyncObserverMethods : syncObserverMethods;
+            if (!observers.isEmpty()) {
 
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicate.not(ObserverMethod::isAsync);
+                // null means that all observers are notified
+                Predicate<ObserverMethod<? super T>> predicate = null;
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -303,13 +318,13 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                                 // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
                                 txManager.getTransaction().registerSynchronization(sync);
                                 // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(this::isNotTxObserver);
+                                predicate = this::isNotTxObserver;
                             } catch (Exception e) {
                                 if (e.getCause() instanceof RollbackException
                                         || e.getCause() instanceof IllegalStateException
                                         || e.getCause() instanceof SystemException) {
                                     // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(this::isNotAfterSuccess);
+                                    predicate = this::isNotAfterSuccess;
                                 }
                             }
                         }
@@ -326,27 +341,27 @@ void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
                 if (activateRequestContext) {
                     ManagedContext requestContext = Arc.container().requestContext();
                     if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
+                        notifyObservers(event, exceptionHandler, observers, predicate);
                     } else {
                         try {
                             requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
+                            notifyObservers(event, exceptionHandler, observers, predicate);
                         } finally {
                             requestContext.terminate();
                         }
                     }
                 } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+                    notifyObservers(event, exceptionHandler, observers, predicate);
                 }
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+                List<ObserverMethod<? super T>> observers, Predicate<ObserverMethod<? super T>> predicate) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                if (predicate == null || predicate.test(observerMethod)) {
                     try {
                         observerMethod.notify(eventContext);
                     } catch (Throwable t) {
@@ -360,6 +375,10 @@ boolean isEmpty() {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return !asyncObserverMethods.isEmpty();
+        }
+
         private boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -539,17 +558,20 @@ static class CollectingExceptionHandler implements ObserverExceptionHandler {
 
         private final List<Throwable> throwables;
 
-        private final AsyncObserverExceptionHandler exceptionHandler;
+        // Obtained lazily - most notifications do not fail
+        private AsyncObserverExceptionHandler exceptionHandler;
 
-        CollectingExceptionHandler(List<Throwable> throwables, AsyncObserverExceptionHandler exceptionHandler) {
+        CollectingExceptionHandler(List<Throwable> throwables) {
             this.throwables = throwables;
-            this.exceptionHandler = exceptionHandler;
         }
 
         @Override
         public void handle(Throwable throwable, ObserverMethod<?> observerMethod, EventContext<?> eventContext) {
             throwables.add(throwable);
             try {
+                if (exceptionHandler == null) {
+                    exceptionHandler = Arc.container().instance(AsyncObserverExceptionHandler.class).get();
+                }
                 exceptionHandler.handle(throwable, observerMethod, eventContext);
             } catch (Exception e) {
                 LOGGER.errorf(e, "Cannot handle exception of an async observer: %s", throwable);
@@ -6,6 +6,7 @@
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -39,6 +40,10 @@ class RequestContext implements ManagedContext {
     private final Notifier<Object> destroyedNotifier;
     private final Supplier<ContextInstances> contextInstances;
 
+    // Number of destroyed states with/without any bean instance
+    private final LongAdder usedStates = new LongAdder();
+    private final LongAdder unusedStates = new LongAdder();
+
     public RequestContext(CurrentContext<RequestContextState> currentContext, Notifier<Object> initializedNotifier,
             Notifier<Object> beforeDestroyedNotifier, Notifier<Object> destroyedNotifier,
             Supplier<ContextInstances> contextInstances) {
@@ -68,7 +73,7 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             // Context is not active!
             return null;
         }
-        ContextInstances contextInstances = ctxState.contextInstances;
+        ContextInstances contextInstances = ctxState.contextInstances();
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
@@ -105,8 +110,11 @@ public <T> T get(Contextual<T> contextual) {
         if (!isActive(state)) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+        ContextInstances contextInstances = state.contextInstancesIfPresent();
+        if (contextInstances == null) {
+            return null;
+        }
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
         return instance == null ? null : instance.get();
     }
 
@@ -126,8 +134,12 @@ public void destroy(Contextual<?> contextual) {
             // Context is not active
             throw notActive();
         }
+        ContextInstances contextInstances = state.contextInstancesIfPresent();
+        if (contextInstances == null) {
+            return;
+        }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = contextInstances.remove(bean.getIdentifier());
         if (instance != null) {
             instance.destroy();
         }
@@ -139,7 +151,7 @@ public ContextState activate(ContextState initialState) {
             traceActivate(initialState);
         }
         if (initialState == null) {
-            RequestContextState state = new RequestContextState(contextInstances.get());
+            RequestContextState state = new RequestContextState(contextInstances);
             currentContext.set(state);
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
@@ -214,7 +226,13 @@ public void destroy(ContextState state) {
             if (reqState.invalidate()) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(beforeDestroyedNotifier);
-                reqState.contextInstances.removeEach(ContextInstanceHandle::destroy);
+                ContextInstances contextInstances = reqState.contextInstancesIfPresent();
+                if (contextInstances != null) {
+                    contextInstances.removeEach(ContextInstanceHandle::destroy);
+                    usedStates.increment();
+                } else {
+                    unusedStates.increment();
+                }
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 fireIfNotEmpty(destroyedNotifier);
             }
@@ -232,6 +250,25 @@ private static void traceDestroy(ContextState state) {
         LOG.tracef("Destroy %s%s\n\t...", state != null ? Integer.toHexString(state.hashCode()) : "", stack);
     }
 
+    /**
+     * The storage for bean instances is only created when a request scoped bean is used for the first time. This method
+     * returns the number of destroyed context states that never needed the storage, i.e. no request scoped bean instance
+     * was created while the context was active.
+     *
+     * @return the number of destroyed states without any bean instance
+     */
+    long getUnusedStatesCount() {
+        return unusedStates.sum();
+    }
+
+    /**
+     * @return the number of destroyed states with at least one bean instance
+     * @see #getUnusedStatesCount()
+     */
+    long getUsedStatesCount() {
+        return usedStates.sum();
+    }
+
     private void fireIfNotEmpty(Notifier<Object> notifier) {
         if (notifier != null && !notifier.isEmpty()) {
             try {
@@ -259,24 +296,49 @@ static class RequestContextState implements ContextState {
         private static final int VALID = 0;
         private static final int INVALID = 1;
         private static final VarHandle IS_VALID;
+        private static final VarHandle CONTEXT_INSTANCES;
 
         static {
             try {
                 IS_VALID = MethodHandles.lookup().findVarHandle(RequestContextState.class, "isValid", int.class);
+                CONTEXT_INSTANCES = MethodHandles.lookup().findVarHandle(RequestContextState.class, "contextInstances",
+                        ContextInstances.class);
             } catch (ReflectiveOperationException e) {
                 throw new Error(e);
             }
         }
 
-        private final ContextInstances contextInstances;
+        private final Supplier<ContextInstances> contextInstancesSupplier;
+        // Created lazily - many requests do not use any request scoped bean
+        private volatile ContextInstances contextInstances;
         private volatile int isValid;
 
-        RequestContextState(ContextInstances contextInstances) {
-            this.contextInstances = Objects.requireNonNull(contextInstances);
+        RequestContextState(Supplier<ContextInstances> contextInstancesSupplier) {
+            this.contextInstancesSupplier = Objects.requireNonNull(contextInstancesSupplier);
+        }
+
+        ContextInstances contextInstances() {
+            ContextInstances instances = contextInstances;
+            if (instances == null) {
+                instances = contextInstancesSupplier.get();
+                if (!CONTEXT_INSTANCES.compareAndSet(this, null, instances)) {
+                    // Another thread was faster
+                    instances = contextInstances;
+                }
+            }
+            return instances;
+        }
+
+        ContextInstances contextInstancesIfPresent() {
+            return contextInstances;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
+            ContextInstances contextInstances = this.contextInstances;
+            if (contextInstances == null) {
+                return Map.of();
+            }
             return contextInstances.getAllPresent().stream()
                     .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
@@ -0,0 +1,227 @@
+package io.quarkus.arc.impl;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * This factory binds the states of all current contexts to a {@code java.lang.ScopedValue} for the duration of
+ * {@link #run(Runnable)}, e.g. a task executed on a virtual thread. The states are not copied; the bound states are the
+ * ones returned by the delegate when the task starts.
+ * <p>
+ * Within a bound scope, {@link CurrentContext#get()} reads the bound state and does not ask the delegate, i.e. there is no
+ * thread-local or Vert.x context local lookup for each access to a bean. {@link CurrentContext#set(ContextState)} and
+ * {@link CurrentContext#remove()} update the bound state and the delegate, so that changes remain visible outside the
+ * bound scope. Outside a bound scope, all operations are delegated.
+ * <p>
+ * {@code ScopedValue} is a preview API in JDK 21 to 24 and a final API since JDK 25. It is accessed via method handles
+ * because ArC targets Java 17, see {@link #isSupported()}.
+ */
+public final class ScopedValueCurrentContextFactory implements CurrentContextFactory {
+
+    private static final Logger LOG = Logger.getLogger(ScopedValueCurrentContextFactory.class);
+
+    // ScopedValue#orElse() does not accept null as of JDK 25
+    private static final Object UNBOUND = new Object[0];
+
+    private static final MethodHandle NEW_INSTANCE;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+    private static final MethodHandle OR_ELSE;
+
+    static {
+        MethodHandle newInstance = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+        MethodHandle orElse = null;
+        try {
+            Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+            Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            newInstance = lookup.findStatic(scopedValue, "newInstance", methodType(scopedValue))
+                    .asType(methodType(Object.class));
+            where = lookup.findStatic(scopedValue, "where", methodType(carrier, scopedValue, Object.class))
+                    .asType(methodType(Object.class, Object.class, Object.class));
+            run = lookup.findVirtual(carrier, "run", methodType(void.class, Runnable.class))
+                    .asType(methodType(void.class, Object.class, Runnable.class));
+            orElse = lookup.findVirtual(scopedValue, "orElse", methodType(Object.class, Object.class))
+                    .asType(methodType(Object.class, Object.class, Object.class));
+        } catch (ReflectiveOperationException e) {
+            LOG.debugf("java.lang.ScopedValue is not available: %s", e);
+            newInstance = null;
+        }
+        NEW_INSTANCE = newInstance;
+        WHERE = where;
+        RUN = run;
+        OR_ELSE = orElse;
+    }
+
+    /**
+     *
+     * @return {@code true} if {@code java.lang.ScopedValue} is available in the current JVM
+     */
+    public static boolean isSupported() {
+        return NEW_INSTANCE != null;
+    }
+
+    private final CurrentContextFactory delegate;
+    // ScopedValue<Object[]>, the index of a state is the index of its current context in the delegates list
+    private final Object states;
+    private final List<CurrentContext<?>> delegates;
+
+    /**
+     *
+     * @param delegate the factory used outside a bound scope, or {@code null} to use thread-local variables
+     * @throws IllegalStateException if {@code java.lang.ScopedValue} is not available
+     */
+    public ScopedValueCurrentContextFactory(CurrentContextFactory delegate) {
+        if (!isSupported()) {
+            throw new IllegalStateException("java.lang.ScopedValue is not available in the current JVM");
+        }
+        this.delegate = delegate != null ? delegate : new ThreadLocalCurrentContextFactory();
+        try {
+            this.states = (Object) NEW_INSTANCE.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create a scoped value", e);
+        }
+        this.delegates = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public synchronized <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        CurrentContext<T> current = delegate.create(scope);
+        delegates.add(current);
+        return new ScopedValueCurrentContext<>(current, delegates.size() - 1);
+    }
+
+    /**
+     *
+     * @return the factory used outside a bound scope
+     */
+    public CurrentContextFactory getDelegate() {
+        return delegate;
+    }
+
+    /**
+     *
+     * @return {@code true} if the states are bound for the current thread
+     */
+    public boolean isBound() {
+        return bound() != UNBOUND;
+    }
+
+    /**
+     * Binds the current states returned by the delegate and runs the given task in the bound scope.
+     *
+     * @param task
+     */
+    public void run(Runnable task) {
+        Object[] bound = new Object[delegates.size()];
+        for (int i = 0; i < bound.length; i++) {
+            bound[i] = delegates.get(i).get();
+        }
+        try {
+            Object carrier = (Object) WHERE.invokeExact(states, (Object) bound);
+            RUN.invokeExact(carrier, task);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Binds the current states returned by the delegate and calls the given task in the bound scope.
+     *
+     * @param <V>
+     * @param task
+     * @return the result of the task
+     * @throws Exception if the task failed
+     * @see #run(Runnable)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V call(Callable<V> task) throws Exception {
+        // ScopedValue.Carrier#call() has a different signature in JDK 21 and JDK 25
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+        run(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    result[0] = task.call();
+                } catch (Exception e) {
+                    failure[0] = e;
+                }
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return (V) result[0];
+    }
+
+    private Object bound() {
+        try {
+            return (Object) OR_ELSE.invokeExact(states, UNBOUND);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class ScopedValueCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final CurrentContext<T> delegate;
+        private final int index;
+
+        private ScopedValueCurrentContext(CurrentContext<T> delegate, int index) {
+            this.delegate = delegate;
+            this.index = index;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T get() {
+            Object[] bound = boundStates();
+            return bound != null ? (T) bound[index] : delegate.get();
+        }
+
+        @Override
+        public void set(T state) {
+            Object[] bound = boundStates();
+            if (bound != null) {
+                bound[index] = state;
+            }
+            delegate.set(state);
+        }
+
+        @Override
+        public void remove() {
+            Object[] bound = boundStates();
+            if (bound != null) {
+                bound[index] = null;
+            }
+            delegate.remove();
+        }
+
+        private Object[] boundStates() {
+            Object bound = bound();
+            // A current context created after the states were bound is not part of the bound states
+            return bound != UNBOUND && index < ((Object[]) bound).length ? (Object[]) bound : null;
+        }
+
+    }
+
+}
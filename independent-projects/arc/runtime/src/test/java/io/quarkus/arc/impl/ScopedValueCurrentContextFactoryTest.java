@@ -0,0 +1,101 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.context.SessionScoped;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+
+public class ScopedValueCurrentContextFactoryTest {
+
+    private ScopedValueCurrentContextFactory factory;
+    private CurrentContext<State> request;
+    private CurrentContext<State> session;
+
+    @BeforeEach
+    public void setup() {
+        // ScopedValue requires JDK 21+
+        assumeTrue(ScopedValueCurrentContextFactory.isSupported());
+        factory = new ScopedValueCurrentContextFactory(null);
+        request = factory.create(RequestScoped.class);
+        session = factory.create(SessionScoped.class);
+    }
+
+    @Test
+    public void testDelegateOutsideBoundScope() {
+        State state = new State();
+        assertFalse(factory.isBound());
+        request.set(state);
+        assertSame(state, request.get());
+        assertNull(session.get());
+        request.remove();
+        assertNull(request.get());
+    }
+
+    @Test
+    public void testBoundScope() throws Exception {
+        State requestState = new State();
+        request.set(requestState);
+        factory.run(() -> {
+            assertTrue(factory.isBound());
+            assertSame(requestState, request.get());
+            assertNull(session.get());
+
+            // Changes are visible in the bound scope and to the delegate
+            State sessionState = new State();
+            session.set(sessionState);
+            assertSame(sessionState, session.get());
+            request.remove();
+            assertNull(request.get());
+        });
+        assertFalse(factory.isBound());
+        assertNull(request.get());
+        assertSame(State.class, session.get().getClass());
+        session.remove();
+
+        assertEquals("ok", factory.call(() -> request.get() == null ? "ok" : "nok"));
+    }
+
+    @Test
+    public void testBoundScopeIsNotSharedWithOtherThreads() throws InterruptedException {
+        State state = new State();
+        AtomicReference<Object> other = new AtomicReference<>(state);
+        factory.run(() -> {
+            request.set(state);
+            Thread thread = new Thread(() -> other.set(request.get()));
+            thread.start();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        assertNull(other.get());
+        request.remove();
+    }
+
+    static class State implements ContextState {
+
+        @Override
+        public Map<InjectableBean<?>, Object> getContextualInstances() {
+            return Collections.emptyMap();
+        }
+
+    }
+
+}
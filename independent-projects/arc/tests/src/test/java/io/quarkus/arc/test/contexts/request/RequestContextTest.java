@@ -4,6 +4,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -18,6 +19,7 @@
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.ArcContainerImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.test.ArcTestContainer;
 
@@ -74,6 +76,32 @@ public void testRequestContext() {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testStateWithoutBeanInstances() {
+        ContextObserver.reset();
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        long unused = ArcContainerImpl.instance().getDestroyedRequestContextsCount(false);
+        long used = ArcContainerImpl.instance().getDestroyedRequestContextsCount(true);
+
+        requestContext.activate();
+        try {
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertNull(requestContext.get(controllerBean));
+            // No-op
+            requestContext.destroy(controllerBean);
+        } finally {
+            requestContext.terminate();
+        }
+        assertFalse(requestContext.isActive());
+        assertEquals(1, ContextObserver.initializedObserved);
+        assertEquals(1, ContextObserver.beforeDestroyedObserved);
+        assertEquals(1, ContextObserver.destroyedObserved);
+        assertEquals(unused + 1, ArcContainerImpl.instance().getDestroyedRequestContextsCount(false));
+        assertEquals(used, ArcContainerImpl.instance().getDestroyedRequestContextsCount(true));
+    }
+
     @Test
     public void testRequestContextController() {
         Controller.DESTROYED.set(false);
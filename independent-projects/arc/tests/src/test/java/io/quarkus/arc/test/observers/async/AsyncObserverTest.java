@@ -55,6 +55,19 @@ public void testAsyncObservers() throws InterruptedException, ExecutionException
         assertFalse(events.get(0).endsWith(currentThread));
     }
 
+    @Test
+    public void testObserversOfOtherKindNotNotified() throws InterruptedException, ExecutionException, TimeoutException {
+        ArcContainer container = Arc.container();
+        StringProducer producer = container.instance(StringProducer.class).get();
+        StringObserver observer = container.instance(StringObserver.class).get();
+
+        // Integer has a sync observer only
+        assertEquals(1, producer.produceAsync(1).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(observer.getEvents().isEmpty());
+        producer.produce(2);
+        assertEquals(List.of("sync::2"), observer.getEvents());
+    }
+
     @Singleton
     static class StringObserver {
 
@@ -76,6 +89,10 @@ void observeSync(@Observes String value) {
             events.add("sync::" + value + "::" + Thread.currentThread().getName());
         }
 
+        void observeSyncInteger(@Observes Integer value) {
+            events.add("sync::" + value);
+        }
+
         List<String> getEvents() {
             return events;
         }
@@ -88,6 +105,9 @@ static class StringProducer {
         @Inject
         Event<String> event;
 
+        @Inject
+        Event<Integer> intEvent;
+
         void produce(String value) {
             event.fire(value);
         }
@@ -96,6 +116,14 @@ CompletionStage<String> produceAsync(String value) {
             return event.fireAsync(value);
         }
 
+        void produce(Integer value) {
+            intEvent.fire(value);
+        }
+
+        CompletionStage<Integer> produceAsync(Integer value) {
+            return intEvent.fireAsync(value);
+        }
+
     }
 
     @RequestScoped
@@ -86,6 +86,13 @@ static ArchivePathTree forPath(Path path, PathFilter filter, boolean manifestEna
         this.pathFilter = pathFilter;
     }
 
+    /**
+     * @return the filter applied to the content of the archive, or {@code null} if the whole content is visible
+     */
+    public PathFilter getPathFilter() {
+        return pathFilter;
+    }
+
     @Override
     public boolean isArchiveOrigin() {
         return true;
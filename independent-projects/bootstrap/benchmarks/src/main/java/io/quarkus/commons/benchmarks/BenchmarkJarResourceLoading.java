@@ -0,0 +1,117 @@
+package io.quarkus.commons.benchmarks;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.bootstrap.runner.JarResource;
+
+/**
+ * Compares the time needed by a {@link JarResource} to open a jar and read all its entries, as the RunnerClassLoader does
+ * when an application starts, when the jar is read with a {@code JarFile} and when it is memory-mapped
+ * ({@code -Dquarkus.bootstrap.mmap-jars=true}).
+ * <p>
+ * The fast-jar packaging stores the application classes uncompressed, while the dependencies are usually compressed, so
+ * both kinds of entries are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(2)
+public class BenchmarkJarResourceLoading {
+
+    private static final int ENTRIES = 2000;
+    private static final int ENTRY_SIZE = 4096;
+
+    @Param({ "true", "false" })
+    public boolean mmap;
+
+    @Param({ "STORED", "DEFLATED" })
+    public String compression;
+
+    private Path jar;
+    private String[] entries;
+    private JarResource resource;
+
+    @Setup(Level.Trial)
+    public void createJar() throws IOException {
+        jar = Files.createTempFile("benchmark", ".jar");
+        entries = new String[ENTRIES];
+        Random random = new Random(42);
+        byte[] data = new byte[ENTRY_SIZE];
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (int i = 0; i < ENTRIES; i++) {
+                entries[i] = "io/quarkus/benchmark/p" + (i % 20) + "/Class" + i + ".class";
+                // half random, half repeated bytes so that the deflated entries are not trivially small
+                random.nextBytes(data);
+                for (int j = ENTRY_SIZE / 2; j < ENTRY_SIZE; j++) {
+                    data[j] = (byte) (j % 16);
+                }
+                JarEntry entry = new JarEntry(entries[i]);
+                if ("STORED".equals(compression)) {
+                    CRC32 crc = new CRC32();
+                    crc.update(data);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(data.length);
+                    entry.setCrc(crc.getValue());
+                }
+                out.putNextEntry(entry);
+                out.write(data);
+                out.closeEntry();
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void openResource() {
+        resource = new JarResource(null, jar, mmap);
+        resource.init();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeResource() {
+        resource.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteJar() throws IOException {
+        Files.deleteIfExists(jar);
+    }
+
+    @Benchmark
+    public void loadAllEntries(Blackhole blackhole) {
+        for (String entry : entries) {
+            ByteBuffer data = resource.getResourceBuffer(entry);
+            blackhole.consume(data.get(data.limit() - 1));
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkJarResourceLoading.class.getSimpleName(), "-prof", "gc" });
+    }
+
+}
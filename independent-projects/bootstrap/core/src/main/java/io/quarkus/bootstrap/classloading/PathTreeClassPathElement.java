@@ -25,6 +25,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.maven.dependency.ResolvedDependency;
+import io.quarkus.paths.ArchivePathTree;
 import io.quarkus.paths.ManifestAttributes;
 import io.quarkus.paths.OpenPathTree;
 import io.quarkus.paths.PathTree;
@@ -156,6 +157,14 @@ public <T> T apply(Function<OpenPathTree, T> func) {
     public Set<String> getProvidedResources() {
         Set<String> resources = this.resources;
         if (resources == null) {
+            final Path persistentArchive = getPersistentlyIndexedArchive();
+            if (persistentArchive != null) {
+                resources = PersistentResourceIndex.get().read(persistentArchive);
+                if (resources != null) {
+                    this.resources = resources;
+                    return resources;
+                }
+            }
             resources = apply(tree -> {
                 final Set<String> relativePaths = new HashSet<>();
                 tree.walk(new PathVisitor() {
@@ -170,11 +179,29 @@ public void visitPath(PathVisit visit) {
                 });
                 return relativePaths;
             });
+            if (persistentArchive != null) {
+                PersistentResourceIndex.get().write(persistentArchive, resources);
+            }
             this.resources = resources;
         }
         return resources;
     }
 
+    /**
+     * Returns the archive whose resources can be stored in the persistent index, or {@code null} if the persistent index is
+     * disabled or if the content of this element is not a whole archive.
+     */
+    private Path getPersistentlyIndexedArchive() {
+        if (PersistentResourceIndex.get() == null) {
+            return null;
+        }
+        final PathTree originalTree = pathTree.getOriginalTree();
+        if (!(originalTree instanceof ArchivePathTree) || ((ArchivePathTree) originalTree).getPathFilter() != null) {
+            return null;
+        }
+        return getRoot();
+    }
+
     @Override
     public boolean containsReloadableResources() {
         return !pathTree.isArchiveOrigin();
@@ -0,0 +1,246 @@
+package io.quarkus.bootstrap.classloading;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Persists the list of the resources provided by the archives of the class path, so that an archive does not have to be
+ * walked again when it is used by a later JVM run, for instance when dev mode is restarted or when another test module is
+ * run.
+ * <p>
+ * Each archive has its own index file. The name of the file is a hash of the path, size and last modification time of the
+ * archive and of the Java feature version (which determines the multi-release entries that are visible), so an archive
+ * which is modified is simply indexed again under a new name.
+ * <p>
+ * The last modification time of an index file is refreshed, at most once a day, when the file is read. The first time a
+ * JVM writes an index file, the index files that were not used for {@link #MAX_AGE} are deleted, e.g. the indexes of
+ * older versions of a snapshot dependency.
+ * <p>
+ * The persistent index is disabled unless the {@value #CACHE_DIR_PROP} system property points to a directory, which is
+ * created if needed. The index files can be deleted at any time.
+ */
+final class PersistentResourceIndex {
+
+    private static final Logger log = Logger.getLogger(PersistentResourceIndex.class);
+
+    static final String CACHE_DIR_PROP = "quarkus.bootstrap.classpath-index-cache-dir";
+
+    private static final int MAGIC = 0x51524958;
+    private static final int VERSION = 1;
+    // The magic number, the version and the number of resources
+    private static final int HEADER_SIZE = 12;
+    // Each resource name is written with its 2-byte length
+    private static final int MIN_RESOURCE_SIZE = 2;
+    private static final String SUFFIX = ".idx";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    static final Duration MAX_AGE = Duration.ofDays(30);
+    private static final long TOUCH_INTERVAL_MILLIS = Duration.ofDays(1).toMillis();
+
+    private static final PersistentResourceIndex INSTANCE = create();
+
+    private final Path directory;
+    private final AtomicBoolean pruned = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    PersistentResourceIndex(Path directory) {
+        this.directory = directory;
+    }
+
+    private static PersistentResourceIndex create() {
+        String directory = System.getProperty(CACHE_DIR_PROP);
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+        return new PersistentResourceIndex(Path.of(directory));
+    }
+
+    /**
+     * @return the persistent index, or {@code null} if it is disabled
+     */
+    static PersistentResourceIndex get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the resources of the given archive if they were indexed by a previous run, or {@code null} otherwise. A
+     * corrupted index file is ignored, the archive is then walked again.
+     */
+    Set<String> read(Path archive) {
+        Path indexFile = indexFile(archive);
+        if (indexFile == null) {
+            misses.increment();
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            BasicFileAttributes attributes = Files.readAttributes(indexFile, BasicFileAttributes.class);
+            long length = attributes.size();
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                misses.increment();
+                return null;
+            }
+            int size = in.readInt();
+            if (size < 0 || size > (length - HEADER_SIZE) / MIN_RESOURCE_SIZE) {
+                log.debugf("Ignoring the corrupted persistent resource index %s of %s: invalid size %d", indexFile, archive,
+                        size);
+                misses.increment();
+                return null;
+            }
+            Set<String> resources = new HashSet<>((int) (size / 0.75f) + 1);
+            for (int i = 0; i < size; i++) {
+                resources.add(in.readUTF());
+            }
+            hits.increment();
+            touch(indexFile, attributes.lastModifiedTime());
+            return resources;
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to read the persistent resource index %s of %s", indexFile, archive);
+            misses.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the resources of the given archive. Failures are ignored, the archive will be walked again by the next run.
+     */
+    void write(Path archive, Set<String> resources) {
+        Path indexFile = indexFile(archive);
+        if (indexFile == null) {
+            return;
+        }
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(directory);
+            tmpFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(resources.size());
+                for (String resource : resources) {
+                    out.writeUTF(resource);
+                }
+            }
+            // Concurrent JVMs may index the same archive, the content is identical so the last one wins
+            try {
+                Files.move(tmpFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmpFile = null;
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to write the persistent resource index of %s", archive);
+        } finally {
+            if (tmpFile != null) {
+                try {
+                    Files.deleteIfExists(tmpFile);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+        if (pruned.compareAndSet(false, true)) {
+            prune(System.currentTimeMillis() - MAX_AGE.toMillis());
+        }
+    }
+
+    /**
+     * Deletes the index files and the leftover temporary files that were last modified before the given time.
+     */
+    void prune(long olderThanMillis) {
+        int deleted = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!name.endsWith(SUFFIX) && !name.endsWith(".tmp")) {
+                    continue;
+                }
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < olderThanMillis && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (IOException e) {
+                    // e.g. deleted by a concurrent JVM
+                    log.tracef(e, "Unable to delete the stale persistent resource index %s", file);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debugf(e, "Unable to prune the persistent resource index directory %s", directory);
+        }
+        if (deleted > 0) {
+            log.debugf("Deleted %d stale persistent resource index files from %s", deleted, directory);
+        }
+    }
+
+    private static void touch(Path indexFile, FileTime lastModifiedTime) {
+        long now = System.currentTimeMillis();
+        if (now - lastModifiedTime.toMillis() < TOUCH_INTERVAL_MILLIS) {
+            return;
+        }
+        try {
+            Files.setLastModifiedTime(indexFile, FileTime.fromMillis(now));
+        } catch (IOException e) {
+            // The file is then pruned earlier than needed and the archive is indexed again
+            log.debugf(e, "Unable to refresh the last modification time of the persistent resource index %s", indexFile);
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    private Path indexFile(Path archive) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(archive.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Long.toString(attributes.size()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Long.toString(attributes.lastModifiedTime().toMillis()).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(Integer.toString(Runtime.version().feature()).getBytes(StandardCharsets.UTF_8));
+            byte[] hash = digest.digest();
+            StringBuilder name = new StringBuilder(hash.length * 2 + SUFFIX.length());
+            for (byte b : hash) {
+                name.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+            return directory.resolve(name.append(SUFFIX).toString());
+        } catch (IOException | UnsupportedOperationException e) {
+            // e.g. an archive which is not on the default file system
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -23,6 +23,7 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
 
@@ -293,6 +294,7 @@ private ClassPathResourceIndex getClassPathResourceIndex() {
             synchronized (this) {
                 classPathResourceIndex = this.classPathResourceIndex;
                 if (classPathResourceIndex == null) {
+                    final long start = log.isDebugEnabled() ? System.nanoTime() : 0L;
                     ClassPathResourceIndex.Builder classPathResourceIndexBuilder = ClassPathResourceIndex.builder();
 
                     classPathResourceIndexBuilder.scanClassPathElement(transformedClasses,
@@ -320,7 +322,16 @@ private ClassPathResourceIndex getClassPathResourceIndex() {
                                         resource));
                     }
 
-                    return this.classPathResourceIndex = classPathResourceIndexBuilder.build();
+                    this.classPathResourceIndex = classPathResourceIndexBuilder.build();
+                    if (log.isDebugEnabled()) {
+                        PersistentResourceIndex persistentIndex = PersistentResourceIndex.get();
+                        log.debugf("Built the resource index of QuarkusClassLoader %s in %d ms (persistent index: %s)", name,
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                                persistentIndex == null ? "disabled"
+                                        : persistentIndex.getHitCount() + " hits, " + persistentIndex.getMissCount()
+                                                + " misses so far");
+                    }
+                    return this.classPathResourceIndex;
                 }
             }
         }
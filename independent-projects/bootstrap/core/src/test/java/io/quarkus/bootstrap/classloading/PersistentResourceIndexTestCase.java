@@ -0,0 +1,131 @@
+package io.quarkus.bootstrap.classloading;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentResourceIndexTestCase {
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    public void testIndexIsReusedUntilTheArchiveChanges() throws IOException {
+        Path jarPath = tempDirectory.resolve("test.jar");
+        createJar(jarPath, "foo.txt", "io/quarkus/Foo.class");
+        PersistentResourceIndex index = new PersistentResourceIndex(tempDirectory.resolve("index"));
+
+        assertNull(index.read(jarPath));
+        index.write(jarPath, Set.of("foo.txt", "io/quarkus/Foo.class"));
+        assertEquals(Set.of("foo.txt", "io/quarkus/Foo.class"), index.read(jarPath));
+        assertEquals(1, index.getHitCount());
+        assertEquals(1, index.getMissCount());
+
+        // The index of a modified archive is not reused
+        createJar(jarPath, "foo.txt", "io/quarkus/Foo.class", "io/quarkus/Bar.class");
+        assertNull(index.read(jarPath));
+        assertEquals(2, index.getMissCount());
+    }
+
+    @Test
+    public void testCorruptedIndexIsIgnored() throws IOException {
+        Path jarPath = tempDirectory.resolve("test.jar");
+        createJar(jarPath, "foo.txt");
+        Path indexDirectory = tempDirectory.resolve("index");
+        PersistentResourceIndex index = new PersistentResourceIndex(indexDirectory);
+        index.write(jarPath, Set.of("foo.txt"));
+        Path indexFile;
+        try (Stream<Path> files = Files.list(indexDirectory)) {
+            indexFile = files.findFirst().orElseThrow();
+        }
+        byte[] content = Files.readAllBytes(indexFile);
+
+        // A negative size
+        Files.write(indexFile, withSize(content, -1));
+        assertNull(index.read(jarPath));
+        // A size which does not match the length of the file
+        Files.write(indexFile, withSize(content, Integer.MAX_VALUE));
+        assertNull(index.read(jarPath));
+        // A truncated file
+        Files.write(indexFile, Arrays.copyOf(content, content.length - 1));
+        assertNull(index.read(jarPath));
+        assertEquals(3, index.getMissCount());
+
+        Files.write(indexFile, content);
+        assertEquals(Set.of("foo.txt"), index.read(jarPath));
+    }
+
+    @Test
+    public void testIndexIsIgnoredForDirectories() {
+        PersistentResourceIndex index = new PersistentResourceIndex(tempDirectory.resolve("index"));
+        index.write(tempDirectory, Set.of("foo.txt"));
+        assertNull(index.read(tempDirectory));
+    }
+
+    @Test
+    public void testStaleIndexFilesArePruned() throws IOException {
+        Path indexDirectory = tempDirectory.resolve("index");
+        Files.createDirectories(indexDirectory);
+        FileTime stale = FileTime.fromMillis(System.currentTimeMillis() - PersistentResourceIndex.MAX_AGE.toMillis() - 60_000);
+        Path staleIndex = Files.writeString(indexDirectory.resolve("stale.idx"), "stale");
+        Files.setLastModifiedTime(staleIndex, stale);
+        Path staleTmp = Files.writeString(indexDirectory.resolve("stale.idx123.tmp"), "stale");
+        Files.setLastModifiedTime(staleTmp, stale);
+        Path otherFile = Files.writeString(indexDirectory.resolve("other.txt"), "other");
+        Files.setLastModifiedTime(otherFile, stale);
+
+        Path usedJarPath = tempDirectory.resolve("used.jar");
+        createJar(usedJarPath, "foo.txt");
+        PersistentResourceIndex index = new PersistentResourceIndex(indexDirectory);
+        index.write(usedJarPath, Set.of("foo.txt"));
+        Path usedIndex;
+        try (Stream<Path> files = Files.list(indexDirectory)) {
+            usedIndex = files.filter(f -> f.getFileName().toString().endsWith(".idx")).findFirst().orElseThrow();
+        }
+        assertFalse(Files.exists(staleIndex));
+        assertFalse(Files.exists(staleTmp));
+        assertTrue(Files.exists(otherFile));
+        assertTrue(Files.exists(usedIndex));
+
+        // A read refreshes the last modification time, so that an index which is still used is not pruned
+        Files.setLastModifiedTime(usedIndex, stale);
+        assertEquals(Set.of("foo.txt"), index.read(usedJarPath));
+        index.prune(System.currentTimeMillis() - PersistentResourceIndex.MAX_AGE.toMillis());
+        assertTrue(Files.exists(usedIndex));
+        assertEquals(Set.of("foo.txt"), index.read(usedJarPath));
+    }
+
+    private static byte[] withSize(byte[] content, int size) {
+        byte[] copy = content.clone();
+        // The size follows the magic number and the version
+        ByteBuffer.wrap(copy).putInt(8, size);
+        return copy;
+    }
+
+    private static void createJar(Path jarPath, String... entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jarPath);
+                JarOutputStream jos = new JarOutputStream(out)) {
+            for (String entry : entries) {
+                jos.putNextEntry(new JarEntry(entry));
+                jos.write(entry.getBytes());
+                jos.closeEntry();
+            }
+        }
+    }
+}
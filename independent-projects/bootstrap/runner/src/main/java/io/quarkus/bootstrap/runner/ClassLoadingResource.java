@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,15 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the data of the resource, like {@link #getResourceData(String)}, but possibly as a view over a memory-mapped
+     * file that saves the copy into a heap array. The returned buffer must not be retained.
+     */
+    default ByteBuffer getResourceBuffer(String resource) {
+        byte[] data = getResourceData(resource);
+        return data == null ? null : ByteBuffer.wrap(data);
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
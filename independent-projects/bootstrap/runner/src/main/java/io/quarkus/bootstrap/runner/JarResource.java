@@ -6,6 +6,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
@@ -17,6 +18,8 @@
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 
+import org.jboss.logging.Logger;
+
 import io.smallrye.common.io.jar.JarEntries;
 
 /**
@@ -24,15 +27,33 @@
  */
 public class JarResource implements ClassLoadingResource {
 
+    private static final Logger LOGGER = Logger.getLogger(JarResource.class);
+
+    /**
+     * When set to {@code true}, the classes are read from a memory mapping of the jars instead of a {@link JarFile}.
+     */
+    static final String MMAP_JARS_PROP = "quarkus.bootstrap.mmap-jars";
+    private static final boolean MMAP_JARS = Boolean.getBoolean(MMAP_JARS_PROP);
+
     private volatile ProtectionDomain protectionDomain;
     private final ManifestInfo manifestInfo;
 
     final Path jarPath;
     final AtomicReference<CompletableFuture<JarFileReference>> jarFileReference = new AtomicReference<>();
 
+    private final boolean memoryMapped;
+    private final AtomicReference<MappedJarFile> mappedJarFile = new AtomicReference<>();
+    // Set once the jar turned out to be unsuitable for a mapping, it is then always read with a JarFile
+    private volatile boolean mappingUnsupported;
+
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this(manifestInfo, jarPath, MMAP_JARS);
+    }
+
+    public JarResource(ManifestInfo manifestInfo, Path jarPath, boolean memoryMapped) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
+        this.memoryMapped = memoryMapped;
     }
 
     @Override
@@ -56,6 +77,37 @@ public byte[] getResourceData(String resource) {
         return JarFileReference.withJarFile(this, resource, JarResourceDataProvider.INSTANCE);
     }
 
+    @Override
+    public ByteBuffer getResourceBuffer(String resource) {
+        if (memoryMapped) {
+            MappedJarFile mapped = getMappedJarFile();
+            if (mapped != null) {
+                return mapped.getEntryData(resource);
+            }
+        }
+        return ClassLoadingResource.super.getResourceBuffer(resource);
+    }
+
+    private MappedJarFile getMappedJarFile() {
+        MappedJarFile mapped = mappedJarFile.get();
+        if (mapped != null || mappingUnsupported) {
+            return mapped;
+        }
+        try {
+            mapped = MappedJarFile.map(jarPath);
+        } catch (IOException e) {
+            // For example, the address space is exhausted; the JarFile can still be used
+            LOGGER.debugf(e, "Unable to map %s, it is read with a JarFile instead", jarPath);
+            mapped = null;
+        }
+        if (mapped == null) {
+            mappingUnsupported = true;
+            return null;
+        }
+        // A concurrent thread may have mapped the jar in the meantime, the mapping which lost the race is simply discarded
+        return mappedJarFile.compareAndSet(null, mapped) ? mapped : mappedJarFile.get();
+    }
+
     private static class JarResourceDataProvider implements JarFileReference.JarFileConsumer<byte[]> {
         private static final JarResourceDataProvider INSTANCE = new JarResourceDataProvider();
 
@@ -149,6 +201,9 @@ public ProtectionDomain getProtectionDomain() {
 
     @Override
     public void close() {
+        // A mapping cannot be released explicitly without risking a crash when a buffer handed out is still used,
+        // it is released once the buffers are no longer reachable, i.e. by the garbage collector
+        mappedJarFile.set(null);
         var futureRef = jarFileReference.get();
         if (futureRef != null) {
             // The jarfile has been already used and it's going to be removed from the cache,
@@ -0,0 +1,189 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * A read-only view of a jar file mapped in memory.
+ * <p>
+ * The central directory is parsed once when the jar is mapped, then the data of the entries is served directly from the
+ * mapped region: stored entries, which is how the fast-jar packaging writes the application classes, are returned as a
+ * view over the mapping without any copy, compressed entries are inflated from the mapping.
+ * The pages of the mapping are backed by the file, so they are shared with the page cache and can be reclaimed by the
+ * operating system instead of being counted in the heap.
+ * <p>
+ * Only the plain jars are supported: {@link #map(Path)} returns {@code null} for the multi-release, signed, encrypted, ZIP64
+ * or larger than 2 GB jars, which must be read with {@link java.util.jar.JarFile}.
+ */
+final class MappedJarFile {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_HEADER_SIGNATURE = 0x06054b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final String META_INF = "META-INF/";
+    private static final String META_INF_VERSIONS = "META-INF/versions/";
+
+    private final MappedByteBuffer buffer;
+    private final Map<String, Entry> entries;
+
+    private MappedJarFile(MappedByteBuffer buffer, Map<String, Entry> entries) {
+        this.buffer = buffer;
+        this.entries = entries;
+    }
+
+    /**
+     * Maps the given jar in memory.
+     *
+     * @return the mapped jar, or {@code null} if the jar cannot be served from a mapping
+     * @throws IOException if the jar cannot be read
+     */
+    static MappedJarFile map(Path jarPath) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE || size < END_HEADER_SIZE) {
+                return null;
+            }
+            // The mapping remains valid once the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        Map<String, Entry> entries = readCentralDirectory(buffer);
+        return entries == null ? null : new MappedJarFile(buffer, entries);
+    }
+
+    private static Map<String, Entry> readCentralDirectory(ByteBuffer buffer) {
+        int end = findEndHeader(buffer);
+        if (end < 0) {
+            return null;
+        }
+        int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+        long directorySize = Integer.toUnsignedLong(buffer.getInt(end + 12));
+        long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        if (count == 0xFFFF || directoryOffset == 0xFFFFFFFFL || directoryOffset + directorySize > end) {
+            // ZIP64 or corrupted archive
+            return null;
+        }
+        Map<String, Entry> entries = new HashMap<>((int) (count / 0.75f) + 1);
+        int position = (int) directoryOffset;
+        for (int i = 0; i < count; i++) {
+            if (buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                return null;
+            }
+            int flags = Short.toUnsignedInt(buffer.getShort(position + 8));
+            int method = Short.toUnsignedInt(buffer.getShort(position + 10));
+            long compressedSize = Integer.toUnsignedLong(buffer.getInt(position + 20));
+            long size = Integer.toUnsignedLong(buffer.getInt(position + 24));
+            int nameLength = Short.toUnsignedInt(buffer.getShort(position + 28));
+            int extraLength = Short.toUnsignedInt(buffer.getShort(position + 30));
+            int commentLength = Short.toUnsignedInt(buffer.getShort(position + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(position + 42));
+            String name = readName(buffer, position + CENTRAL_HEADER_SIZE, nameLength);
+            if ((flags & 1) != 0 || (method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+                    || compressedSize == 0xFFFFFFFFL || size == 0xFFFFFFFFL || localHeaderOffset == 0xFFFFFFFFL
+                    || isVersionedOrSignature(name)) {
+                // The JarFile semantics for these entries are not reproduced here
+                return null;
+            }
+            entries.put(name, new Entry((int) localHeaderOffset, (int) compressedSize, (int) size, method));
+            position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    private static int findEndHeader(ByteBuffer buffer) {
+        int min = Math.max(0, buffer.limit() - END_HEADER_SIZE - MAX_COMMENT_SIZE);
+        for (int position = buffer.limit() - END_HEADER_SIZE; position >= min; position--) {
+            if (buffer.getInt(position) == END_HEADER_SIGNATURE) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static String readName(ByteBuffer buffer, int position, int length) {
+        byte[] name = new byte[length];
+        buffer.get(position, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isVersionedOrSignature(String name) {
+        if (!name.startsWith(META_INF)) {
+            return false;
+        }
+        if (name.startsWith(META_INF_VERSIONS)) {
+            return true;
+        }
+        return name.endsWith(".SF") || name.endsWith(".RSA") || name.endsWith(".DSA") || name.endsWith(".EC");
+    }
+
+    /**
+     * Returns the data of the given entry, or {@code null} if the jar does not contain it. The returned buffer may be a view
+     * over the mapping, so it must not be retained.
+     */
+    ByteBuffer getEntryData(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        int nameLength = Short.toUnsignedInt(buffer.getShort(entry.localHeaderOffset + 26));
+        int extraLength = Short.toUnsignedInt(buffer.getShort(entry.localHeaderOffset + 28));
+        if (buffer.getInt(entry.localHeaderOffset) != LOCAL_HEADER_SIGNATURE) {
+            throw new IllegalStateException("Invalid local header for entry " + name);
+        }
+        int dataOffset = entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+        ByteBuffer compressed = buffer.slice(dataOffset, entry.compressedSize);
+        if (entry.method == ZipEntry.STORED) {
+            return compressed.asReadOnlyBuffer();
+        }
+        byte[] data = new byte[entry.size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            int position = 0;
+            while (position < data.length) {
+                int inflated = inflater.inflate(data, position, data.length - position);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Failed to read all data for " + name);
+                }
+                position += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Failed to inflate zip entry " + name, e);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(data);
+    }
+
+    private static final class Entry {
+
+        private final int localHeaderOffset;
+        private final int compressedSize;
+        private final int size;
+        private final int method;
+
+        private Entry(int localHeaderOffset, int compressedSize, int size, int method) {
+            this.localHeaderOffset = localHeaderOffset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.method = method;
+        }
+    }
+}
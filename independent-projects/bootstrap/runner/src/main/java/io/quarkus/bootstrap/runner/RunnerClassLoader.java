@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -103,7 +104,7 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
             String classResource = fromClassNameToResourceName(name);
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
-                byte[] data = resource.getResourceData(classResource);
+                ByteBuffer data = resource.getResourceBuffer(classResource);
                 if (data == null) {
                     continue;
                 }
@@ -146,10 +147,11 @@ private void definePackage(String pkgName, ClassLoadingResource[] resources) {
         }
     }
 
-    private Class<?> defineClass(String name, byte[] data, ClassLoadingResource resource) {
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
         Class<?> loaded;
         try {
-            return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+            // Heap buffers are defined from their backing array, direct buffers without any copy
+            return defineClass(name, data, resource.getProtectionDomain());
         } catch (LinkageError e) {
             loaded = findLoadedClass(name);
             if (loaded != null) {
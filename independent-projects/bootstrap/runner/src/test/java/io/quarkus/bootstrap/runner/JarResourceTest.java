@@ -4,9 +4,15 @@
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
 
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.StringAsset;
@@ -70,6 +76,52 @@ private void testInternal(String path) throws Exception {
         }
     }
 
+    /**
+     * Tests that the memory-mapped mode of {@link JarResource} returns the same data as the {@code JarFile} based mode, for
+     * both stored and compressed entries
+     */
+    @Test
+    public void testMemoryMappedResourceData() throws Exception {
+        final Path jarFilePath = Files.createTempFile("test", "quarkus-mmap.jar");
+        final byte[] content = "hello hello hello hello".getBytes(StandardCharsets.UTF_8);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jarFilePath))) {
+            out.putNextEntry(new ZipEntry("deflated.txt"));
+            out.write(content);
+            out.closeEntry();
+            final CRC32 crc = new CRC32();
+            crc.update(content);
+            final JarEntry stored = new JarEntry("stored.txt");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(content.length);
+            stored.setCrc(crc.getValue());
+            out.putNextEntry(stored);
+            out.write(content);
+            out.closeEntry();
+        }
+        final JarResource mapped = new JarResource(null, jarFilePath, true);
+        final JarResource regular = new JarResource(null, jarFilePath, false);
+        try {
+            for (final String resource : new String[] { "deflated.txt", "stored.txt" }) {
+                Assertions.assertArrayEquals(regular.getResourceData(resource), toArray(mapped.getResourceBuffer(resource)),
+                        resource);
+                Assertions.assertArrayEquals(content, toArray(mapped.getResourceBuffer(resource)), resource);
+            }
+            Assertions.assertNull(mapped.getResourceBuffer("missing.txt"));
+            // the mapping is recreated when needed after a reset
+            mapped.resetInternalCaches();
+            Assertions.assertArrayEquals(content, toArray(mapped.getResourceBuffer("stored.txt")));
+        } finally {
+            mapped.close();
+            regular.close();
+        }
+    }
+
+    private static byte[] toArray(final ByteBuffer buffer) {
+        final byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return data;
+    }
+
     private static void drainFully(final InputStream inputStream) throws IOException {
         int read = -1;
         final byte[] data = new byte[1024];
@@ -0,0 +1,190 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.EvalContext;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.ValueResolver;
+
+/**
+ * Compares the rendering of a template when the output expressions are evaluated by the value resolvers and when they
+ * are compiled ({@code quarkus.qute.compile-expressions=true}).
+ * <p>
+ * The value resolvers and the compiled expressions are written by hand here, but they are equivalent to the classes
+ * generated by {@code ValueResolverGenerator} and {@code CompiledExpressionGenerator} in a Quarkus application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkCompiledExpressions {
+
+    private static final String TEMPLATE_ID = "items.html";
+    private static final int ITEMS = 100;
+
+    @Param({ "true", "false" })
+    public boolean compiled;
+
+    private Template template;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults()
+                .addValueResolver(new ItemResolver())
+                .addValueResolver(new PriceResolver())
+                .addValueResolver(new StringResolver());
+        if (compiled) {
+            builder.addCompiledExpression(TEMPLATE_ID, "item.name",
+                    base -> base instanceof Item ? ((Item) base).getName() : Results.NotFound.EMPTY)
+                    .addCompiledExpression(TEMPLATE_ID, "item.price.value", base -> {
+                        if (!(base instanceof Item)) {
+                            return Results.NotFound.EMPTY;
+                        }
+                        Object price = ((Item) base).getPrice();
+                        if (!(price instanceof Price)) {
+                            return Results.NotFound.EMPTY;
+                        }
+                        return Integer.valueOf(((Price) price).getValue());
+                    })
+                    .addCompiledExpression(TEMPLATE_ID, "item.name.length", base -> {
+                        if (!(base instanceof Item)) {
+                            return Results.NotFound.EMPTY;
+                        }
+                        Object name = ((Item) base).getName();
+                        if (!(name instanceof String)) {
+                            return Results.NotFound.EMPTY;
+                        }
+                        return Integer.valueOf(((String) name).length());
+                    });
+        }
+        template = builder.build().parse("{#for item in items}"
+                + "<li>{item.name} ({item.name.length}): {item.price.value}</li>"
+                + "{/for}", null, TEMPLATE_ID);
+        items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new Item("Item " + i, new Price(i * 10)));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("items", items).render();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkCompiledExpressions.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final Price price;
+
+        public Item(String name, Price price) {
+            this.name = name;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Price getPrice() {
+            return price;
+        }
+
+    }
+
+    public static class Price {
+
+        private final int value;
+
+        public Price(int value) {
+            this.value = value;
+        }
+
+        public int getValue() {
+            return value;
+        }
+
+    }
+
+    static class ItemResolver implements ValueResolver {
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Item;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            Item item = (Item) context.getBase();
+            switch (context.getName()) {
+                case "name":
+                    return CompletedStage.of(item.getName());
+                case "price":
+                    return CompletedStage.of(item.getPrice());
+                default:
+                    return Results.notFound(context);
+            }
+        }
+
+    }
+
+    static class PriceResolver implements ValueResolver {
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof Price;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            if (context.getName().equals("value")) {
+                return CompletedStage.of(((Price) context.getBase()).getValue());
+            }
+            return Results.notFound(context);
+        }
+
+    }
+
+    static class StringResolver implements ValueResolver {
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return context.getBase() instanceof String;
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            if (context.getName().equals("length")) {
+                return CompletedStage.of(((String) context.getBase()).length());
+            }
+            return Results.notFound(context);
+        }
+
+    }
+
+}
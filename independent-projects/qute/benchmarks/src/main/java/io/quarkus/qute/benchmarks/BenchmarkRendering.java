@@ -0,0 +1,91 @@
+package io.quarkus.qute.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+
+/**
+ * Compares the blocking rendering ({@link io.quarkus.qute.TemplateInstance#render()}) with the asynchronous one
+ * ({@link io.quarkus.qute.TemplateInstance#renderAsync()}) of a template where all the values are available
+ * synchronously.
+ * <p>
+ * Both methods resolve the same tree of completion stages and result nodes; {@code render()} only skips the
+ * {@link java.util.concurrent.CompletableFuture} that waits for the result.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation rate, i.e. {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRendering {
+
+    private static final int ITEMS = 20;
+
+    private Template template;
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver()).build();
+        template = engine.parse("<ul>{#for item in items}"
+                + "<li>{item_count}. {item.name}{#if item.active} (active){/if}</li>"
+                + "{/for}</ul>");
+        items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new Item("Item " + i, i % 2 == 0));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("items", items).render();
+    }
+
+    @Benchmark
+    public String renderAsync() {
+        return template.data("items", items).renderAsync().toCompletableFuture().join();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] { BenchmarkRendering.class.getSimpleName(), "-prof", "gc" });
+    }
+
+    public static class Item {
+
+        private final String name;
+        private final boolean active;
+
+        public Item(String name, boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+    }
+
+}
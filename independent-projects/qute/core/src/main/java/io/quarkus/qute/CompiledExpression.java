@@ -0,0 +1,50 @@
+package io.quarkus.qute;
+
+/**
+ * A compiled expression evaluates all parts of an output expression but the first one without the value resolvers, e.g. by
+ * invoking the getters directly. It's typically generated at build time for a type-safe expression, such as
+ * {@code item.name} where {@code item} is declared as {@code org.acme.Item}.
+ * <p>
+ * The value of the first part is still looked up in the data of the resolution context. If it cannot be looked up
+ * synchronously or if the compiled expression returns {@link Results.NotFound}, the expression is evaluated by the
+ * value resolvers.
+ * <p>
+ * A compiled expression should consult a {@link Guard} before each part is evaluated so that the value resolvers that are
+ * not known at build time, e.g. a custom resolver registered for the type of a part, are not bypassed.
+ *
+ * @see EngineBuilder#addCompiledExpression(String, String, CompiledExpression)
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+    /**
+     *
+     * @param base the value of the first part of the expression
+     * @return the value of the expression, or {@link Results.NotFound} if the expression cannot be evaluated for the given
+     *         base object
+     */
+    Object evaluate(Object base);
+
+    /**
+     * Decides whether a part of a compiled expression must be evaluated by the value resolvers instead.
+     */
+    @FunctionalInterface
+    interface Guard {
+
+        /**
+         * A guard that never rejects a part.
+         */
+        Guard NONE = (base, name) -> false;
+
+        /**
+         *
+         * @param base the base object
+         * @param name the name of the part, e.g. {@code name} for {@code item.name}
+         * @return {@code true} if the part must be evaluated by the value resolvers, i.e. the compiled expression should
+         *         return {@link Results.NotFound}
+         */
+        boolean test(Object base, String name);
+
+    }
+
+}
@@ -30,4 +30,26 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     * Unlike {@link #toCompletionStage(Object)} this method does not allocate a new stage if the result of the given completed
+     * stage is not a {@link CompletionStage} itself.
+     *
+     * @param stage a successfully completed stage
+     * @return the stage for the result of the given stage
+     */
+    @SuppressWarnings("unchecked")
+    static CompletionStage<Object> toCompletionStage(CompletedStage<Object> stage) {
+        Object result = stage.get();
+        if (result instanceof CompletableFuture) {
+            return (CompletableFuture<Object>) result;
+        } else if (result instanceof CompletedStage) {
+            return (CompletedStage<Object>) result;
+        } else if (result instanceof AbstractUni) {
+            return ((AbstractUni<Object>) result).subscribeAsCompletionStage();
+        } else if (UNRESTRICTED && result instanceof CompletionStage) {
+            return (CompletionStage<Object>) result;
+        }
+        return stage;
+    }
 }
@@ -32,6 +32,7 @@ public final class EngineBuilder {
     final List<TemplateInstance.Initializer> initializers;
     Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     final List<ParserHook> parserHooks;
+    final Map<String, Map<String, CompiledExpression>> compiledExpressions;
     boolean removeStandaloneLines;
     boolean strictRendering;
     String iterationMetadataPrefix;
@@ -46,6 +47,7 @@ public final class EngineBuilder {
         this.resultMappers = new ArrayList<>();
         this.parserHooks = new ArrayList<>();
         this.initializers = new ArrayList<>();
+        this.compiledExpressions = new HashMap<>();
         this.strictRendering = true;
         this.removeStandaloneLines = true;
         this.iterationMetadataPrefix = LoopSectionHelper.Factory.ITERATION_METADATA_PREFIX_ALIAS_UNDERSCORE;
@@ -209,6 +211,21 @@ public EngineBuilder addTemplateInstanceInitializer(TemplateInstance.Initializer
         return this;
     }
 
+    /**
+     * Registers a compiled expression that is used instead of the value resolvers to evaluate the matching output expressions
+     * of the given template.
+     *
+     * @param templateId
+     * @param expression the original expression, e.g. {@code item.name}
+     * @param compiledExpression
+     * @return self
+     * @see CompiledExpression
+     */
+    public EngineBuilder addCompiledExpression(String templateId, String expression, CompiledExpression compiledExpression) {
+        this.compiledExpressions.computeIfAbsent(templateId, k -> new HashMap<>()).put(expression, compiledExpression);
+        return this;
+    }
+
     /**
      * The function is used if no section helper registered via {@link #addSectionHelper(SectionHelperFactory)} matches a
      * section name.
@@ -6,6 +6,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -35,6 +36,7 @@ class EngineImpl implements Engine {
     private final List<ResultMapper> resultMappers;
     private final AtomicLong idGenerator = new AtomicLong(0);
     private final List<ParserHook> parserHooks;
+    private final Map<String, Map<String, CompiledExpression>> compiledExpressions;
     final List<TemplateInstance.Initializer> initializers;
     final boolean removeStandaloneLines;
     private final long timeout;
@@ -51,6 +53,11 @@ class EngineImpl implements Engine {
         this.resultMappers = sort(builder.resultMappers);
         this.sectionHelperFunc = builder.sectionHelperFunc;
         this.parserHooks = ImmutableList.copyOf(builder.parserHooks);
+        Map<String, Map<String, CompiledExpression>> compiledExpressions = new HashMap<>();
+        for (Entry<String, Map<String, CompiledExpression>> e : builder.compiledExpressions.entrySet()) {
+            compiledExpressions.put(e.getKey(), Map.copyOf(e.getValue()));
+        }
+        this.compiledExpressions = Map.copyOf(compiledExpressions);
         this.removeStandaloneLines = builder.removeStandaloneLines;
         this.initializers = ImmutableList.copyOf(builder.initializers);
         this.timeout = builder.timeout;
@@ -97,6 +104,21 @@ public Evaluator getEvaluator() {
         return evaluator;
     }
 
+    /**
+     *
+     * @param templateId
+     * @param expression
+     * @return the compiled expression for the given output expression, or {@code null}
+     */
+    CompiledExpression getCompiledExpression(String templateId, Expression expression) {
+        if (compiledExpressions.isEmpty() || expression.isLiteral() || expression.hasNamespace()
+                || expression.getParts().size() < 2 || expression.getParts().get(0).isVirtualMethod()) {
+            return null;
+        }
+        Map<String, CompiledExpression> templateExpressions = compiledExpressions.get(templateId);
+        return templateExpressions != null ? templateExpressions.get(expression.toOriginalString()) : null;
+    }
+
     public List<ResultMapper> getResultMappers() {
         return resultMappers;
     }
@@ -202,6 +224,11 @@ public EngineBuilder newBuilder() {
         for (ParserHook parserHook : parserHooks) {
             builder.addParserHook(parserHook);
         }
+        for (Entry<String, Map<String, CompiledExpression>> template : compiledExpressions.entrySet()) {
+            for (Entry<String, CompiledExpression> e : template.getValue().entrySet()) {
+                builder.addCompiledExpression(template.getKey(), e.getKey(), e.getValue());
+            }
+        }
         return builder;
     }
 
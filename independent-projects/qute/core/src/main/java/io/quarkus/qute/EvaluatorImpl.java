@@ -131,8 +131,16 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                // No async computation needed - avoid the allocation of the composing function
+                try {
+                    return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,7 +151,19 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cachedResolver = evalContext.getCachedResolver();
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // No async computation needed - avoid the allocation of the composing function
+                    if (!Results.isNotFound(completed.get())) {
+                        return CompletionStageSupport.toCompletionStage(completed);
+                    }
+                    try {
+                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -208,7 +228,20 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // No async computation needed - avoid the allocation of the composing function
+            if (!Results.isNotFound(completed.get())) {
+                evalContext.setCachedResolver(foundResolver);
+                return CompletionStageSupport.toCompletionStage(completed);
+            }
+            try {
+                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -16,13 +16,19 @@ public class ExpressionNode implements TemplateNode {
 
     final ExpressionImpl expression;
     private final Engine engine;
+    private final CompiledExpression compiledExpression;
     private final boolean traceLevel;
     private final boolean hasEngineResultMappers;
     private final boolean unrestrictedCompletionStages;
 
     ExpressionNode(ExpressionImpl expression, Engine engine) {
+        this(expression, engine, null);
+    }
+
+    ExpressionNode(ExpressionImpl expression, Engine engine, CompiledExpression compiledExpression) {
         this.expression = expression;
         this.engine = engine;
+        this.compiledExpression = compiledExpression;
         this.traceLevel = LOG.isTraceEnabled();
         this.hasEngineResultMappers = !engine.getResultMappers().isEmpty();
         this.unrestrictedCompletionStages = CompletionStageSupport.UNRESTRICTED;
@@ -33,7 +39,53 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        if (compiledExpression != null) {
+            Object base = resolveFirstPart(context);
+            if (!Results.isNotFound(base)) {
+                Object result = compiledExpression.evaluate(base);
+                if (!Results.isNotFound(result)) {
+                    return toResultNode(result);
+                }
+            }
+        }
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // No async computation needed - avoid the allocation of the composing function
+            return toResultNode(completed.get());
+        }
+        return result.thenCompose(this::toResultNode);
+    }
+
+    /**
+     * Looks up the value of the first part of the expression in the data of the resolution contexts, the same way the
+     * {@link ValueResolvers#mapperResolver()} does.
+     *
+     * @return the value, or {@link Results.NotFound} if the value cannot be looked up synchronously
+     */
+    private Object resolveFirstPart(ResolutionContext context) {
+        String name = expression.getParts().get(0).getName();
+        ResolutionContext current = context;
+        while (current != null) {
+            Object data = current.getData();
+            if (data instanceof Mapper) {
+                Mapper mapper = (Mapper) data;
+                if (mapper.appliesTo(name)) {
+                    CompletionStage<Object> value = mapper.getAsync(name);
+                    if (!(value instanceof CompletedStage) || ((CompletedStage<Object>) value).isFailure()) {
+                        return Results.NotFound.EMPTY;
+                    }
+                    Object result = ((CompletedStage<Object>) value).get();
+                    if (!Results.isNotFound(result)) {
+                        return result;
+                    }
+                }
+            } else if (data != null) {
+                // Data objects are resolved by the value resolvers
+                return Results.NotFound.EMPTY;
+            }
+            current = current.getParent();
+        }
+        return Results.NotFound.EMPTY;
     }
 
     @Override
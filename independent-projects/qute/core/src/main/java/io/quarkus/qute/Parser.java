@@ -440,8 +440,9 @@ private void flushTag() {
             parameterDeclaration(content, tag);
         } else {
             // Expression
+            ExpressionImpl expression = createExpression(content);
             sectionStack.peek().currentBlock()
-                    .addNode(new ExpressionNode(createExpression(content), engine));
+                    .addNode(new ExpressionNode(expression, engine, engine.getCompiledExpression(templateId, expression)));
         }
         this.buffer = new StringBuilder();
     }
@@ -6,21 +6,26 @@
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * This value resolver can be used to access public members of classes via reflection.
+ * <p>
+ * The number of values resolved by this resolver is tracked per member, see {@link #getResolutionCounts()}.
  */
 public class ReflectionValueResolver implements ValueResolver {
 
     /**
      * Lazy loading cache of lookup attempts (contains both hits and misses)
      */
-    private final ConcurrentMap<MemberKey, Optional<AccessorCandidate>> candidates = new ConcurrentHashMap<>();
+    private final ConcurrentMap<MemberKey, Candidate> candidates = new ConcurrentHashMap<>();
 
     private static final AccessorCandidate ARRAY_GET_LENGTH = ec -> instance -> CompletedStage.of(Array.getLength(instance));
 
@@ -40,7 +45,7 @@ public boolean appliesTo(EvalContext context) {
             return false;
         }
         // Check if there is a member with the given name and number of params
-        return candidates.computeIfAbsent(MemberKey.from(context), this::findCandidate).isPresent();
+        return candidates.computeIfAbsent(MemberKey.from(context), this::findCandidate).accessorCandidate != null;
     }
 
     @Override
@@ -48,46 +53,86 @@ public CompletionStage<Object> resolve(EvalContext context) {
         Object base = context.getBase();
         MemberKey key = MemberKey.from(context);
         // At this point the candidate for the given key should be already computed
-        AccessorCandidate candidate = candidates.get(key).orElse(null);
-        if (candidate == null) {
+        Candidate candidate = candidates.get(key);
+        if (candidate == null || candidate.accessorCandidate == null) {
             return Results.notFound(context);
         }
-        ValueAccessor accessor = candidate.getAccessor(context);
+        ValueAccessor accessor = candidate.accessorCandidate.getAccessor(context);
         if (accessor == null) {
             return Results.notFound(context);
         }
+        candidate.resolutions.increment();
         return accessor.getValue(base);
     }
 
+    /**
+     * Clears the cache of lookup attempts and resets the resolution counts.
+     */
     public void clearCache() {
         candidates.clear();
     }
 
-    private Optional<AccessorCandidate> findCandidate(MemberKey key) {
+    /**
+     *
+     * @return the total number of values resolved via reflection
+     * @see #getResolutionCounts()
+     */
+    public long getResolutionCount() {
+        long count = 0;
+        for (Candidate candidate : candidates.values()) {
+            count += candidate.resolutions.sum();
+        }
+        return count;
+    }
+
+    /**
+     * A value is resolved by this resolver if no other value resolver applies, e.g. if there is no generated value resolver
+     * for the class of the base object. Ideally, the returned map should be empty.
+     *
+     * @return the number of values resolved via reflection, keyed by member, e.g. {@code org.acme.Item#name} or
+     *         {@code org.acme.Item#discount(1)} for a method with one parameter
+     */
+    public Map<String, Long> getResolutionCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Entry<MemberKey, Candidate> entry : candidates.entrySet()) {
+            long count = entry.getValue().resolutions.sum();
+            if (count > 0) {
+                MemberKey key = entry.getKey();
+                String member = key.clazz.getName() + "#" + key.name;
+                if (key.numberOfParams > 0) {
+                    member += "(" + key.numberOfParams + ")";
+                }
+                counts.put(member, count);
+            }
+        }
+        return counts;
+    }
+
+    private Candidate findCandidate(MemberKey key) {
         if (key.clazz.isArray()) {
             if (key.name.equals("length") && key.numberOfParams == 0) {
-                return Optional.of(ARRAY_GET_LENGTH);
+                return new Candidate(ARRAY_GET_LENGTH);
             } else {
-                return Optional.empty();
+                return Candidate.NOT_FOUND;
             }
         }
         if (key.numberOfParams > 0) {
             List<Method> methods = findMethods(key.clazz, key.name, key.numberOfParams);
-            return methods.isEmpty() ? Optional.empty() : Optional.of(new MethodsCandidate(methods));
+            return methods.isEmpty() ? Candidate.NOT_FOUND : new Candidate(new MethodsCandidate(methods));
         } else {
             Method foundMethod = findMethodNoArgs(key.clazz, key.name);
             if (foundMethod != null) {
                 foundMethod.trySetAccessible();
-                return Optional.of(new GetterAccessor(foundMethod));
+                return new Candidate(new GetterAccessor(foundMethod));
             }
             Field foundField = findField(key.clazz, key.name);
             if (foundField != null) {
                 foundField.trySetAccessible();
-                return Optional.of(new FieldAccessor(foundField));
+                return new Candidate(new FieldAccessor(foundField));
             }
         }
         // Member not found
-        return Optional.empty();
+        return Candidate.NOT_FOUND;
     }
 
     private Method findMethodNoArgs(Class<?> clazz, String name) {
@@ -189,6 +234,21 @@ private static boolean isBoolean(Class<?> type) {
         return type.equals(Boolean.class) || type.equals(boolean.class);
     }
 
+    private static final class Candidate {
+
+        static final Candidate NOT_FOUND = new Candidate(null);
+
+        // null if no member was found
+        final AccessorCandidate accessorCandidate;
+        final LongAdder resolutions;
+
+        Candidate(AccessorCandidate accessorCandidate) {
+            this.accessorCandidate = accessorCandidate;
+            this.resolutions = new LongAdder();
+        }
+
+    }
+
     static String decapitalize(String name) {
         if (name == null || name.length() == 0) {
             return name;
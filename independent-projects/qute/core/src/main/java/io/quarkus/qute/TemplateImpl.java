@@ -159,9 +159,18 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
 
         @Override
         public String render() {
+            CompletionStage<ResultNode> resolved = resolve(data());
+            if (resolved instanceof CompletedStage<ResultNode> completed && !completed.isFailure()) {
+                // The resolution completed synchronously - process the result tree directly instead of waiting for it
+                // The nodes are still resolved to completion stages and result nodes, only the CompletableFuture and
+                // the blocking wait are skipped
+                StringBuilder builder = new StringBuilder(getCapacity());
+                process(completed.get(), builder::append);
+                return toString(builder);
+            }
             long timeout = getTimeout();
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return renderAsyncNoTimeout(resolved).toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -235,12 +244,18 @@ protected Engine engine() {
         }
 
         private CompletionStage<String> renderAsyncNoTimeout() {
+            return renderAsyncNoTimeout(resolve(data()));
+        }
+
+        private CompletionStage<String> renderAsyncNoTimeout(CompletionStage<ResultNode> resolved) {
             StringBuilder builder = new StringBuilder(getCapacity());
-            return renderData(data(), builder::append).thenApply(v -> {
-                String str = builder.toString();
-                capacity.update(str.length());
-                return str;
-            });
+            return process(resolved, builder::append).thenApply(v -> toString(builder));
+        }
+
+        private String toString(StringBuilder builder) {
+            String str = builder.toString();
+            capacity.update(str.length());
+            return str;
         }
 
         private int getCapacity() {
@@ -264,38 +279,51 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
+            return process(resolve(data), consumer);
+        }
+
+        private CompletionStage<ResultNode> resolve(Object data) {
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            return root.resolve(rootContext);
+        }
+
+        private CompletionStage<Void> process(CompletionStage<ResultNode> resolved, Consumer<String> consumer) {
+            CompletableFuture<Void> result = new CompletableFuture<>();
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
-                    // Sync processing of the result tree - build the output
                     try {
-                        r.process(consumer);
+                        process(r, consumer);
                         result.complete(null);
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
-                    } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
                     }
                 }
             });
             return result;
         }
 
+        private void process(ResultNode resultNode, Consumer<String> consumer) {
+            // Sync processing of the result tree - build the output
+            try {
+                resultNode.process(consumer);
+            } finally {
+                if (renderedActions != null) {
+                    for (Runnable action : renderedActions) {
+                        try {
+                            action.run();
+                        } catch (Throwable e) {
+                            LOG.error("Unable to perform an action when rendering finished", e);
+                        }
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
@@ -0,0 +1,89 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class CompiledExpressionTest {
+
+    @Test
+    public void testCompiledExpression() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addCompiledExpression("foo.html", "item.name", base -> {
+                    evaluations.incrementAndGet();
+                    return base instanceof Item ? ((Item) base).getName() : Results.NotFound.EMPTY;
+                })
+                .build();
+        Template foo = engine.parse("{item.name}:{item.name.length}", null, "foo.html");
+        assertEquals("box:3", foo.data("item", new Item("box")).render());
+        assertEquals(1, evaluations.get());
+        // Not registered for this template
+        Template bar = engine.parse("{item.name}", null, "bar.html");
+        assertEquals("box", bar.data("item", new Item("box")).render());
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void testCompiledExpressionInLoop() {
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledExpression("foo.html", "it.name",
+                        base -> base instanceof Item ? ((Item) base).getName().toUpperCase() : Results.NotFound.EMPTY)
+                .build();
+        Template foo = engine.parse("{#for it in items}{it.name}{#if it_hasNext},{/if}{/for}", null, "foo.html");
+        // The upper case values prove that the compiled expression was used
+        assertEquals("ALPHA,BRAVO", foo.data("items", List.of(new Item("alpha"), new Item("bravo"))).render());
+    }
+
+    @Test
+    public void testFallbackToValueResolvers() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addCompiledExpression("foo.html", "item.name",
+                        base -> base instanceof Item ? "compiled" : Results.NotFound.EMPTY)
+                .build();
+        Template foo = engine.parse("{item.name}", null, "foo.html");
+        // The base object is not supported by the compiled expression
+        assertEquals("other", foo.data("item", new Other("other")).render());
+        assertEquals("compiled", foo.data("item", new Item("box")).render());
+        // The data object is not a map
+        assertEquals("wrapped", foo.instance().data(new Wrapper(new Other("wrapped"))).render());
+    }
+
+    public static class Item {
+
+        private final String name;
+
+        public Item(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+    }
+
+    public static class Other {
+
+        public final String name;
+
+        public Other(String name) {
+            this.name = name;
+        }
+
+    }
+
+    public static class Wrapper {
+
+        public final Other item;
+
+        public Wrapper(Other item) {
+            this.item = item;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Map;
 import java.util.TreeMap;
@@ -49,6 +50,23 @@ public void testStaticMembersIgnored() {
                 .parse("{foo.bar ?: 'baz'}::{foo.BAR ?: 'baz'}").data("foo", new Foo("box")).render());
     }
 
+    @Test
+    public void testResolutionCounts() {
+        ReflectionValueResolver resolver = new ReflectionValueResolver();
+        Template template = Engine.builder().addDefaults().addValueResolver(resolver).build()
+                .parse("{foo.name}:{foo.computeLength(foo.name)}:{foo.bar ?: 'baz'}");
+        assertEquals("box:3:baz", template.data("foo", new Foo("box")).render());
+        assertEquals("box:3:baz", template.data("foo", new Foo("box")).render());
+        Map<String, Long> counts = resolver.getResolutionCounts();
+        assertEquals(2, counts.size());
+        assertEquals(4, counts.get(Foo.class.getName() + "#name"));
+        assertEquals(2, counts.get(Foo.class.getName() + "#computeLength(1)"));
+        assertEquals(6, resolver.getResolutionCount());
+        resolver.clearCache();
+        assertTrue(resolver.getResolutionCounts().isEmpty());
+        assertEquals(0, resolver.getResolutionCount());
+    }
+
     public static class Foo {
 
         public final String name;
@@ -2,12 +2,15 @@
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +43,25 @@ public void testRendered() {
         assertTrue(rendered.get());
     }
 
+    @Test
+    public void testRenderSyncAndAsyncData() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template hello = engine.parse("Hello {foo}!");
+        AtomicInteger rendered = new AtomicInteger();
+        // All values are resolved synchronously
+        assertEquals("Hello baz!", hello.data("foo", "baz").onRendered(rendered::incrementAndGet).render());
+        assertEquals(1, rendered.get());
+        // The value is resolved asynchronously
+        assertEquals("Hello qux!", hello.data("foo", CompletableFuture.supplyAsync(() -> "qux"))
+                .onRendered(rendered::incrementAndGet).render());
+        assertEquals(2, rendered.get());
+        // Errors are propagated
+        assertThrows(TemplateException.class,
+                () -> engine.parse("Hello {foo.bar}!").data("foo", "baz").onRendered(rendered::incrementAndGet).render());
+        // Rendered actions are executed even if the rendering fails
+        assertEquals(3, rendered.get());
+    }
+
     @Test
     public void testGetTemplate() {
         Engine engine = Engine.builder().addDefaults().build();
@@ -0,0 +1,213 @@
+package io.quarkus.qute.generator;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Objects;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType.Primitive;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.qute.CompiledExpression;
+import io.quarkus.qute.Results.NotFound;
+
+/**
+ * Generates {@link CompiledExpression}s for type-safe expressions.
+ * <p>
+ * The generated class invokes the getters and reads the fields directly. If the value of a part is not an instance of the
+ * class the expression was validated against, e.g. if it's {@code null}, then {@link NotFound#EMPTY} is returned and the
+ * expression is evaluated by the value resolvers instead. The same applies if the {@link CompiledExpression.Guard} passed to
+ * the constructor of the generated class rejects a part.
+ */
+public class CompiledExpressionGenerator extends AbstractGenerator {
+
+    public static final String SUFFIX = "_CompiledExpression";
+
+    private static final String PACKAGE = "io/quarkus/qute/generated/";
+
+    public CompiledExpressionGenerator(IndexView index, ClassOutput classOutput) {
+        super(index, classOutput);
+    }
+
+    /**
+     *
+     * @param templateId
+     * @param expression
+     * @param steps the steps for all parts of the expression but the first one
+     * @return the name of the generated class
+     */
+    public String generate(String templateId, String expression, List<Step> steps) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("No steps for expression: " + expression);
+        }
+        String generatedName = PACKAGE + "Expression_" + ExtensionMethodGenerator.sha1(templateId + ":" + expression)
+                + SUFFIX;
+        generatedTypes.add(generatedName.replace('/', '.'));
+
+        ClassCreator compiledExpression = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .interfaces(CompiledExpression.class).build();
+        FieldDescriptor guardField = compiledExpression.getFieldCreator("guard", CompiledExpression.Guard.class)
+                .setModifiers(ACC_PRIVATE | ACC_FINAL).getFieldDescriptor();
+
+        // constructor(CompiledExpression.Guard guard)
+        MethodCreator constructor = compiledExpression.getMethodCreator("<init>", void.class, CompiledExpression.Guard.class)
+                .setModifiers(ACC_PUBLIC);
+        constructor.invokeSpecialMethod(MethodDescriptor.ofConstructor(Object.class), constructor.getThis());
+        constructor.writeInstanceField(guardField, constructor.getThis(), constructor.getMethodParam(0));
+        constructor.returnValue(null);
+
+        // CompiledExpression#evaluate()
+        MethodCreator evaluate = compiledExpression.getMethodCreator("evaluate", Object.class, Object.class)
+                .setModifiers(ACC_PUBLIC);
+        ResultHandle guard = evaluate.readInstanceField(guardField, evaluate.getThis());
+        ResultHandle value = evaluate.getMethodParam(0);
+        for (Step step : steps) {
+            String baseClass = step.baseClass.name().toString();
+            // if (!(value instanceof org.acme.Item)) return NotFound.EMPTY;
+            BytecodeCreator notInstance = evaluate.ifFalse(evaluate.instanceOf(value, baseClass)).trueBranch();
+            notInstance.returnValue(notInstance.readStaticField(Descriptors.NOT_FOUND_EMPTY));
+            // if (guard.test(value, "name")) return NotFound.EMPTY;
+            BytecodeCreator rejected = evaluate.ifTrue(evaluate.invokeInterfaceMethod(Descriptors.GUARD_TEST, guard, value,
+                    evaluate.load(step.name))).trueBranch();
+            rejected.returnValue(rejected.readStaticField(Descriptors.NOT_FOUND_EMPTY));
+            ResultHandle base = evaluate.checkCast(value, baseClass);
+            Type type;
+            // The member is looked up on the base class so that the members inherited from a non-public class can be used
+            if (step.member.kind() == AnnotationTarget.Kind.FIELD) {
+                FieldInfo field = step.member.asField();
+                type = field.type();
+                value = evaluate.readInstanceField(
+                        FieldDescriptor.of(baseClass, field.name(), FieldDescriptor.of(field).getType()), base);
+            } else {
+                MethodInfo method = step.member.asMethod();
+                type = method.returnType();
+                MethodDescriptor descriptor = MethodDescriptor.ofMethod(baseClass, method.name(),
+                        MethodDescriptor.of(method).getReturnType());
+                if (Modifier.isInterface(step.baseClass.flags())) {
+                    value = evaluate.invokeInterfaceMethod(descriptor, base);
+                } else {
+                    value = evaluate.invokeVirtualMethod(descriptor, base);
+                }
+            }
+            if (type.kind() == Kind.PRIMITIVE) {
+                value = box(evaluate, type.asPrimitiveType().primitive(), value);
+            }
+        }
+        evaluate.returnValue(value);
+
+        compiledExpression.close();
+        return generatedName.replace('/', '.');
+    }
+
+    /**
+     * A step can be compiled if the member is a public instance field or a public instance method with no parameters declared
+     * on a public class.
+     *
+     * @param baseClass the class of the base object
+     * @param member the member used to evaluate the part of the expression
+     * @return {@code true} if the step can be compiled
+     */
+    public static boolean isSupported(ClassInfo baseClass, AnnotationTarget member) {
+        if (!Modifier.isPublic(baseClass.flags())) {
+            return false;
+        }
+        switch (member.kind()) {
+            case FIELD:
+                FieldInfo field = member.asField();
+                return Modifier.isPublic(field.flags()) && !Modifier.isStatic(field.flags());
+            case METHOD:
+                MethodInfo method = member.asMethod();
+                return Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags())
+                        && method.parametersCount() == 0 && method.returnType().kind() != Kind.VOID;
+            default:
+                return false;
+        }
+    }
+
+    private static ResultHandle box(BytecodeCreator bc, Primitive primitive, ResultHandle value) {
+        switch (primitive) {
+            case BOOLEAN:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Boolean.class, "valueOf", Boolean.class,
+                        boolean.class), value);
+            case BYTE:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Byte.class, "valueOf", Byte.class, byte.class), value);
+            case CHAR:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Character.class, "valueOf", Character.class,
+                        char.class), value);
+            case SHORT:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Short.class, "valueOf", Short.class, short.class),
+                        value);
+            case INT:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Integer.class, "valueOf", Integer.class, int.class),
+                        value);
+            case LONG:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Long.class, "valueOf", Long.class, long.class), value);
+            case FLOAT:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Float.class, "valueOf", Float.class, float.class),
+                        value);
+            case DOUBLE:
+                return bc.invokeStaticMethod(MethodDescriptor.ofMethod(Double.class, "valueOf", Double.class, double.class),
+                        value);
+            default:
+                throw new IllegalArgumentException("Unsupported primitive: " + primitive);
+        }
+    }
+
+    /**
+     * A member used to evaluate a part of an expression.
+     */
+    public static final class Step {
+
+        final ClassInfo baseClass;
+        final AnnotationTarget member;
+        final String name;
+
+        /**
+         *
+         * @param baseClass the class of the base object
+         * @param member the member used to evaluate the part
+         * @param name the name of the part, e.g. {@code name} for {@code item.name} that is evaluated by {@code getName()}
+         */
+        public Step(ClassInfo baseClass, AnnotationTarget member, String name) {
+            this.baseClass = Objects.requireNonNull(baseClass);
+            this.member = Objects.requireNonNull(member);
+            this.name = Objects.requireNonNull(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(baseClass.name(), member, name);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Step other = (Step) obj;
+            return baseClass.name().equals(other.baseClass.name()) && member.equals(other.member)
+                    && name.equals(other.name);
+        }
+
+    }
+
+}
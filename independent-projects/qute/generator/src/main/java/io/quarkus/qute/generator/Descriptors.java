@@ -11,6 +11,7 @@
 
 import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.qute.CompiledExpression;
 import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.EvaluatedParams;
@@ -105,5 +106,8 @@ private Descriptors() {
     public static final FieldDescriptor RESULTS_TRUE = FieldDescriptor.of(Results.class, "TRUE", CompletedStage.class);
     public static final FieldDescriptor RESULTS_FALSE = FieldDescriptor.of(Results.class, "FALSE", CompletedStage.class);
     public static final FieldDescriptor RESULTS_NULL = FieldDescriptor.of(Results.class, "NULL", CompletedStage.class);
+    public static final MethodDescriptor GUARD_TEST = MethodDescriptor.ofMethod(CompiledExpression.Guard.class, "test",
+            boolean.class, Object.class, String.class);
+    public static final FieldDescriptor NOT_FOUND_EMPTY = FieldDescriptor.of(NotFound.class, "EMPTY", NotFound.class);
 
 }
@@ -0,0 +1,71 @@
+package io.quarkus.qute.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.qute.CompiledExpression;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Results.NotFound;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.generator.CompiledExpressionGenerator.Step;
+
+public class CompiledExpressionGeneratorTest {
+
+    @Test
+    public void testGenerator() throws Exception {
+        Index index = SimpleGeneratorTest.index(PublicMyService.class, BaseService.class, MyItem.class, String.class);
+        ClassInfo service = index.getClassByName(DotName.createSimple(PublicMyService.class.getName()));
+        ClassInfo baseService = index.getClassByName(DotName.createSimple(BaseService.class.getName()));
+        ClassInfo string = index.getClassByName(DotName.createSimple(String.class.getName()));
+        ClassInfo item = index.getClassByName(DotName.createSimple(MyItem.class.getName()));
+
+        assertTrue(CompiledExpressionGenerator.isSupported(service, service.method("getName")));
+        assertTrue(CompiledExpressionGenerator.isSupported(service, baseService.method("getBase")));
+        assertTrue(CompiledExpressionGenerator.isSupported(item, item.field("id")));
+        assertFalse(CompiledExpressionGenerator.isSupported(service, service.method("getSurname")));
+        assertFalse(CompiledExpressionGenerator.isSupported(service, service.method("isStatic")));
+
+        CompiledExpressionGenerator generator = new CompiledExpressionGenerator(index, new TestClassOutput());
+        String nameLength = generator.generate("foo.html", "service.name.length",
+                List.of(new Step(service, service.method("getName"), "name"), new Step(string, string.method("length"), "length")));
+        String base = generator.generate("foo.html", "service.base",
+                List.of(new Step(service, baseService.method("getBase"), "base")));
+        String id = generator.generate("foo.html", "item.id", List.of(new Step(item, item.field("id"), "id")));
+        assertEquals(3, generator.getGeneratedTypes().size());
+
+        assertEquals(6, newCompiledExpression(nameLength).evaluate(new PublicMyService()));
+        assertEquals("oops", newCompiledExpression(base).evaluate(new PublicMyService()));
+        assertEquals("foo", newCompiledExpression(id).evaluate(new MyItem()));
+        // Unexpected base objects
+        assertEquals(NotFound.EMPTY, newCompiledExpression(nameLength).evaluate(new BaseService()));
+        assertEquals(NotFound.EMPTY, newCompiledExpression(id).evaluate(null));
+        // Rejected by the guard
+        CompiledExpression guarded = newCompiledExpression(nameLength,
+                (b, name) -> b instanceof String && name.equals("length"));
+        assertEquals(NotFound.EMPTY, guarded.evaluate(new PublicMyService()));
+
+        Engine engine = Engine.builder().addDefaults()
+                .addCompiledExpression("foo.html", "service.name.length", newCompiledExpression(nameLength))
+                .build();
+        Template foo = engine.parse("{service.name.length}", null, "foo.html");
+        assertEquals("6", foo.data("service", new PublicMyService()).render());
+    }
+
+    private CompiledExpression newCompiledExpression(String className) throws Exception {
+        return newCompiledExpression(className, CompiledExpression.Guard.NONE);
+    }
+
+    private CompiledExpression newCompiledExpression(String className, CompiledExpression.Guard guard) throws Exception {
+        Class<?> clazz = CompiledExpressionGeneratorTest.class.getClassLoader().loadClass(className);
+        return (CompiledExpression) clazz.getDeclaredConstructor(CompiledExpression.Guard.class).newInstance(guard);
+    }
+
+}
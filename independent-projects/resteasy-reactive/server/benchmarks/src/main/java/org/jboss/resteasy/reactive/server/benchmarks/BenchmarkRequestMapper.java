@@ -0,0 +1,121 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Maps request paths with a {@link RequestMapper} built from a route table that resembles a large REST API, i.e.
+ * versioned resources with literal, templated and regex sub-paths.
+ * <p>
+ * Run the benchmark on two revisions to compare the mapping implementations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BenchmarkRequestMapper {
+
+    private static final int PATHS = 64;
+
+    private static final String[] RESOURCES = { "users", "orders", "products", "invoices", "customers", "carts",
+            "payments", "shipments", "reviews", "tags" };
+
+    private static final String[] SUB_PATHS = { "", "/{id}", "/{id}/items", "/{id}/items/{itemId}", "/search", "/count",
+            "/{id}/history", "/{id: \\d+}/status", "/export", "/{id}/tags/{tag}" };
+
+    /**
+     * The number of templates, each version adds 100 templates
+     */
+    @Param({ "100", "1500" })
+    int templates;
+
+    private RequestMapper<String> mapper;
+    private String[] literalPaths;
+    private String[] templatedPaths;
+    private String[] missingPaths;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>(templates);
+        List<String> literal = new ArrayList<>();
+        List<String> templated = new ArrayList<>();
+        for (int version = 1; paths.size() < templates; version++) {
+            for (String resource : RESOURCES) {
+                String base = "/api/v" + version + "/" + resource;
+                for (String subPath : SUB_PATHS) {
+                    String template = base + subPath;
+                    paths.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+                    if (subPath.indexOf('{') == -1) {
+                        literal.add(template);
+                    } else {
+                        templated.add(template.replaceAll("\\{id(: [^}]+)?}", "12345")
+                                .replace("{itemId}", "7")
+                                .replace("{tag}", "red"));
+                    }
+                }
+            }
+        }
+        mapper = new RequestMapper<>(paths);
+        literalPaths = sample(literal);
+        templatedPaths = sample(templated);
+        List<String> missing = new ArrayList<>();
+        for (String path : literal) {
+            missing.add(path + "/unknown/path");
+        }
+        missingPaths = sample(missing);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void literal(Blackhole blackhole) {
+        map(literalPaths, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void templated(Blackhole blackhole) {
+        map(templatedPaths, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PATHS)
+    public void notFound(Blackhole blackhole) {
+        map(missingPaths, blackhole);
+    }
+
+    private void map(String[] paths, Blackhole blackhole) {
+        for (String path : paths) {
+            blackhole.consume(mapper.map(path));
+        }
+    }
+
+    private static String[] sample(List<String> paths) {
+        // Spread the sample over the whole table
+        String[] ret = new String[PATHS];
+        int step = Math.max(1, paths.size() / PATHS);
+        for (int i = 0; i < PATHS; i++) {
+            ret[i] = paths.get((i * step) % paths.size());
+        }
+        return ret;
+    }
+
+}
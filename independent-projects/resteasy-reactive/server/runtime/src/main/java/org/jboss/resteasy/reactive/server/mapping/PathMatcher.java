@@ -1,9 +1,6 @@
 package org.jboss.resteasy.reactive.server.mapping;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * Handler that dispatches to a given handler based of a prefix match of the path.
@@ -15,47 +12,32 @@
  *
  * @author Stuart Douglas
  */
-@SuppressWarnings("ForLoopReplaceableByForEach")
 class PathMatcher<T> implements Dumpable {
 
     private final T defaultHandler;
-    private final SubstringMap<T> paths;
-    private final int[] lengths;
+    private final PrefixTree<T> paths;
 
-    PathMatcher(T defaultHandler, SubstringMap<T> paths, int[] lengths) {
+    PathMatcher(T defaultHandler, PrefixTree<T> paths) {
         this.defaultHandler = defaultHandler;
         this.paths = paths;
-        this.lengths = lengths;
     }
 
     /**
-     * Matches a path against the registered handlers.
+     * Matches a path against the registered handlers. The longest registered path that is a prefix of the given path wins.
      *
      * @param path The relative path to match
      * @return The match match. This will never be null, however if none matched its value field will be
      */
     PathMatch<T> match(String path) {
-        int length = path.length();
-        final int[] lengths = this.lengths;
-        for (int i = 0; i < lengths.length; ++i) {
-            int pathLength = lengths[i];
-            if (pathLength == length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, length);
-                if (next != null) {
-                    return new PathMatch<>(path, "", next.getValue());
-                }
-            } else if (pathLength < length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
-                if (next != null) {
-                    return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
-                }
-            }
+        PrefixTree.Node<T> node = paths.longestPrefix(path);
+        if (node != null) {
+            return new PathMatch<>(node.key, path, node.value);
         }
         return defaultMatch(path);
     }
 
     PathMatch<T> defaultMatch(String path) {
-        return new PathMatch<>("/", path, defaultHandler);
+        return new PathMatch<>("/", path, 0, defaultHandler);
     }
 
     static class Builder<T> {
@@ -63,7 +45,7 @@ PathMatch<T> defaultMatch(String path) {
         private static final String STRING_PATH_SEPARATOR = "/";
 
         private T defaultHandler;
-        private final SubstringMap.Builder<T> pathsBuilder = new SubstringMap.Builder<>();
+        private final PrefixTree.Builder<T> pathsBuilder = new PrefixTree.Builder<>();
 
         /**
          * Adds a path prefix and a handler for that path. If the path does not start
@@ -92,44 +74,31 @@ void addPrefixPath(final String path, final T handler) {
             pathsBuilder.put(path, handler);
         }
 
-        private int[] buildLengths(SubstringMap<T> paths) {
-            final Set<Integer> lengths = new TreeSet<>(new Comparator<>() {
-                @Override
-                public int compare(Integer o1, Integer o2) {
-                    return -o1.compareTo(o2);
-                }
-            });
-            for (String p : paths.keys()) {
-                lengths.add(p.length());
-            }
-
-            int[] lengthArray = new int[lengths.size()];
-            int pos = 0;
-            for (int i : lengths) {
-                lengthArray[pos++] = i;
-            }
-            return lengthArray;
-        }
-
         public PathMatcher<T> build() {
-            SubstringMap<T> paths = pathsBuilder.build();
-            return new PathMatcher<>(defaultHandler, paths, buildLengths(paths));
+            return new PathMatcher<>(defaultHandler, pathsBuilder.build());
         }
     }
 
     public static final class PathMatch<T> {
         private final String matched;
-        private final String remaining;
+        private final String path;
+        private final int matchedLength;
         private final T value;
 
-        public PathMatch(String matched, String remaining, T value) {
+        PathMatch(String matched, String path, T value) {
+            this(matched, path, matched.length(), value);
+        }
+
+        private PathMatch(String matched, String path, int matchedLength, T value) {
             this.matched = matched;
-            this.remaining = remaining;
+            this.path = path;
+            this.matchedLength = matchedLength;
             this.value = value;
         }
 
         public String getRemaining() {
-            return remaining;
+            // Computed lazily - not needed to map a request
+            return path.substring(matchedLength);
         }
 
         public String getMatched() {
@@ -144,12 +113,11 @@ public T getValue() {
     @Override
     public void dump(int level) {
         System.err.println("Paths: " + paths.size());
-        for (String key : paths.keys()) {
-            System.err.println(" " + key + ": ");
-            SubstringMap.SubstringMatch<T> match = paths.get(key);
-            System.err.println("  matchKey: " + match.getKey());
+        for (PrefixTree.Node<T> node : paths.nodes()) {
+            System.err.println(" " + node.key + ": ");
+            System.err.println("  matchKey: " + node.key);
             System.err.println("  matchValue: ");
-            dumpValue(match.getValue(), 3);
+            dumpValue(node.value, 3);
         }
         System.err.println("Default handler: " + defaultHandler);
     }
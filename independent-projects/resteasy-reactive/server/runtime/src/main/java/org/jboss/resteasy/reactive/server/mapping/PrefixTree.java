@@ -0,0 +1,155 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable radix tree that finds the longest registered key that is a prefix of a given string.
+ * <p>
+ * The lookup walks the string at most once and does not allocate, regardless of the number and length of the keys.
+ * Every node stores the complete key from the root so that the edge label can be compared in place.
+ */
+final class PrefixTree<V> {
+
+    private static final char[] NO_CHARS = new char[0];
+
+    private final Node<V> root;
+    private final List<Node<V>> values;
+
+    private PrefixTree(Node<V> root, List<Node<V>> values) {
+        this.root = root;
+        this.values = values;
+    }
+
+    /**
+     * @param path the path to match
+     * @return the node of the longest key that is a prefix of the given path, or {@code null} if no such key exists
+     */
+    Node<V> longestPrefix(String path) {
+        int length = path.length();
+        Node<V> node = root;
+        Node<V> match = null;
+        while (node.end < length) {
+            int pos = node.end;
+            Node<V> child = node.child(path.charAt(pos));
+            if (child == null
+                    || child.end > length
+                    || !path.regionMatches(pos + 1, child.key, pos + 1, child.end - pos - 1)) {
+                break;
+            }
+            node = child;
+            if (node.value != null) {
+                match = node;
+            }
+        }
+        return match;
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    List<Node<V>> nodes() {
+        return values;
+    }
+
+    static final class Node<V> {
+
+        /**
+         * The complete key from the root, i.e. the registered key if {@link #value} is not null
+         */
+        final String key;
+        final int end;
+        final V value;
+        // Sorted first chars of the edge labels of the children
+        private final char[] childChars;
+        private final Node<V>[] children;
+
+        Node(String key, V value, char[] childChars, Node<V>[] children) {
+            this.key = key;
+            this.end = key.length();
+            this.value = value;
+            this.childChars = childChars;
+            this.children = children;
+        }
+
+        Node<V> child(char c) {
+            char[] chars = childChars;
+            if (chars.length == 1) {
+                return chars[0] == c ? children[0] : null;
+            }
+            int idx = Arrays.binarySearch(chars, c);
+            return idx < 0 ? null : children[idx];
+        }
+
+        @Override
+        public String toString() {
+            return "Node{ key: " + key + ", value: " + value + " }";
+        }
+    }
+
+    static class Builder<V> {
+
+        private final Map<String, V> entries = new TreeMap<>();
+
+        void put(String key, V value) {
+            if (key == null) {
+                throw new NullPointerException();
+            }
+            entries.put(key, value);
+        }
+
+        PrefixTree<V> build() {
+            // Build an uncompressed trie first
+            MutableNode<V> root = new MutableNode<>();
+            for (Map.Entry<String, V> e : entries.entrySet()) {
+                MutableNode<V> node = root;
+                String key = e.getKey();
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode<>());
+                }
+                node.value = e.getValue();
+            }
+            List<Node<V>> values = new ArrayList<>(entries.size());
+            return new PrefixTree<>(compress(root, "", values), values);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node<V> compress(MutableNode<V> node, String key, List<Node<V>> values) {
+            int size = node.children.size();
+            char[] childChars = size == 0 ? NO_CHARS : new char[size];
+            Node<V>[] children = new Node[size];
+            int idx = 0;
+            StringBuilder childKey = new StringBuilder();
+            for (Map.Entry<Character, MutableNode<V>> e : node.children.entrySet()) {
+                childChars[idx] = e.getKey();
+                childKey.setLength(0);
+                childKey.append(key).append(e.getKey().charValue());
+                MutableNode<V> child = e.getValue();
+                // Merge the chain of nodes without a value and with a single child into a single edge
+                while (child.value == null && child.children.size() == 1) {
+                    Map.Entry<Character, MutableNode<V>> next = child.children.firstEntry();
+                    childKey.append(next.getKey().charValue());
+                    child = next.getValue();
+                }
+                children[idx++] = compress(child, childKey.toString(), values);
+            }
+            Node<V> ret = new Node<>(key, node.value, childChars, children);
+            if (ret.value != null) {
+                values.add(ret);
+            }
+            return ret;
+        }
+    }
+
+    private static final class MutableNode<V> {
+
+        final TreeMap<Character, MutableNode<V>> children = new TreeMap<>();
+        V value;
+
+    }
+
+}
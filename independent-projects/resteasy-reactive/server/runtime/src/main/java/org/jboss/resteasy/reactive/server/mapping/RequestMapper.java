@@ -66,9 +66,13 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
             return null;
         }
         int pathLength = path.length();
+        // Shared by all candidates, only the matching one is returned
+        String[] params = null;
         for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
             RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
@@ -116,7 +120,8 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 continue;
             }
             if (paramCount < params.length) {
-                params[paramCount] = null;
+                // Clear the values left by a candidate that did not match
+                Arrays.fill(params, paramCount, params.length, null);
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
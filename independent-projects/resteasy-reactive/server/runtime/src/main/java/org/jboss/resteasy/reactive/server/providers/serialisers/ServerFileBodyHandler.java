@@ -39,28 +39,41 @@ public void writeResponse(File o, Type genericType, ServerRequestContext context
     }
 
     static void sendFile(File file, ServerRequestContext context) {
+        sendFile(file.getAbsolutePath(), 0, file.length(), context);
+    }
+
+    /**
+     * Sends the given region of a file with {@link org.jboss.resteasy.reactive.server.spi.ServerHttpResponse#sendFile}, i.e.
+     * the file content is not copied to the heap. A single range request is resolved against the region.
+     *
+     * @param path the path of the file
+     * @param offset the start of the region
+     * @param count the length of the region
+     * @param context the request context
+     */
+    static void sendFile(String path, long offset, long count, ServerRequestContext context) {
         ResteasyReactiveRequestContext ctx = ((ResteasyReactiveRequestContext) context);
         Object rangeObj = ctx.getHeader("Range", true);
         ByteRange byteRange = rangeObj == null ? null : ByteRange.parse(rangeObj.toString());
-        long fileLength = file.length();
+        context.serverResponse().setResponseHeader("Accept-Ranges", "bytes");
         if ((byteRange != null) && (byteRange.ranges.size() == 1)) {
             ByteRange.Range range = byteRange.ranges.get(0);
 
             ByteRange.Range fileRange = (range.getStart() == -1)
-                    ? new ByteRange.Range(fileLength - range.getEnd(), fileLength - 1)
-                    : new ByteRange.Range(range.getStart(), Math.min(fileLength - 1, range.getEnd()));
+                    ? new ByteRange.Range(count - range.getEnd(), count - 1)
+                    : new ByteRange.Range(range.getStart(), Math.min(count - 1, range.getEnd()));
 
             if ((fileRange.getStart() >= 0) && (fileRange.getStart() <= fileRange.getEnd())) {
-                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + fileLength;
+                String contentRange = "bytes " + fileRange.getStart() + "-" + fileRange.getEnd() + "/" + count;
                 long length = fileRange.getEnd() - fileRange.getStart() + 1;
                 context.serverResponse()
                         .setStatusCode(Response.Status.PARTIAL_CONTENT.getStatusCode())
                         .setResponseHeader("Content-Range", contentRange)
-                        .sendFile(file.getAbsolutePath(), fileRange.getStart(), length);
+                        .sendFile(path, offset + fileRange.getStart(), length);
                 return;
             }
         }
-        context.serverResponse().sendFile(file.getAbsolutePath(), 0, fileLength);
+        context.serverResponse().sendFile(path, offset, count);
     }
 
     /**
@@ -13,7 +13,6 @@
 import org.jboss.resteasy.reactive.PathPart;
 import org.jboss.resteasy.reactive.common.providers.serialisers.PathPartBodyHandler;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
-import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
@@ -37,8 +36,6 @@ public boolean isWriteable(Class<?> type, Type genericType, ResteasyReactiveReso
     @Override
     public void writeResponse(PathPart o, Type genericType, ServerRequestContext context)
             throws WebApplicationException {
-        ServerHttpResponse serverResponse = context.serverResponse();
-        // sendFile implies end(), even though javadoc doesn't say, if you add end() it will throw
-        serverResponse.sendFile(o.file.toString(), o.offset, o.count);
+        ServerFileBodyHandler.sendFile(o.file.toString(), o.offset, o.count, context);
     }
 }
@@ -0,0 +1,100 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testMatch() {
+        RequestMapper<String> mapper = mapper("/", "/hello", "/hello/world", "/hello/{name}", "/hello/{name}/greeting",
+                "/help", "/items/{id: \\d+}", "/items/{name}/detail", "/prefix");
+        assertMatch(mapper, "/", "/", "");
+        assertMatch(mapper, "/hello", "/hello", "");
+        assertMatch(mapper, "/hello/", "/hello", "/");
+        assertMatch(mapper, "/hello/world", "/hello/world", "");
+        assertMatch(mapper, "/hello/joe", "/hello/{name}", "", "joe");
+        assertMatch(mapper, "/hello/joe/greeting", "/hello/{name}/greeting", "", "joe");
+        assertMatch(mapper, "/help", "/help", "");
+        assertMatch(mapper, "/items/42", "/items/{id: \\d+}", "", "42");
+        assertMatch(mapper, "/items/foo/detail", "/items/{name}/detail", "", "foo");
+        // Prefix templates match the rest of the path
+        assertMatch(mapper, "/prefix/foo/bar", "/prefix", "/foo/bar");
+        assertMatch(mapper, "/hello/world/foo", "/", "/hello/world/foo");
+        // The longest stem is a prefix of the path but no template matches - fallback to the default match
+        assertMatch(mapper, "/helpme", "/", "/helpme");
+        assertMatch(mapper, "/unknown", "/", "/unknown");
+    }
+
+    @Test
+    public void testNoMatch() {
+        RequestMapper<String> mapper = mapper("/hello", "/hello/{name}");
+        assertNull(mapper.map("/"));
+        assertNull(mapper.map("/hell"));
+        assertNull(mapper.map("/hello/joe/foo"));
+    }
+
+    @Test
+    public void testParamsOfFailedCandidateCleared() {
+        RequestMapper<String> mapper = mapper("/a/{x}/{y}/c", "/a/{x}");
+        assertMatch(mapper, "/a/1/2/c", "/a/{x}/{y}/c", "", "1", "2");
+        // The first candidate matches x and y before it fails on the literal
+        RequestMapper.RequestMatch<String> match = mapper.map("/a/1");
+        assertEquals("/a/{x}", match.value);
+        assertArrayEquals(new String[] { "1", null }, match.pathParamValues);
+    }
+
+    @Test
+    public void testPrefixTree() {
+        PrefixTree.Builder<String> builder = new PrefixTree.Builder<>();
+        for (String key : List.of("/a", "/ab", "/abc/d", "/abc/def", "/b", "/ba/c")) {
+            builder.put(key, key);
+        }
+        PrefixTree<String> tree = builder.build();
+        assertEquals(6, tree.size());
+        assertLongestPrefix(tree, "/a", "/a");
+        assertLongestPrefix(tree, "/a", "/a/b");
+        assertLongestPrefix(tree, "/ab", "/abc");
+        assertLongestPrefix(tree, "/ab", "/abc/");
+        assertLongestPrefix(tree, "/abc/d", "/abc/d");
+        assertLongestPrefix(tree, "/abc/d", "/abc/de");
+        assertLongestPrefix(tree, "/abc/def", "/abc/defg");
+        assertLongestPrefix(tree, "/b", "/ba/");
+        assertLongestPrefix(tree, "/ba/c", "/ba/c/d");
+        assertLongestPrefix(tree, null, "/c");
+        assertLongestPrefix(tree, null, "/");
+        assertLongestPrefix(tree, null, "");
+    }
+
+    private static void assertLongestPrefix(PrefixTree<String> tree, String expected, String path) {
+        PrefixTree.Node<String> node = tree.longestPrefix(path);
+        assertEquals(expected, node != null ? node.value : null, path);
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String expectedTemplate,
+            String expectedRemaining, String... expectedParams) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertEquals(expectedTemplate, match.value, path);
+        assertEquals(expectedRemaining, match.remaining, path);
+        for (int i = 0; i < expectedParams.length; i++) {
+            assertEquals(expectedParams[i], match.pathParamValues[i], path);
+        }
+    }
+
+    private static RequestMapper<String> mapper(String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            // Only "/" and "/prefix" are prefix templates, i.e. resource classes with sub-resource locators
+            boolean prefix = template.equals("/") || template.equals("/prefix");
+            paths.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+}
@@ -13,11 +13,13 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
 import org.jboss.resteasy.reactive.server.core.Deployment;
@@ -31,6 +33,7 @@
 
 import io.netty.buffer.Unpooled;
 import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.util.concurrent.ScheduledFuture;
@@ -51,6 +54,11 @@
 public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequestContext
         implements ServerHttpRequest, ServerHttpResponse, Handler<Void> {
 
+    private static final Logger LOG = Logger.getLogger(VertxResteasyReactiveRequestContext.class);
+
+    private static final LongAdder ZERO_COPY_SENT_FILES = new LongAdder();
+    private static final LongAdder COPIED_SENT_FILES = new LongAdder();
+
     public static final String CONTINUE = "100-continue";
     protected final RoutingContext context;
     protected final HttpServerRequest request;
@@ -454,10 +462,42 @@ public void handle(AsyncResult<Void> event) {
 
     @Override
     public ServerHttpResponse sendFile(String path, long offset, long length) {
+        boolean zeroCopy = isZeroCopySendFile();
+        (zeroCopy ? ZERO_COPY_SENT_FILES : COPIED_SENT_FILES).increment();
+        if (LOG.isDebugEnabled()) {
+            LOG.debugf("Sending file %s [offset=%s, length=%s, zeroCopy=%s]", path, offset, length, zeroCopy);
+        }
         response.sendFile(path, offset, length);
         return this;
     }
 
+    /**
+     * @param zeroCopy whether to count the files sent with zero-copy or the files read in chunks
+     * @return the number of files sent with {@link #sendFile(String, long, long)} since the application started
+     */
+    public static long getSentFilesCount(boolean zeroCopy) {
+        return (zeroCopy ? ZERO_COPY_SENT_FILES : COPIED_SENT_FILES).sum();
+    }
+
+    /**
+     * Vert.x transfers the file directly from the file system cache to the socket, i.e. without copying the content to
+     * the heap, only for HTTP/1.x connections without TLS, compression and traffic shaping. Otherwise, the file is read in
+     * chunks.
+     *
+     * @return {@code true} if the file content is sent with zero-copy
+     */
+    boolean isZeroCopySendFile() {
+        if (!(response instanceof Http1xServerResponse)) {
+            // HTTP/2 frames the data
+            return false;
+        }
+        ConnectionBase connection = (ConnectionBase) request.connection();
+        return connection.getContext().owner().transport().supportFileRegion()
+                && !connection.isSsl()
+                && !connection.isTrafficShaped()
+                && connection.channel().pipeline().get(HttpContentCompressor.class) == null;
+    }
+
     @Override
     public OutputStream createResponseOutputStream() {
         final ResteasyReactiveConfig config = getDeployment().getResteasyReactiveConfig();